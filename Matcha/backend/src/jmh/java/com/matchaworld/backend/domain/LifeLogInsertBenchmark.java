@@ -0,0 +1,159 @@
+package com.matchaworld.backend.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * ✅ LIFE_LOG 형태 행 INSERT 처리량 (H2, 트랜잭션당 ROWS 건)
+ * - IDENTITY         : 행마다 INSERT 후 생성 키 조회 → JDBC 배치 불가
+ * - POOLED           : pooled 시퀀스(allocationSize 50), 배치 없음
+ * - POOLED_BATCHED   : pooled 시퀀스 + hibernate.jdbc.batch_size=50 (운영 설정)
+ * - 인메모리 H2 라 네트워크 왕복 비용은 빠져 있음 → 실제 DB 에서는 차이가 더 커짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifeLogInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"IDENTITY", "POOLED", "POOLED_BATCHED"})
+    private String mode;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-" + mode + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "POOLED_BATCHED".equals(mode) ? 50 : 0)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityRow").executeUpdate();
+            session.createMutationQuery("delete from PooledRow").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean identity = "IDENTITY".equals(mode);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(identity ? new IdentityRow(i, now) : new PooledRow(i, now));
+            }
+        });
+    }
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "IDENTITY_ROW")
+    public static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private Long userId;
+
+        @Column(nullable = false)
+        private String content;
+
+        @Column(nullable = false)
+        private LocalDateTime loggedAt;
+
+        @Column(nullable = false)
+        private BigDecimal esgScoreEffect;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int i, LocalDateTime loggedAt) {
+            this.userId = (long) (i % 100);
+            this.content = "텀블러 사용하기 " + i;
+            this.loggedAt = loggedAt;
+            this.esgScoreEffect = BigDecimal.ONE;
+        }
+    }
+
+    @Entity(name = "PooledRow")
+    @Table(name = "POOLED_ROW")
+    public static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_row_seq")
+        @SequenceGenerator(name = "pooled_row_seq", sequenceName = "POOLED_ROW_SEQ", allocationSize = 50)
+        private Long id;
+
+        @Column(nullable = false)
+        private Long userId;
+
+        @Column(nullable = false)
+        private String content;
+
+        @Column(nullable = false)
+        private LocalDateTime loggedAt;
+
+        @Column(nullable = false)
+        private BigDecimal esgScoreEffect;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int i, LocalDateTime loggedAt) {
+            this.userId = (long) (i % 100);
+            this.content = "텀블러 사용하기 " + i;
+            this.loggedAt = loggedAt;
+            this.esgScoreEffect = BigDecimal.ONE;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.matchaworld.backend.service.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import com.matchaworld.backend.dto.response.ai.AiResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ 키워드 사전 ESG 분류 1건 (KeywordEsgClassifier.classify, OpenAI 호출 대체 경로)
+ * - HIT : 사전 키워드가 있는 일반적인 기록
+ * - MISS: 매칭 없음 → 실제로는 OpenAI 로 넘어가는 기록 (본문 전체를 훑는 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordEsgClassifierBenchmark {
+
+    @Param({"HIT", "MISS"})
+    private String input;
+
+    private KeywordEsgClassifier classifier;
+    private String content;
+
+    @Setup
+    public void setUp() throws Exception {
+        classifier = new KeywordEsgClassifier(new SimpleMeterRegistry(), true, 0.8,
+                new ClassPathResource("ai/esg-keywords.txt"));
+        content = "HIT".equals(input)
+                ? "오늘 아침 카페에서 텀블러에 커피를 받고, 점심은 도시락을 싸 와서 먹었다. 퇴근길에는 대중교통을 이용했다."
+                : "오늘은 친구와 영화를 보고 저녁으로 파스타를 먹었다. 주말에는 가족과 여행을 갈 계획이다.";
+    }
+
+    @Benchmark
+    public AiResult classify() {
+        return classifier.classify(content).orElse(null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.matchaworld.backend.service.quest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.UserQuest;
+import com.matchaworld.backend.dto.response.ai.AiResult;
+import com.matchaworld.backend.dto.response.quest.QuestResponse;
+
+/**
+ * ✅ AI 분석 결과 ↔ 진행 중 퀘스트 매칭 점수 계산 (QuestMatcherService.calculateMatchScore)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestMatcherBenchmark {
+
+    private static final String[] WORDS = {
+            "텀블러", "대중교통", "분리수거", "플로깅", "봉사", "기부", "채식", "자전거", "계단", "장바구니"
+    };
+
+    @Param({"10000", "100000"})
+    private int questCount;
+
+    private QuestMatcherService matcher;
+    private List<QuestResponse> quests;
+    private AiResult result;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        matcher = new QuestMatcherService(null, null);
+        quests = new ArrayList<>(questCount);
+        for (int i = 0; i < questCount; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            quests.add(QuestResponse.builder()
+                    .questId((long) i)
+                    .title(word + " 챌린지 " + i)
+                    .description("오늘 " + WORDS[random.nextInt(WORDS.length)] + " 실천하고 환경 지키기")
+                    .type(Quest.Type.DAILY)
+                    .category(Quest.Category.E)
+                    .status(UserQuest.Status.PENDING)
+                    .build());
+        }
+        result = AiResult.builder()
+                .category("E")
+                .keywords(List.of("텀블러", "카페", "일회용컵"))
+                .confidence(0.9)
+                .rawText("카페에서 텀블러를 사용했어요")
+                .build();
+    }
+
+    @Benchmark
+    public void scoreAllQuests(Blackhole bh) {
+        for (QuestResponse quest : quests) {
+            bh.consume(matcher.calculateMatchScore(quest, result));
+        }
+    }
+}
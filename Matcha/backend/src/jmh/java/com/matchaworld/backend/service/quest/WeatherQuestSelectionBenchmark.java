@@ -0,0 +1,71 @@
+package com.matchaworld.backend.service.quest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.weather.WeatherInfo;
+
+/**
+ * ✅ 날씨 기반 일일 퀘스트 선택 (QuestServiceImpl.assignWeatherDailyQuest 의 조건 점수 계산)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherQuestSelectionBenchmark {
+
+    @Param({"10000", "100000"})
+    private int questCount;
+
+    private QuestServiceImpl questService;
+    private List<Quest> dailyQuests;
+    private WeatherInfo weather;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        questService = new QuestServiceImpl(null, null, null, null, null, null, null, null);
+        dailyQuests = new ArrayList<>(questCount);
+        for (int i = 0; i < questCount; i++) {
+            int tempMin = random.nextInt(30) - 5;
+            String condition = switch (i % 4) {
+                case 0 -> "{\"temp_min\": " + tempMin + ", \"temp_max\": " + (tempMin + 10) + "}";
+                case 1 -> "{\"humidity_min\": " + random.nextInt(60) + ", \"humidity_max\": 90}";
+                case 2 -> "{\"pm10_max\": " + (30 + random.nextInt(70)) + "}";
+                default -> null;
+            };
+            dailyQuests.add(Quest.builder()
+                    .id((long) i)
+                    .title("일일 퀘스트 " + i)
+                    .rewardScore(10)
+                    .type(Quest.Type.DAILY)
+                    .authType(Quest.AuthType.TEXT)
+                    .category(Quest.Category.E)
+                    .conditionJson(condition)
+                    .build());
+        }
+        weather = new WeatherInfo(18.5, 55.0, 42.0, 20.0, 3.0);
+    }
+
+    @Benchmark
+    public Quest selectWeatherQuest() {
+        return questService.selectWeatherQuest(dailyQuests, weather);
+    }
+}
@@ -0,0 +1,121 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.matchaworld.backend.bench.RepositoryStubs;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.dto.response.ranking.RankingResponse;
+import com.matchaworld.backend.repository.UserRepository;
+
+/**
+ * ✅ 랭킹 응답 목록 생성 (RankingService)
+ * - 글로벌: 정렬된 전체 사용자 목록 → 상위 N + 나
+ * - 세그먼트: 메모리 리더보드 상위 N + 닉네임 IN 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingBenchmark {
+
+    private static final int LIMIT = 100;
+
+    @Param({"10000", "100000"})
+    private int userCount;
+
+    private RankingService rankingService;
+    private long meId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<Long, User> usersById = new HashMap<>(userCount * 2);
+        for (long id = 1; id <= userCount; id++) {
+            usersById.put(id, User.builder().id(id).nickname("user" + id).esgScore(random.nextInt(3000)).build());
+        }
+        List<User> sorted = usersById.values().stream()
+                .sorted(Comparator.comparing(User::getEsgScore).reversed())
+                .toList();
+        List<Object[]> scoreCounts = usersById.values().stream()
+                .collect(Collectors.groupingBy(User::getEsgScore, Collectors.counting()))
+                .entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue()})
+                .toList();
+
+        UserRepository userRepository = RepositoryStubs.stub(UserRepository.class, Map.of(
+                "findAllByOrderByEsgScoreDesc", args -> sorted,
+                "findById", args -> Optional.ofNullable(usersById.get((Long) args[0])),
+                "countByEsgScoreGreaterThan", args -> sorted.stream().filter(u -> u.getEsgScore() > (Integer) args[0]).count(),
+                "countGroupByEsgScore", args -> scoreCounts,
+                "findAllById", args -> {
+                    List<User> found = new ArrayList<>();
+                    for (Object id : (Collection<?>) args[0]) {
+                        User user = usersById.get((Long) id);
+                        if (user != null) {
+                            found.add(user);
+                        }
+                    }
+                    return found;
+                }));
+
+        ScoreDistribution scoreDistribution = new ScoreDistribution(userRepository);
+        RepositoryStubs.setField(scoreDistribution, "bucketWidth", 10);
+        RepositoryStubs.setField(scoreDistribution, "maxScore", 100000);
+        scoreDistribution.rebuild();
+
+        // 트랜잭션 밖이므로 AfterCommit 없이 즉시 반영
+        LeaderboardAggregator aggregator = new LeaderboardAggregator(null, null);
+        LocalDateTime now = LocalDateTime.now();
+        for (User user : usersById.values()) {
+            aggregator.recordQuestReward(user.getId(), Quest.Category.E, now, user.getEsgScore());
+        }
+
+        rankingService = new RankingService(userRepository, aggregator, scoreDistribution);
+        meId = userCount / 2;
+    }
+
+    @Benchmark
+    public List<RankingResponse> globalRankingWithUserOnTop() {
+        return rankingService.getGlobalRankingWithUserOnTop(meId, LIMIT);
+    }
+
+    @Benchmark
+    public List<RankingResponse> weeklyLeaderboardWithUserOnTop() {
+        return rankingService.getLeaderboardWithUserOnTop(LeaderboardType.WEEKLY, meId, LIMIT);
+    }
+
+    @Benchmark
+    public RankingResponse myRankingApproximate() {
+        return rankingService.getMyRanking(meId, false);
+    }
+
+    @Benchmark
+    public RankingResponse myRankingExact() {
+        return rankingService.getMyRanking(meId, true);
+    }
+}
@@ -0,0 +1,78 @@
+package com.matchaworld.backend.service.title;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.matchaworld.backend.bench.RepositoryStubs;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.Title;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.repository.TitleRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.repository.UserTitleRepository;
+
+/**
+ * ✅ 퀘스트 완료 후 칭호 조건 검사 (TitleServiceImpl.checkAndGrantTitle)
+ * - 완료 횟수 조회는 고정값 스텁 → 칭호 카탈로그 순회/조건 비교 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TitleGrantBenchmark {
+
+    @Param({"10000", "100000"})
+    private int titleCount;
+
+    private TitleServiceImpl titleService;
+    private User user;
+    private Quest quest;
+
+    @Setup
+    public void setUp() {
+        List<Title> titles = new ArrayList<>(titleCount);
+        for (int i = 0; i < titleCount; i++) {
+            titles.add(Title.builder()
+                    .id((long) i)
+                    .name("칭호 " + i)
+                    .description("퀘스트 " + (i % 500) + " 반복 달성")
+                    .conditionJson("{\"questTitle\": \"퀘스트 " + (i % 500) + "\", \"count\": " + (5 + i % 20) + "}")
+                    .build());
+        }
+
+        TitleRepository titleRepository = RepositoryStubs.stub(TitleRepository.class, Map.of(
+                "findAll", args -> titles));
+        UserTitleRepository userTitleRepository = RepositoryStubs.stub(UserTitleRepository.class, Map.of(
+                "existsByUserIdAndTitleId", args -> true));
+        UserQuestRepository userQuestRepository = RepositoryStubs.stub(UserQuestRepository.class, Map.of(
+                "countByUserAndQuest_TitleAndStatus", args -> 3L));
+
+        TitleCatalog catalog = new TitleCatalog(titleRepository);
+        catalog.entries();
+        titleService = new TitleServiceImpl(titleRepository, userTitleRepository, userQuestRepository, catalog);
+
+        user = User.builder().id(1L).nickname("bench").build();
+        quest = Quest.builder().id(7L).title("퀘스트 7").type(Quest.Type.DAILY).category(Quest.Category.E).build();
+    }
+
+    @Benchmark
+    public List<String> checkAndGrantTitle() {
+        return titleService.checkAndGrantTitle(user, quest);
+    }
+}
@@ -0,0 +1,182 @@
+package com.matchaworld.backend.loadtest;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * ✅ 메일 수신 전용 가짜 SMTP 서버 (AUTH / STARTTLS 미지원)
+ * - 수신자별로 메일 본문을 보관하고, 인증번호(<div class="code">123456</div>)를 추출해 시나리오에 전달
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+    private static final Pattern CODE_PATTERN = Pattern.compile("class=\"code\">\\s*(\\d{6})\\s*<");
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, LinkedBlockingQueue<String>> inbox = new ConcurrentHashMap<>();
+    private final StubLatency latency;
+
+    public FakeSmtpServer(StubLatency latency) throws IOException {
+        this.latency = latency;
+        this.serverSocket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+    }
+
+    public FakeSmtpServer start() {
+        executor.submit(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    executor.submit(() -> handle(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        return this;
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 수신자에게 온 메일에서 6자리 인증번호 추출 (timeout 내 미수신 시 예외)
+     */
+    public String awaitCode(String recipient, long timeout, TimeUnit unit) throws InterruptedException {
+        String body = mailbox(recipient).poll(timeout, unit);
+        if (body == null) {
+            throw new IllegalStateException("인증 메일 미수신: " + recipient);
+        }
+        Matcher matcher = CODE_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("인증번호를 찾을 수 없습니다: " + recipient);
+        }
+        return matcher.group(1);
+    }
+
+    private LinkedBlockingQueue<String> mailbox(String recipient) {
+        return inbox.computeIfAbsent(recipient.toLowerCase(), key -> new LinkedBlockingQueue<>());
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             OutputStream out = socket.getOutputStream()) {
+
+            reply(out, "220 fake-smtp ESMTP ready");
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-fake-smtp\r\n250 8BITMIME");
+                    case "HELO" -> reply(out, "250 fake-smtp");
+                    case "MAIL" -> {
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        recipients.add(extractAddress(line));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        String raw = readData(in);
+                        latency.sleep();
+                        String body = extractText(raw);
+                        recipients.forEach(recipient -> mailbox(recipient).add(body));
+                        reply(out, "250 OK queued");
+                    }
+                    case "RSET" -> {
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "NOOP" -> reply(out, "250 OK");
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringWriter data = new StringWriter();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // dot-stuffing 해제
+            data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        return data.toString();
+    }
+
+    // quoted-printable / base64 본문을 디코딩한 텍스트
+    private static String extractText(String raw) {
+        try {
+            MimeMessage message = new MimeMessage(Session.getInstance(new Properties()),
+                    new ByteArrayInputStream(raw.getBytes(StandardCharsets.UTF_8)));
+            StringBuilder text = new StringBuilder();
+            collectText(message, text);
+            return text.toString();
+        } catch (Exception e) {
+            return raw;
+        }
+    }
+
+    private static void collectText(Part part, StringBuilder text) throws Exception {
+        Object content = part.getContent();
+        if (content instanceof String s) {
+            text.append(s);
+        } else if (content instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                collectText(multipart.getBodyPart(i), text);
+            }
+        }
+    }
+
+    private static String extractAddress(String line) {
+        int start = line.indexOf('<');
+        int end = line.indexOf('>');
+        String address = start >= 0 && end > start ? line.substring(start + 1, end) : line.substring(line.indexOf(':') + 1);
+        return address.trim().toLowerCase();
+    }
+
+    private static void reply(OutputStream out, String message) throws IOException {
+        out.write((message + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
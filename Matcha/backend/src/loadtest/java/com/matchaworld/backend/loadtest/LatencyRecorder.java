@@ -0,0 +1,71 @@
+package com.matchaworld.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 엔드포인트별 응답 시간 수집 및 p50/p95/p99, 처리량 보고
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    public String report(long wallNanos) {
+        double wallSeconds = wallNanos / 1_000_000_000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-36s %8s %7s %9s %9s %9s %9s %10s%n",
+                "endpoint", "count", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req/s"));
+        new TreeMap<>(samples).forEach((endpoint, s) -> {
+            long[] sorted = s.sorted();
+            out.append(String.format(Locale.ROOT, "%-36s %8d %7d %9.2f %9.2f %9.2f %9.2f %10.1f%n",
+                    endpoint, sorted.length, s.errors.get(),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                    sorted.length / wallSeconds));
+        });
+        return out.toString();
+    }
+
+    // nearest-rank 백분위
+    static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Samples {
+        private long[] values = new long[256];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long nanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
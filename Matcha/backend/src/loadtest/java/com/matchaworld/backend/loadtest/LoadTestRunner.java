@@ -0,0 +1,321 @@
+package com.matchaworld.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Cache;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.BackendApplication;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.Terms;
+import com.matchaworld.backend.repository.QuestRepository;
+import com.matchaworld.backend.repository.TermsRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * ✅ 부하 테스트 시나리오 실행기
+ * - OpenAI / Open-Meteo / SMTP 스텁을 띄우고 H2 기반으로 애플리케이션 기동
+ * - 가상 사용자별: 인증메일 → 인증 → 회원가입 → 로그인 → (기록 → 퀘스트 → 완료 → 랭킹) x 반복
+ * - 종료 시 엔드포인트별 p50/p95/p99, 처리량 출력
+ * - 요청 제한(app.rate-limit)은 끔 → 모든 가상 사용자가 127.0.0.1 한 IP 라 IP 단위 경로(send-code)가 바로 429
+ *
+ * 옵션 (key=value 인자): users, iterations, ai.latency.ms, ai.jitter.ms,
+ * weather.latency.ms, weather.jitter.ms, smtp.latency.ms, ai.keyword-classifier, report
+ * - ai.keyword-classifier: 키워드 사전 빠른 경로 사용 여부 (기본 false → 기록마다 OpenAI 스텁 호출, ai.latency.ms 반영)
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "Matcha!2025";
+    private static final List<String> CONTENTS = List.of(
+            "카페에서 텀블러를 사용했어요",
+            "오늘은 대중교통으로 출근했습니다",
+            "주말에 유기견 보호소 봉사를 다녀왔어요",
+            "분리수거를 꼼꼼하게 했어요"
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicInteger scenarioErrors = new AtomicInteger();
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final FakeSmtpServer smtp;
+    private String baseUrl;
+
+    private LoadTestRunner(FakeSmtpServer smtp) {
+        this.smtp = smtp;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "20"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+
+        try (StubOpenAiServer openAi = new StubOpenAiServer(latency(options, "ai", 300, 100));
+             StubOpenMeteoServer openMeteo = new StubOpenMeteoServer(latency(options, "weather", 80, 30));
+             FakeSmtpServer smtp = new FakeSmtpServer(latency(options, "smtp", 50, 0))) {
+
+            openAi.start();
+            openMeteo.start();
+            smtp.start();
+
+            // application.properties 보다 우선하도록 커맨드라인 인자로 전달
+            boolean keywordClassifier = Boolean.parseBoolean(options.getOrDefault("ai.keyword-classifier", "false"));
+            String[] appArgs = appProperties(openAi, openMeteo, smtp, keywordClassifier).entrySet().stream()
+                    .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                    .toArray(String[]::new);
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(appArgs);
+            try {
+                seed(context);
+                LoadTestRunner runner = new LoadTestRunner(smtp);
+                runner.baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+
+                long started = System.nanoTime();
+                runner.run(users, iterations);
+                long wall = System.nanoTime() - started;
+
+                String report = "users=" + users + ", iterations=" + iterations
+                        + ", wall=" + TimeUnit.NANOSECONDS.toMillis(wall) + "ms"
+                        + ", scenarioErrors=" + runner.scenarioErrors.get()
+                        + ", keywordClassifier=" + keywordClassifier
+                        + ", openAiCalls=" + openAi.requestCount() + System.lineSeparator()
+                        + runner.recorder.report(wall);
+                System.out.println(report);
+                if (options.containsKey("report")) {
+                    Path path = Path.of(options.get("report"));
+                    Files.createDirectories(path.toAbsolutePath().getParent());
+                    Files.writeString(path, report, StandardCharsets.UTF_8);
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private void run(int users, int iterations) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                int userNo = i;
+                futures.add(executor.submit(() -> {
+                    try {
+                        scenario(userNo, iterations);
+                    } catch (Exception e) {
+                        scenarioErrors.incrementAndGet();
+                        System.err.println("[scenario " + userNo + "] " + e.getMessage());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void scenario(int userNo, int iterations) throws Exception {
+        String email = "load" + userNo + "-" + System.nanoTime() + "@matcha.local";
+        String nickname = "load" + userNo + "_" + ThreadLocalRandom.current().nextInt(1_000_000);
+
+        call("POST /api/auth/signup/send-code", "POST", "/api/auth/signup/send-code", null, Map.of("email", email));
+        String code = smtp.awaitCode(email, 30, TimeUnit.SECONDS);
+        call("POST /api/auth/verify-code", "POST", "/api/auth/verify-code", null, Map.of("email", email, "code", code));
+
+        List<Long> termIds = new ArrayList<>();
+        call("GET /api/auth/terms/required", "GET", "/api/auth/terms/required", null, null)
+                .path("data").forEach(term -> termIds.add(term.path("id").asLong()));
+
+        JsonNode signup = call("POST /api/auth/signup", "POST", "/api/auth/signup", null, Map.of(
+                "nickname", nickname, "email", email, "password", PASSWORD,
+                "authCode", code, "agreedTermsIds", termIds));
+        if (!signup.path("success").asBoolean()) {
+            throw new IllegalStateException("회원가입 실패: " + signup.path("message").asText());
+        }
+
+        String token = call("POST /api/auth/login", "POST", "/api/auth/login", null,
+                Map.of("email", email, "password", PASSWORD)).path("token").asText(null);
+        if (token == null) {
+            throw new IllegalStateException("로그인 실패: " + email);
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            String content = CONTENTS.get(ThreadLocalRandom.current().nextInt(CONTENTS.size()));
+            call("POST /api/lifelog", "POST", "/api/lifelog", token, Map.of("content", content));
+
+            JsonNode main = call("GET /api/quest/main", "GET", "/api/quest/main", token, null);
+            for (JsonNode quest : main.path("data").path("weekly")) {
+                if ("PENDING".equals(quest.path("status").asText())) {
+                    call("POST /api/quest/{id}/submit", "POST", "/api/quest/" + quest.path("questId").asLong() + "/submit", token, null);
+                    break;
+                }
+            }
+
+            call("GET /api/ranking/global", "GET", "/api/ranking/global?limit=50", token, null);
+            call("GET /api/ranking/me", "GET", "/api/ranking/me", token, null);
+            call("GET /api/ranking/board/weekly", "GET", "/api/ranking/board/weekly", token, null);
+            call("GET /api/my/profile", "GET", "/api/my/profile", token, null);
+        }
+    }
+
+    private JsonNode call(String endpoint, String method, String path, String token, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        request.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            throw e;
+        }
+        boolean ok = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, System.nanoTime() - started, ok);
+        if (!ok) {
+            throw new IllegalStateException(endpoint + " → HTTP " + response.statusCode());
+        }
+        return response.body().isBlank() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+    }
+
+    private static Map<String, Object> appProperties(StubOpenAiServer openAi, StubOpenMeteoServer openMeteo, FakeSmtpServer smtp,
+                                                     boolean keywordClassifier) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("spring.profiles.active", "loadtest");
+
+        // H2 (MariaDB 호환 모드)
+        props.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.datasource.hikari.maximum-pool-size", 20);
+        props.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        props.put("spring.jpa.properties.hibernate.auto_quote_keyword", true);
+        props.put("spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions", true);
+        props.put("spring.jpa.show-sql", false);
+        props.put("spring.sql.init.mode", "never");
+
+        // 외부 연동 → 로컬 스텁
+        props.put("spring.ai.openai.base-url", openAi.baseUrl());
+        props.put("spring.ai.openai.api-key", "stub-key");
+        props.put("spring.ai.openai.chat.options.model", "gpt-4o");
+        // 시나리오 문장은 모두 키워드 사전에 걸림 → 기본은 꺼서 OpenAI 폴백 경로를 측정
+        props.put("app.ai.keyword-classifier.enabled", keywordClassifier);
+        props.put("app.weather.forecast-url", openMeteo.forecastUrl());
+        props.put("app.weather.air-quality-url", openMeteo.airQualityUrl());
+        props.put("spring.mail.host", "127.0.0.1");
+        props.put("spring.mail.port", smtp.port());
+        props.put("spring.mail.username", "loadtest@matcha.local");
+        props.put("spring.mail.password", "stub");
+        props.put("spring.mail.properties.mail.smtp.auth", false);
+        props.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        props.put("spring.mail.properties.mail.smtp.starttls.required", false);
+        props.put("ncp.accessKey", "stub");
+        props.put("ncp.secretKey", "stub");
+
+        // 가상 사용자 전원이 같은 IP → 요청 제한을 켜 두면 시나리오가 회원가입에서 멈춤
+        props.put("app.rate-limit.enabled", false);
+
+        // 측정 왜곡 방지 (요청 단위 DEBUG/TRACE 로그 끔)
+        props.put("logging.level.com.matchaworld.backend", "WARN");
+        props.put("logging.level.org.springframework.security", "WARN");
+        return props;
+    }
+
+    // 시나리오에 필요한 최소 참조 데이터 (약관 / 퀘스트 / 칭호)
+    private static void seed(ConfigurableApplicationContext context) {
+        context.getBean(TermsRepository.class).saveAll(List.of(
+                Terms.builder().title("서비스 이용약관").version("1.0").content("부하 테스트용 약관").isRequired(true).build(),
+                Terms.builder().title("개인정보 처리방침").version("1.0").content("부하 테스트용 약관").isRequired(true).build()));
+
+        QuestRepository questRepository = context.getBean(QuestRepository.class);
+        List<Quest> quests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            quests.add(quest("텀블러 사용하기 " + i, Quest.Type.DAILY, 10,
+                    "{\"temp_min\": " + (i - 5) + ", \"temp_max\": " + (i + 15) + ", \"pm10_max\": 80}"));
+        }
+        for (int i = 0; i < 10; i++) {
+            quests.add(quest("대중교통 이용하기 " + i, Quest.Type.WEEKLY, 50, null));
+        }
+        for (int i = 0; i < 5; i++) {
+            quests.add(quest("봉사활동 참여하기 " + i, Quest.Type.SEASON, 200, null));
+        }
+        questRepository.saveAll(quests);
+
+        // H2 는 JSON 컬럼에 바인딩된 문자열을 JSON 문자열 값으로 저장 → 조건 JSON 은 FORMAT JSON 으로 객체 그대로 적재
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        for (Quest quest : quests) {
+            if (quest.getConditionJson() != null) {
+                jdbcTemplate.update("UPDATE QUEST SET CONDITION_JSON = ? FORMAT JSON WHERE QUEST_ID = ?",
+                        quest.getConditionJson(), quest.getId());
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            jdbcTemplate.update("INSERT INTO TITLE (NAME, DESCRIPTION, CONDITION_JSON) VALUES (?, ?, ? FORMAT JSON)",
+                    "대중교통 마스터 " + i, "대중교통 이용하기 " + i + " 달성",
+                    "{\"questTitle\": \"대중교통 이용하기 " + i + "\", \"count\": 1}");
+        }
+        // JDBC 직접 변경은 2차/쿼리 캐시에 반영되지 않음 → 시작 전에 비움
+        context.getBean(EntityManagerFactory.class).getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    private static Quest quest(String title, Quest.Type type, int reward, String conditionJson) {
+        return Quest.builder()
+                .title(title)
+                .description(title + " 실천 인증")
+                .rewardScore(reward)
+                .type(type)
+                .authType(Quest.AuthType.TEXT)
+                .category(type == Quest.Type.SEASON ? Quest.Category.S : Quest.Category.E)
+                .maxAttempts(1)
+                .conditionJson(conditionJson)
+                .build();
+    }
+
+    private static StubLatency latency(Map<String, String> options, String prefix, long baseMs, long jitterMs) {
+        return new StubLatency(
+                Long.parseLong(options.getOrDefault(prefix + ".latency.ms", String.valueOf(baseMs))),
+                Long.parseLong(options.getOrDefault(prefix + ".jitter.ms", String.valueOf(jitterMs))));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,69 @@
+package com.matchaworld.backend.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * ✅ 스텁 HTTP 서버 공통 기반 (JDK HttpServer, 임의 포트, 가상 스레드 처리)
+ */
+abstract class StubHttpServer implements AutoCloseable {
+
+    protected final StubLatency latency;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    protected StubHttpServer(StubLatency latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(executor);
+    }
+
+    protected void route(String path, ExchangeHandler handler) {
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                latency.sleep();
+                handler.handle(exchange);
+            } catch (Exception e) {
+                byte[] body = ("{\"error\":\"" + e.getMessage() + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(500, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        });
+    }
+
+    public StubHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    protected static void sendJson(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    interface ExchangeHandler {
+        void handle(HttpExchange exchange) throws Exception;
+    }
+}
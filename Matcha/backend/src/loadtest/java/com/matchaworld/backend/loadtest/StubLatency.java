@@ -0,0 +1,28 @@
+package com.matchaworld.backend.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ✅ 스텁 서버 응답 지연 (기본 지연 ± 지터, ms)
+ */
+public record StubLatency(long baseMs, long jitterMs) {
+
+    public static StubLatency none() {
+        return new StubLatency(0, 0);
+    }
+
+    public void sleep() {
+        long delay = baseMs;
+        if (jitterMs > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-jitterMs, jitterMs + 1);
+        }
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.matchaworld.backend.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * ✅ OpenAI 호환 스텁 (POST /v1/chat/completions)
+ * - 텍스트 ESG 분류 요청: 분류 JSON 응답
+ * - 이미지 판별 요청(stream=true): SSE 청크로 '텀블러' 등 단어 응답
+ */
+public class StubOpenAiServer extends StubHttpServer {
+
+    private static final List<String> CLASSIFICATIONS = List.of(
+            "{\"category\": \"E\", \"keywords\": [\"텀블러\", \"카페\"], \"confidence\": 0.93}",
+            "{\"category\": \"E\", \"keywords\": [\"대중교통\", \"출근\"], \"confidence\": 0.88}",
+            "{\"category\": \"S\", \"keywords\": [\"봉사\", \"기부\"], \"confidence\": 0.91}",
+            "{\"category\": \"E\", \"keywords\": [\"분리수거\"], \"confidence\": 0.85}"
+    );
+    private static final List<String> IMAGE_LABELS = List.of("텀블러", "머그컵", "일회용컵");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong requests = new AtomicLong();
+
+    public StubOpenAiServer(StubLatency latency) throws IOException {
+        super(latency);
+        route("/v1/chat/completions", exchange -> {
+            requests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String model = request.path("model").asText("gpt-4o");
+            if (request.path("stream").asBoolean(false)) {
+                streamCompletion(exchange, model, pick(IMAGE_LABELS));
+            } else {
+                sendJson(exchange, completion(model, pick(CLASSIFICATIONS)));
+            }
+        });
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    private String completion(String model, String content) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("id", "chatcmpl-stub-" + requests.get());
+        root.put("object", "chat.completion");
+        root.put("created", System.currentTimeMillis() / 1000);
+        root.put("model", model);
+        ObjectNode choice = root.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        root.putObject("usage").put("prompt_tokens", 50).put("completion_tokens", 20).put("total_tokens", 70);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private void streamCompletion(HttpExchange exchange, String model, String content) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(("data: " + chunk(model, content, null) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.write(("data: " + chunk(model, null, "stop") + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String chunk(String model, String content, String finishReason) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("id", "chatcmpl-stub-" + requests.get());
+        root.put("object", "chat.completion.chunk");
+        root.put("created", System.currentTimeMillis() / 1000);
+        root.put("model", model);
+        ObjectNode choice = root.putArray("choices").addObject();
+        choice.put("index", 0);
+        ObjectNode delta = choice.putObject("delta");
+        if (content != null) {
+            delta.put("role", "assistant").put("content", content);
+        }
+        choice.put("finish_reason", finishReason);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private static String pick(List<String> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
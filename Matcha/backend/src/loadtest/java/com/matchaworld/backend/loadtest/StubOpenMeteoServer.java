@@ -0,0 +1,81 @@
+package com.matchaworld.backend.loadtest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * ✅ Open-Meteo 스텁
+ * - GET /v1/forecast     : hourly(temperature_2m, relative_humidity_2m, uv_index)
+ * - GET /v1/air-quality  : hourly(pm10, pm2_5)
+ * - 시간축은 오늘 0시(UTC)부터 forecast_days 일치, timeformat=unixtime 형식
+ */
+public class StubOpenMeteoServer extends StubHttpServer {
+
+    public StubOpenMeteoServer(StubLatency latency) throws IOException {
+        super(latency);
+        route("/v1/forecast", exchange -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int hours = hours(exchange);
+            StringBuilder temperature = new StringBuilder();
+            StringBuilder humidity = new StringBuilder();
+            StringBuilder uv = new StringBuilder();
+            for (int hour = 0; hour < hours; hour++) {
+                String separator = hour == 0 ? "" : ",";
+                temperature.append(separator).append(String.format(Locale.ROOT, "%.1f", random.nextDouble(-5, 33)));
+                humidity.append(separator).append(random.nextInt(20, 95));
+                uv.append(separator).append(Math.max(0, 6 - Math.abs(12 - hour % 24) / 2.0));
+            }
+            sendJson(exchange, String.format(Locale.ROOT, """
+                    {"latitude":37.57,"longitude":126.98,"hourly":{"time":[%s],"temperature_2m":[%s],"relative_humidity_2m":[%s],"uv_index":[%s]}}
+                    """, times(hours), temperature, humidity, uv));
+        });
+        route("/v1/air-quality", exchange -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int hours = hours(exchange);
+            StringBuilder pm10 = new StringBuilder();
+            StringBuilder pm25 = new StringBuilder();
+            for (int hour = 0; hour < hours; hour++) {
+                String separator = hour == 0 ? "" : ",";
+                pm10.append(separator).append(String.format(Locale.ROOT, "%.1f", random.nextDouble(5, 120)));
+                pm25.append(separator).append(String.format(Locale.ROOT, "%.1f", random.nextDouble(2, 60)));
+            }
+            sendJson(exchange, String.format(Locale.ROOT, """
+                    {"latitude":37.57,"longitude":126.98,"hourly":{"time":[%s],"pm10":[%s],"pm2_5":[%s]}}
+                    """, times(hours), pm10, pm25));
+        });
+    }
+
+    private static int hours(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String param : query.split("&")) {
+                if (param.startsWith("forecast_days=")) {
+                    return 24 * Integer.parseInt(param.substring("forecast_days=".length()));
+                }
+            }
+        }
+        return 24;
+    }
+
+    private static String times(int hours) {
+        long start = LocalDate.now(ZoneOffset.UTC).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        StringBuilder times = new StringBuilder();
+        for (int hour = 0; hour < hours; hour++) {
+            times.append(hour == 0 ? "" : ",").append(start + hour * 3600L);
+        }
+        return times.toString();
+    }
+
+    public String forecastUrl() {
+        return baseUrl() + "/v1/forecast";
+    }
+
+    public String airQualityUrl() {
+        return baseUrl() + "/v1/air-quality";
+    }
+}
@@ -0,0 +1,30 @@
+package com.matchaworld.backend.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ✅ 외부 API 공용 HTTP 클라이언트 (JDK HttpClient)
+ * - 애플리케이션 전체에서 인스턴스 하나를 공유 → 호스트별 커넥션 풀/keep-alive 재사용
+ * - HTTP/2 우선 (TLS ALPN 협상, 미지원 서버는 HTTP/1.1 로 자동 전환) → 한 커넥션에서 요청 다중화
+ * - 연결 타임아웃은 여기서, 응답 타임아웃은 요청마다 HttpRequest.timeout 으로 지정
+ * - 응답 처리는 가상 스레드에서 실행, 컨텍스트 종료 시 close() 로 커넥션 정리
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient externalHttpClient(@Value("${app.http.connect-timeout-ms:2000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
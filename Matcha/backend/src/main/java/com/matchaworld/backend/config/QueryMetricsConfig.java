@@ -0,0 +1,24 @@
+package com.matchaworld.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.matchaworld.backend.monitoring.EntityLoadCountingInterceptor;
+import com.matchaworld.backend.monitoring.QueryCountingStatementInspector;
+
+/**
+ * ✅ 요청 단위 JDBC 문장 / 엔티티 로드 집계를 위한 Hibernate 훅 등록
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.matchaworld.backend.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 읽기 전용 트랜잭션 → 리플리카 라우팅
+ * - app.datasource.replica.url 이 설정된 경우에만 활성화 (없으면 Spring Boot 기본 DataSource)
+ * - ReadWriteRoutingDataSource 가 @Transactional(readOnly = true) 여부로 풀 선택,
+ *   LazyConnectionDataSourceProxy 로 감싸 트랜잭션 시작 시점이 아닌 첫 SQL 시점에 커넥션 획득
+ * - 복제 지연 초과 시 primary 폴백 (ReplicaLagMonitor), 쓰기 직후 사용자 읽기는 primary (ReadYourWritesTracker)
+ * - 트랜잭션마다 커넥션을 반납해야 라우팅이 유지됨 (OSIV 세션이 첫 커넥션을 요청 끝까지 잡지 않도록)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("HikariPool-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment env) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(env.getRequiredProperty("app.datasource.replica.url"))
+                .username(env.getProperty("app.datasource.replica.username", properties.determineUsername()))
+                .password(env.getProperty("app.datasource.replica.password", properties.determinePassword()))
+                .build();
+        dataSource.setPoolName("HikariPool-replica");
+        dataSource.setReadOnly(true);
+        log.info("📚 읽기 전용 트랜잭션 리플리카 라우팅 활성화: {}", dataSource.getJdbcUrl());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-window-ms:5000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, readYourWrites);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,46 @@
+package com.matchaworld.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.matchaworld.backend.support.AfterCommit;
+
+/**
+ * ✅ 현재 트랜잭션의 readOnly 여부로 primary / replica 선택
+ * - LazyConnectionDataSourceProxy 로 감싸서 사용 (트랜잭션 속성이 바인딩된 뒤 첫 SQL 시점에 결정)
+ * - 리플리카 지연 초과 / 측정 실패 → primary
+ * - 최근 쓰기를 커밋한 사용자의 읽기 → primary (read-your-writes)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = ReadYourWritesTracker.currentUserId();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isReplicaUsable() && !readYourWrites.isPinnedToPrimary(userId)) {
+                return Route.REPLICA;
+            }
+            return Route.PRIMARY;
+        }
+
+        // 쓰기 가능 트랜잭션: 커밋 후 사용자 고정 (트랜잭션당 커넥션 1회 획득 기준)
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            AfterCommit.run(() -> readYourWrites.markWrite(userId));
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,30 @@
+package com.matchaworld.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.support.AfterCommit;
+
+/**
+ * ✅ 요청 사용자가 아닌 대상 사용자 기준 read-your-writes 고정
+ * - 라우팅 데이터소스는 SecurityContext principal 만 고정 → 비동기 처리/아웃박스 컨슈머의 쓰기는 빠짐
+ * - 쓰기 경로에서 pin(userId) 호출 → 커밋 후 해당 사용자의 읽기를 window 동안 primary 로 보냄
+ * - 리플리카 미설정(ReadYourWritesTracker 없음)이면 아무 것도 하지 않음
+ */
+@Component
+public class ReadYourWrites {
+
+    private final ObjectProvider<ReadYourWritesTracker> tracker;
+
+    public ReadYourWrites(ObjectProvider<ReadYourWritesTracker> tracker) {
+        this.tracker = tracker;
+    }
+
+    public void pin(Long userId) {
+        ReadYourWritesTracker current = tracker.getIfAvailable();
+        if (current == null || userId == null) {
+            return;
+        }
+        AfterCommit.run(() -> current.markWrite(userId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.matchaworld.backend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * ✅ 사용자별 read-your-writes 보장
+ * - 쓰기 트랜잭션 커밋 후 window 동안 해당 사용자의 읽기 전용 트랜잭션은 primary 로 보냄
+ * - 사용자 식별: JwtAuthenticationFilter 가 넣은 principal(userId)
+ * - 요청 사용자가 아닌 대상 사용자의 쓰기(비동기 처리, 아웃박스 컨슈머)는 ReadYourWrites.pin(userId)
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long userId ? userId : null;
+    }
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            pinnedUntil.put(userId, System.nanoTime() + windowNanos);
+        }
+    }
+
+    public boolean isPinnedToPrimary(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until > 0) {
+            pinnedUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 만료 항목 정리 (조회되지 않은 사용자 엔트리 누적 방지)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.entrySet().removeIf(e -> now - e.getValue() > 0);
+    }
+}
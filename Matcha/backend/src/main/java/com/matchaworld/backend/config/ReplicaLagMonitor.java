@@ -0,0 +1,83 @@
+package com.matchaworld.backend.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 리플리카 복제 지연 감시
+ * - lag-query 결과(초)가 max-lag-seconds 이하일 때만 리플리카 사용
+ * - 조회 실패 / NULL(복제 중단) / 지연 초과 → primary 로 폴백
+ * - MariaDB: SHOW REPLICA STATUS 의 Seconds_Behind_Master, 그 외 DB 는 첫 번째 컬럼 사용
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    // 첫 측정 전에는 리플리카를 쓰지 않음
+    private volatile boolean replicaUsable = false;
+    private volatile long lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long lastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean usable;
+        try (Connection con = replica.getConnection();
+             Statement stmt = con.createStatement();
+             ResultSet rs = stmt.executeQuery(lagQuery)) {
+
+            Long lag = null;
+            if (rs.next()) {
+                long value = hasColumn(rs, LAG_COLUMN) ? rs.getLong(LAG_COLUMN) : rs.getLong(1);
+                lag = rs.wasNull() ? null : value;
+            }
+            lastLagSeconds = lag != null ? lag : -1;
+            usable = lag != null && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lastLagSeconds = -1;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("⚠️ 리플리카 지연 측정 실패 → primary 폴백: {}", e.getMessage());
+            }
+        }
+
+        if (usable != replicaUsable) {
+            log.info("📚 리플리카 사용 {} (lag={}s, 허용={}s)", usable ? "재개" : "중단", lastLagSeconds, maxLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    private static boolean hasColumn(ResultSet rs, String column) throws java.sql.SQLException {
+        var meta = rs.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(meta.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,27 +1,67 @@
 package com.matchaworld.backend.config;
 
+import java.time.Duration;
+
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.matchaworld.backend.service.activity.ActivityService;
+import com.matchaworld.backend.service.admin.ReferenceCacheEvictor;
 import com.matchaworld.backend.service.auth.VerificationService;
+import com.matchaworld.backend.service.quest.QuestService;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * ✅ 전체 노드 중 한 곳에서만 실행하는 정기 작업 (LockedJobRunner 잠금)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SchedulerConfig {
     
     private final VerificationService verificationService;
+    private final ActivityService activityService;
+    private final QuestService questService;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
+    private final LockedJobRunner lockedJobRunner;
     
     /**
      * 매일 새벽 3시에 만료된 인증번호 정리
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupExpiredCodes() {
-        log.info("만료된 인증번호 정리 스케줄러 시작");
-        verificationService.cleanupExpiredCodes();
-        log.info("만료된 인증번호 정리 스케줄러 종료");
+        lockedJobRunner.run("verification-code-cleanup", Duration.ofMinutes(10), () -> {
+            log.info("만료된 인증번호 정리 스케줄러 시작");
+            verificationService.cleanupExpiredCodes();
+            log.info("만료된 인증번호 정리 스케줄러 종료");
+        });
+    }
+
+    /**
+     * 매일 자정에 전체 사용자 ESG 점수 자동 업데이트
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void updateAllUserScores() {
+        lockedJobRunner.run("user-score-update", Duration.ofHours(1), activityService::updateAllUserScores);
+    }
+
+    /**
+     * 매일 자정에 기간 만료 퀘스트 비활성화
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void deactivateExpiredQuests() {
+        lockedJobRunner.run("quest-deactivate-expired", Duration.ofMinutes(10), questService::deactivateExpiredQuests);
+    }
+
+    /**
+     * 자정 비활성화 이후 각 노드의 퀘스트 2차 캐시 무효화 (잠금 없이 모든 노드에서 실행)
+     * - 비활성화를 실행한 노드는 커밋 직후 이미 비우지만, 나머지 노드는 여기서 새 활성 목록을 읽음
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void refreshQuestCaches() {
+        referenceCacheEvictor.evictQuests();
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.matchaworld.backend.security.JwtAuthenticationFilter;
+import com.matchaworld.backend.security.MetricsScrapeAuthorizationManager;
+import com.matchaworld.backend.security.RateLimitFilter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final MetricsScrapeAuthorizationManager metricsScrapeAuthorizationManager;
 
     private static final String[] WHITE_LIST_URLS = {
             "/v3/api-docs/**",
@@ -71,16 +75,21 @@ public class SecurityConfig {
             .authorizeHttpRequests(req -> req
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                     .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/prometheus").access(metricsScrapeAuthorizationManager) // ADMIN 또는 스크레이프 계정
                     .requestMatchers("/api/auth/**").permitAll()
                     .requestMatchers(WHITE_LIST_URLS).permitAll()
                     .requestMatchers("/uploads/**", "/css/**", "/js/**", "/images/**").permitAll()
                     .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .requestMatchers("/api/record/**").hasAnyRole("USER", "ADMIN")
                     .anyRequest().authenticated()
             )
 
             // JWT 필터
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 요청 제한 (JWT 사용자 ID 기준이라 인증 필터 다음)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,14 +1,44 @@
 package com.matchaworld.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.io.IOException;
 import java.nio.file.Paths;
+import java.time.Duration;
+
+import com.matchaworld.backend.monitoring.RequestMetricsInterceptor;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+    // StorageService 업로드 파일({uuid}_파일명)은 내용이 바뀌지 않음 → 장기 캐시
+    private static final String UPLOADED_FILE_PATTERN =
+            "/uploads/{directory}/{filename:[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_.+}";
+
+    @Value("${app.storage.cache-max-age-days:365}")
+    private long uploadCacheMaxAgeDays;
+
+    // 이미지에 포함된 고정 파일명 자산(캐릭터/기본 로고 등)은 배포 시 바뀔 수 있음 → 짧게 캐시 후 ETag 로 재검증
+    @Value("${app.storage.static-cache-max-age-hours:24}")
+    private long staticCacheMaxAgeHours;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // ✅ 컨트롤러별 지연 시간 / 요청당 쿼리 수 측정
+        registry.addInterceptor(requestMetricsInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         // SecurityConfig의 CORS 설정만으로는 OPTIONS 응답 헤더가 누락되어 403 발생
@@ -39,8 +69,24 @@ public class WebConfig implements WebMvcConfigurer {
             uploadPath = "file:" + Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath() + "/";
         }
 
+        registry.addResourceHandler(UPLOADED_FILE_PATTERN)
+                .addResourceLocations(uploadPath)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(uploadCacheMaxAgeDays)).cachePublic().immutable())
+                .setEtagGenerator(WebConfig::etag);
+
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(uploadPath);
+                .addResourceLocations(uploadPath)
+                .setCacheControl(CacheControl.maxAge(Duration.ofHours(staticCacheMaxAgeHours)).cachePublic())
+                .setEtagGenerator(WebConfig::etag);
+    }
+
+    // 파일 내용을 읽지 않는 ETag (수정 시각 + 크기), If-None-Match 일치 시 304
+    private static String etag(Resource resource) {
+        try {
+            return Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength());
+        } catch (IOException e) {
+            return null;
+        }
     }
 
     // ✅ 단순한 Docker 환경 감지 (필요 시 개선 가능)
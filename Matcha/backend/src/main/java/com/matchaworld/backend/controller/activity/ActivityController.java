@@ -133,7 +133,7 @@ import com.matchaworld.backend.dto.response.activity.ActivityResponse;
 import com.matchaworld.backend.dto.response.dailyscore.DailyScoreResponse;
 import com.matchaworld.backend.repository.UserRepository;
 import com.matchaworld.backend.service.activity.ActivityService;
-import com.matchaworld.backend.service.my.UserMyService;
+import com.matchaworld.backend.service.activity.MyActivityCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -146,47 +146,20 @@ public class ActivityController {
 
     private final ActivityService activityService;
     private final UserRepository userRepository;
-    private final UserMyService userMyService;
+    private final MyActivityCache myActivityCache;
 
     /**
      * ✅ 내 ESG 종합 점수 + 캐릭터 정보 조회 (E/S + 퀘스트 합산)
+     * - 홈 화면 폴링 대상 → 읽기 전용 트랜잭션 + 사용자별 캐시 (행 잠금 없음)
      */
     @GetMapping("/me")
     public ActivityResponse getMyInfo(@AuthenticationPrincipal Long userId) {
+        ActivityResponse response = myActivityCache.get(userId, () -> activityService.getMyActivity(userId));
 
-        // 🆕 수정: 점수 동기화 복원
-        activityService.updateUserScores(userId);
+        log.debug("🌱 [활동 점수 조회] userId={}, total={}, quest={}, E={}, S={}",
+                userId, response.getTotalScore(), response.getEsgScore(), response.getEScore(), response.getSScore());
 
-        User user = userRepository.findById(userId)
-                .map(u -> {
-                    userRepository.flush(); // 🆕 flush 유지
-                    return userRepository.getReferenceById(userId);
-                })
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Map<String, Integer> scores = activityService.calculateUserScores(userId);
-        int e = scores.get("eScore");
-        int s = scores.get("sScore");
-        int questScore = user.getEsgScore() != null ? user.getEsgScore() : 0;
-        int total = questScore + e + s;
-
-        String characterUrl = userMyService.updateUserCharacter(userId, scores.get("esgScore"));
-
-        // String characterPath = user.getCharacter();
-        // String characterUrl = (characterPath != null && characterPath.startsWith("/uploads/"))
-        //         ? characterPath
-        //         : "/uploads/character/" + (characterPath != null ? characterPath : "flower.png");
-
-        log.info("🌱 [활동 점수 조회] userId={}, total={}, quest={}, E={}, S={}",
-                userId, total, questScore, e, s);
-
-        return ActivityResponse.builder()
-                .totalScore(total)
-                .esgScore(user.getEsgScore()) // 🆕 프론트 대응 필드 추가
-                .eScore(e)
-                .sScore(s)
-                .characterUrl(characterUrl)
-                .build();
+        return response;
     }
 
     /**
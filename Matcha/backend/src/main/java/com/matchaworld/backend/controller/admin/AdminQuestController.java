@@ -24,6 +24,7 @@ import com.matchaworld.backend.dto.request.admin.QuestUpdateRequest;
 import com.matchaworld.backend.dto.response.PaginatedResponse;
 import com.matchaworld.backend.dto.response.auth.ApiResponse;
 import com.matchaworld.backend.service.admin.AdminQuestService;
+import com.matchaworld.backend.service.quest.SeasonResetJob;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +39,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminQuestController {
 
     private final AdminQuestService adminQuestService;
+    private final SeasonResetJob seasonResetJob;
 
     @GetMapping
     public ResponseEntity<ApiResponse> getAllQuests(
@@ -163,4 +165,25 @@ public class AdminQuestController {
                     .build());
         }
     }
-}
\ No newline at end of file
+
+    // 시즌 초기화 진행 상황
+    @GetMapping("/season-reset")
+    public ResponseEntity<ApiResponse> getSeasonResetProgress() {
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message("시즌 초기화 진행 상황 조회 성공")
+                .data(seasonResetJob.getProgress())
+                .build());
+    }
+
+    // 시즌 초기화 수동 실행 (백그라운드, force=true 면 업무 시간대에도 계속 진행)
+    @PostMapping("/season-reset")
+    public ResponseEntity<ApiResponse> startSeasonReset(@RequestParam(defaultValue = "false") boolean force) {
+        boolean started = seasonResetJob.start(force);
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(started)
+                .message(started ? "시즌 초기화를 시작했습니다." : "시즌 초기화가 이미 실행 중입니다.")
+                .data(seasonResetJob.getProgress())
+                .build());
+    }
+}
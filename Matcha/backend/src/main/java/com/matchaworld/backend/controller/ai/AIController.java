@@ -5,7 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 // 수정 이유 : 퀘스트 완료 로직에 필요한 ResponseEntity 및 QuestService 사용을 위해 import 추가
 import org.springframework.http.ResponseEntity;
-import com.matchaworld.backend.service.quest.QuestService;
+import com.matchaworld.backend.service.quest.QuestSubmissionService;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import com.matchaworld.backend.service.ai.AIService;
@@ -19,8 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AIController {
 
     private final AIService aiService;
-    // 수정 이유 : AI 분석 후 퀘스트 완료 처리를 위해 QuestService 주입
-    private final QuestService questService;
+    // 수정 이유 : AI 분석 후 퀘스트 완료 처리를 위해 QuestSubmissionService 주입 (중복 제출 방지 + 충돌 재시도)
+    private final QuestSubmissionService questSubmissionService;
 
     // 기존 생성자
     // public AIController(AIService aiService) {
@@ -28,9 +28,9 @@ public class AIController {
     // }
     // 수정 이유 : QuestService 추가 주입을 위해 생성자 수정
     @Autowired
-    public AIController(AIService aiService, QuestService questService) {
+    public AIController(AIService aiService, QuestSubmissionService questSubmissionService) {
         this.aiService = aiService;
-        this.questService = questService;
+        this.questSubmissionService = questSubmissionService;
     }
 
     // ✅ 이미지 분석 요청 (JSON 단일 응답)
@@ -64,7 +64,8 @@ public class AIController {
             @RequestParam("question") String question,
             @RequestParam("userId") Long userId,
             @RequestParam("questId") Long questId,
-            @RequestParam(value = "attach", required = false) MultipartFile attach
+            @RequestParam(value = "attach", required = false) MultipartFile attach,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) throws IOException {
 
         log.info("🧠 [AI 분석 요청] question={}, file={}", question,
@@ -85,7 +86,7 @@ public class AIController {
 
         // 수정 이유 : AI 분석 결과가 성공일 때 퀘스트 완료 처리 로직 추가
         if (result.toLowerCase().contains("성공") || result.toLowerCase().contains("ok")) {
-            questService.submitQuest(questId, userId);
+            questSubmissionService.submit(userId, questId, idempotencyKey);
             log.info("🏁 퀘스트 완료 처리됨 → questId={}, userId={}", questId, userId);
         }
 
@@ -9,6 +9,7 @@ import com.matchaworld.backend.dto.response.quest.QuestResponse;
 import com.matchaworld.backend.dto.response.quest.QuestSubmitResponse;
 import com.matchaworld.backend.service.JwtService;
 import com.matchaworld.backend.service.quest.QuestServiceImpl;
+import com.matchaworld.backend.service.quest.QuestSubmissionService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 public class QuestController {
 
     private final QuestServiceImpl questService;
+    private final QuestSubmissionService questSubmissionService;
     private final JwtService jwtService;
 
     // JWT → userId 추출
@@ -66,14 +68,16 @@ public class QuestController {
         return ResponseEntity.ok(Map.of("success", true, "data", data));
     }
 
-    // 퀘스트 완료 처리 (칭호 지급 포함)
+    // 퀘스트 완료 처리 (칭호는 비동기 지급)
+    // Idempotency-Key 헤더가 같으면 재전송/더블 탭도 최초 응답을 그대로 반환
     @PostMapping("/{questId}/submit")
     public ResponseEntity<Map<String, Object>> submitQuest(
             @PathVariable Long questId,
-            @RequestHeader("Authorization") String auth) {
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
         Long userId = extractUserIdFromToken(auth);
-        QuestSubmitResponse result = questService.submitQuest(questId, userId);
+        QuestSubmitResponse result = questSubmissionService.submit(userId, questId, idempotencyKey);
 
         return ResponseEntity.ok(Map.of(
                 "success", true,
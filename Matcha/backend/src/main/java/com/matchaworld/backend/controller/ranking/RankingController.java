@@ -2,6 +2,7 @@ package com.matchaworld.backend.controller.ranking;
 
 import com.matchaworld.backend.dto.response.ranking.RankingResponse;
 import com.matchaworld.backend.service.JwtService;
+import com.matchaworld.backend.service.ranking.LeaderboardType;
 import com.matchaworld.backend.service.ranking.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -27,11 +28,35 @@ public class RankingController {
         return rankingService.getGlobalRankingWithUserOnTop(userId, limit);
     }
 
-    /** ✅ 내 랭킹 단독 조회 */
+    /** ✅ 내 랭킹 단독 조회 (기본: 근사 순위 + 상위 %) */
     @GetMapping("/me")
-    public RankingResponse getMyRanking(HttpServletRequest request) {
+    public RankingResponse getMyRanking(
+            HttpServletRequest request,
+            @RequestParam(required = false) String mode // exact | approximate (미지정 시 설정값)
+    ) {
+        Long userId = extractUserIdFromRequest(request);
+        if (mode == null) {
+            return rankingService.getMyRanking(userId);
+        }
+        return rankingService.getMyRanking(userId, "exact".equalsIgnoreCase(mode));
+    }
+
+    /** ✅ 세그먼트 랭킹 (weekly / season / e / s) */
+    @GetMapping("/board/{type}")
+    public List<RankingResponse> getLeaderboard(
+            HttpServletRequest request,
+            @PathVariable String type,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        Long userId = extractUserIdFromRequest(request);
+        return rankingService.getLeaderboardWithUserOnTop(LeaderboardType.from(type), userId, limit);
+    }
+
+    /** ✅ 세그먼트 랭킹 내 순위 */
+    @GetMapping("/board/{type}/me")
+    public RankingResponse getMyLeaderboardRanking(HttpServletRequest request, @PathVariable String type) {
         Long userId = extractUserIdFromRequest(request);
-        return rankingService.getMyRanking(userId);
+        return rankingService.getMyLeaderboardRanking(LeaderboardType.from(type), userId);
     }
 
     /** ✅ 토큰에서 userId 추출 */
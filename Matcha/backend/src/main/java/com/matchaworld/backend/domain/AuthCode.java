@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "AUTH_CODE")
+@Table(name = "AUTH_CODE", indexes = @Index(name = "idx_auth_code_email", columnList = "EMAIL, CREATED_AT"))
 public class AuthCode {
 
     @Id
@@ -35,6 +35,11 @@ public class AuthCode {
     @Column(name = "IS_VERIFIED", nullable = false)
     private Boolean isVerified = false;
 
+    // 틀린 인증번호 입력 횟수 (app.verification.max-attempts 도달 시 잠금)
+    @Builder.Default
+    @Column(name = "FAILED_ATTEMPTS", nullable = false)
+    private Integer failedAttempts = 0;
+
     @CreatedDate
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,8 +36,10 @@ import lombok.AccessLevel;
 @Table(name = "CERTIFICATION")
 public class Certification {
 
+    // pooled 시퀀스 (init.sql 의 CERTIFICATION_SEQ, INCREMENT BY 50 과 일치해야 함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_seq")
+    @SequenceGenerator(name = "certification_seq", sequenceName = "CERTIFICATION_SEQ", allocationSize = 50)
     @Column(name = "CERT_ID")
     private Long id;
 
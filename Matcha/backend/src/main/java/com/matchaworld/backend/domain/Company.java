@@ -1,7 +1,10 @@
 package com.matchaworld.backend.domain;
 
+import com.matchaworld.backend.service.admin.search.AdminSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,12 +15,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AdminSearchIndexListener.class})
 @Table(name = "COMPANY")
 public class Company {
 
@@ -45,6 +49,7 @@ public class Company {
 
     // 카테고리 관계 매핑
     @ManyToMany(fetch = FetchType.LAZY) 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "COMPANY_CATEGORY",
         joinColumns = @JoinColumn(name = "COMPANY_ID"),
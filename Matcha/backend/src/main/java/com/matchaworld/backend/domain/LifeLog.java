@@ -15,6 +15,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,8 +33,10 @@ import lombok.AccessLevel;
 @Table(name = "LIFE_LOG")
 public class LifeLog {
 
+    // 대량 INSERT 배치 처리를 위해 IDENTITY 대신 pooled 시퀀스 사용 (50개 단위 선할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "life_log_seq")
+    @SequenceGenerator(name = "life_log_seq", sequenceName = "LIFE_LOG_SEQ", allocationSize = 50)
     @Column(name = "LOG_ID")
     private Long id;
 
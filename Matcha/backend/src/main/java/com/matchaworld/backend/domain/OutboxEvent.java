@@ -0,0 +1,106 @@
+package com.matchaworld.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AccessLevel;
+
+/**
+ * ✅ 트랜잭션 아웃박스 (핵심 상태 변경과 같은 트랜잭션에 기록 → 커밋 이후 비동기 소비)
+ * - 이벤트 1건을 구독 컨슈머 수만큼 행으로 기록하여 컨슈머별로 독립 재시도
+ * - PENDING → DONE / 재시도 한도 초과 시 FAILED
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "OUTBOX_EVENT", indexes = @Index(name = "idx_outbox_status_next", columnList = "STATUS, NEXT_ATTEMPT_AT"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "OUTBOX_EVENT_SEQ", allocationSize = 50)
+    @Column(name = "EVENT_ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "EVENT_TYPE", length = 40, nullable = false)
+    private Type eventType;
+
+    // 처리할 컨슈머 이름 (OutboxConsumer.name())
+    @Column(name = "CONSUMER", length = 40, nullable = false)
+    private String consumer;
+
+    // 이벤트 주체 (사용자 ID)
+    @Column(name = "AGGREGATE_ID", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "PAYLOAD", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 10, nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "PROCESSED_AT")
+    private LocalDateTime processedAt;
+
+    public void markDone(LocalDateTime now) {
+        this.status = Status.DONE;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    // 실패 기록 (한도 초과 시 FAILED 로 전환, 그 외에는 backoff 후 재시도)
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    public enum Type {
+        QUEST_REWARDED,          // 퀘스트 제출 보상 (ESG 점수 누적)
+        QUEST_COMPLETED,         // 퀘스트 최종 완료 (랭킹 반영)
+        CERTIFICATION_REQUESTED  // AI 자동완료 인증 로그 저장
+    }
+
+    public enum Status {
+        PENDING,
+        DONE,
+        FAILED
+    }
+}
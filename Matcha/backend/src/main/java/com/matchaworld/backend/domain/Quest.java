@@ -2,9 +2,13 @@ package com.matchaworld.backend.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.matchaworld.backend.service.admin.search.AdminSearchIndexListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -13,6 +17,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,13 +27,14 @@ import lombok.Setter;
 import lombok.AccessLevel;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-@Table(name = "QUEST")
+@EntityListeners({AuditingEntityListener.class, AdminSearchIndexListener.class})
+@Table(name = "QUEST", indexes = @Index(name = "idx_quest_type_active", columnList = "TYPE, IS_ACTIVE, CREATED_AT"))
 public class Quest {
 
     @Id
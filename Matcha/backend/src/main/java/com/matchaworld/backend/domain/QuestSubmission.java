@@ -0,0 +1,57 @@
+package com.matchaworld.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AccessLevel;
+
+/**
+ * ✅ 퀘스트 제출 멱등키 (사용자 + 퀘스트 + Idempotency-Key 유니크)
+ * - 같은 키를 다른 퀘스트에 재사용해도 다른 퀘스트의 응답이 재생되지 않음
+ * - 제출 처리와 같은 트랜잭션에 INSERT → 같은 키의 재요청은 저장된 응답을 그대로 반환
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "QUEST_SUBMISSION", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_quest_submission_key", columnNames = {"USER_ID", "QUEST_ID", "IDEMPOTENCY_KEY"})
+})
+public class QuestSubmission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quest_submission_seq")
+    @SequenceGenerator(name = "quest_submission_seq", sequenceName = "QUEST_SUBMISSION_SEQ", allocationSize = 50)
+    @Column(name = "SUBMISSION_ID")
+    private Long id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "IDEMPOTENCY_KEY", length = 64, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "QUEST_ID", nullable = false)
+    private Long questId;
+
+    // 최초 처리 결과 (QuestSubmitResponse JSON)
+    @Column(name = "RESPONSE", columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,32 @@
+package com.matchaworld.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * ✅ 공유 토큰 버킷 (app.rate-limit.backend=db, 버킷 키당 1행)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "RATE_LIMIT_BUCKET")
+public class RateLimitBucket {
+
+    @Id
+    @Column(name = "BUCKET_KEY", length = 200)
+    private String bucketKey;
+
+    @Column(name = "TOKENS", nullable = false)
+    private Double tokens;
+
+    // 마지막 충전 시각 (epoch millis, 노드 간 비교용)
+    @Column(name = "REFILLED_AT", nullable = false)
+    private Long refilledAt;
+}
@@ -0,0 +1,66 @@
+package com.matchaworld.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 스케줄 작업 실행 이력 (잠금을 획득해 실제로 실행한 노드만 기록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "SCHEDULER_JOB_RUN", indexes = @Index(name = "idx_job_run_name_started", columnList = "JOB_NAME, STARTED_AT"))
+public class SchedulerJobRun {
+
+    public enum Status { SUCCESS, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "RUN_ID")
+    private Long id;
+
+    @Column(name = "JOB_NAME", length = 64, nullable = false)
+    private String jobName;
+
+    @Column(name = "NODE", length = 100, nullable = false)
+    private String node;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 10, nullable = false)
+    private Status status;
+
+    @Column(name = "STARTED_AT", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "FINISHED_AT", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "DURATION_MS", nullable = false)
+    private Long durationMs;
+
+    @Column(name = "ERROR", length = 500)
+    private String error;
+
+    public SchedulerJobRun(String jobName, String node, Status status, LocalDateTime startedAt,
+                           LocalDateTime finishedAt, long durationMs, String error) {
+        this.jobName = jobName;
+        this.node = node;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.durationMs = durationMs;
+        this.error = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
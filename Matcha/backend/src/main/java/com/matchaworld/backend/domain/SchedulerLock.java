@@ -0,0 +1,35 @@
+package com.matchaworld.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 스케줄 작업 잠금 (작업 이름당 1행, LOCKED_UNTIL 까지 보유 노드만 실행)
+ * - 획득/해제는 SchedulerLockRepository 의 조건부 UPDATE / INSERT 로만 수행
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "SCHEDULER_LOCK")
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "NAME", length = 64)
+    private String name;
+
+    @Column(name = "LOCKED_UNTIL", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "LOCKED_AT", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "LOCKED_BY", length = 100, nullable = false)
+    private String lockedBy;
+}
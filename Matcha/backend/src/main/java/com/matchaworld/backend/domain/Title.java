@@ -1,14 +1,19 @@
 package com.matchaworld.backend.domain;
 
+import com.matchaworld.backend.service.admin.search.AdminSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(AdminSearchIndexListener.class)
 @Table(name = "TITLE")
 public class Title {
 
@@ -15,19 +15,24 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import com.matchaworld.backend.service.admin.search.AdminSearchIndexListener;
+import com.matchaworld.backend.service.ranking.EsgScoreListener;
+
 @Entity
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, EsgScoreListener.class, AdminSearchIndexListener.class})
 @Table(name = "USER")
 public class User {
 
@@ -73,6 +78,15 @@ public class User {
     @Column(name = "UPDATED_AT", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 낙관적 락 (점수 누적 등 동시 갱신 시 갱신 유실 방지)
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    // 로드 시점 ESG 점수 (점수 분포 갱신용, DB 매핑 없음)
+    @Transient
+    private Integer loadedEsgScore;
+
     // Enum 정의
     public enum Role {
         USER,
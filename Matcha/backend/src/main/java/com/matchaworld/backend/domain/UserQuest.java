@@ -16,8 +16,10 @@ import java.time.LocalDateTime;
 })
 public class UserQuest {
 
+    // 퀘스트 일괄 지급(assignRandomQuests) INSERT 를 배치로 묶기 위한 pooled 시퀀스
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_quest_seq")
+    @SequenceGenerator(name = "user_quest_seq", sequenceName = "USER_QUEST_SEQ", allocationSize = 50)
     @Column(name = "UQ_ID")
     private Long id;
 
@@ -49,6 +51,11 @@ public class UserQuest {
     @Column(name = "COMPLETED_AT")
     private LocalDateTime completedAt;
 
+    // 낙관적 락 (동시 제출 시 시도 횟수 중복 증가 방지 → 충돌 시 QuestSubmissionService 가 재시도)
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     // Enum 정의
     public enum Status {
         PENDING,
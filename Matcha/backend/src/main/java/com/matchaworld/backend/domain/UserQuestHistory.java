@@ -0,0 +1,56 @@
+package com.matchaworld.backend.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 지난 시즌 완료 퀘스트 보관 (시즌 초기화 시 USER_QUEST 에서 INSERT ... SELECT 로 이관)
+ * - UQ_ID 를 그대로 키로 사용 → 초기화 재실행 시 중복 이관 방지
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "USER_QUEST_HISTORY", indexes = @Index(name = "idx_uq_history_user", columnList = "USER_ID, SEASON_START"))
+public class UserQuestHistory {
+
+    @Id
+    @Column(name = "UQ_ID")
+    private Long id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "QUEST_ID", nullable = false)
+    private Long questId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private UserQuest.Status status;
+
+    @Column(name = "ATTEMPT_COUNT", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "STARTED_AT")
+    private LocalDateTime startedAt;
+
+    @Column(name = "COMPLETED_AT")
+    private LocalDateTime completedAt;
+
+    // 이관 시점의 시즌 시작일 (이 날짜 이전 시즌의 기록)
+    @Column(name = "SEASON_START", nullable = false)
+    private LocalDate seasonStart;
+
+    @Column(name = "ARCHIVED_AT", nullable = false)
+    private LocalDateTime archivedAt;
+}
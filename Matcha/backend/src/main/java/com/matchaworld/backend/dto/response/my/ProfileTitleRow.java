@@ -0,0 +1,29 @@
+package com.matchaworld.backend.dto.response.my;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 프로필 칭호 목록용 평면 행 (TITLE ⟕ USER_TITLE)
+ * - 미획득 칭호는 earnedAt / isMain 이 null
+ */
+@Getter
+@AllArgsConstructor
+public class ProfileTitleRow {
+
+    private Long titleId;
+    private String name;
+    private String description;
+    private LocalDateTime earnedAt;
+    private Boolean isMain;
+
+    public boolean isEarned() {
+        return earnedAt != null;
+    }
+
+    public boolean isMainTitle() {
+        return Boolean.TRUE.equals(isMain);
+    }
+}
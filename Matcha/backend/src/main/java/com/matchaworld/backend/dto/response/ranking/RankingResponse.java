@@ -1,5 +1,7 @@
 package com.matchaworld.backend.dto.response.ranking;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -13,4 +15,13 @@ public class RankingResponse {
     private int rank;         // 순위
     private String nickname;  // 사용자 닉네임
     private int score;        // ESG 종합 점수
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double topPercent;   // 상위 % (근사 순위 모드에서만)
+
+    private boolean approximate; // 근사 순위 여부
+
+    public RankingResponse(int rank, String nickname, int score) {
+        this(rank, nickname, score, null, false);
+    }
 }
@@ -2,10 +2,13 @@ package com.matchaworld.backend.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import jakarta.persistence.OptimisticLockException;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,6 +39,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    // 낙관적 락(@Version) 충돌 → 409 (같은 데이터를 동시에 수정, 클라이언트가 다시 조회 후 재시도)
+    @ExceptionHandler({ObjectOptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockException(Exception e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", false);
+        body.put("message", "다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     // 사용자 정의 예외 처리 (필요 시 확장)
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException e) {
@@ -0,0 +1,16 @@
+package com.matchaworld.backend.monitoring;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * ✅ 엔티티 로드(하이드레이션) 횟수 집계 - N+1 지연 로딩 탐지용
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryCounter.entityLoaded();
+        return false;
+    }
+}
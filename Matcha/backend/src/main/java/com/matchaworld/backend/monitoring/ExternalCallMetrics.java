@@ -0,0 +1,74 @@
+package com.matchaworld.backend.monitoring;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * ✅ 외부 연동 호출 시간 (matcha.external.calls)
+ * - tag: service(openai / open-meteo / smtp), operation, outcome(success / error)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalCallMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String service, String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(timer(service, operation, outcome));
+        }
+    }
+
+    public void run(String service, String operation, Runnable call) {
+        record(service, operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    // 비동기 호출: 요청 시작부터 future 완료까지
+    public <T> CompletableFuture<T> recordAsync(String service, String operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            sample.stop(timer(service, operation, "error"));
+            throw e;
+        }
+        return future.whenComplete((result, error) ->
+                sample.stop(timer(service, operation, error == null ? "success" : "error")));
+    }
+
+    // 스트리밍 응답: 구독 시점부터 완료/오류/취소까지
+    public <T> Mono<T> record(String service, String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.doFinally(signal ->
+                    sample.stop(timer(service, operation, signal == SignalType.ON_ERROR ? "error" : "success")));
+        });
+    }
+
+    private Timer timer(String service, String operation, String outcome) {
+        return Timer.builder("matcha.external.calls")
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
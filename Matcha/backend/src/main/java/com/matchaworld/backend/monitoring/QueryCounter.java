@@ -0,0 +1,59 @@
+package com.matchaworld.backend.monitoring;
+
+/**
+ * ✅ 요청 단위 JDBC 문장 / 엔티티 로드 카운터 (스레드 로컬)
+ * - RequestMetricsInterceptor 가 요청 시작/종료 시 begin() / end() 호출
+ * - Hibernate StatementInspector / Interceptor 가 증가시킴 (요청 범위 밖에서는 무시)
+ */
+public final class QueryCounter {
+
+    /** 요청 속성 키 (테스트에서 MvcResult 로 조회) */
+    public static final String REQUEST_ATTRIBUTE = QueryCounter.class.getName() + ".COUNTS";
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    public static final class Counts {
+        private int statements;
+        private int entityLoads;
+
+        public int statements() {
+            return statements;
+        }
+
+        public int entityLoads() {
+            return entityLoads;
+        }
+
+        @Override
+        public String toString() {
+            return "statements=" + statements + ", entityLoads=" + entityLoads;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.matchaworld.backend.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * ✅ Hibernate가 준비하는 모든 SQL 문장 수 집계 (SQL 은 변경하지 않음)
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statementPrepared();
+        return sql;
+    }
+}
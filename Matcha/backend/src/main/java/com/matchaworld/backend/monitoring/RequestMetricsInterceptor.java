@@ -0,0 +1,83 @@
+package com.matchaworld.backend.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 컨트롤러 메서드 단위 메트릭
+ * - matcha.controller.requests        : 처리 시간 (히스토그램)
+ * - matcha.controller.jdbc.statements : 요청당 JDBC 문장 수
+ * - matcha.controller.entity.loads    : 요청당 엔티티 로드 수
+ * - 요청당 문장 수가 임계값을 넘으면 WARN 로그 (N+1 의심)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".START";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.monitoring.query-warn-threshold:30}")
+    private int queryWarnThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            request.setAttribute(QueryCounter.REQUEST_ATTRIBUTE, QueryCounter.begin());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getAttribute(START_ATTRIBUTE) == null) {
+            return;
+        }
+        QueryCounter.end();
+
+        long elapsed = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+        QueryCounter.Counts counts = (QueryCounter.Counts) request.getAttribute(QueryCounter.REQUEST_ATTRIBUTE);
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        Timer.builder("matcha.controller.requests")
+                .tag("controller", controller)
+                .tag("method", method)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("matcha.controller.jdbc.statements")
+                .tag("controller", controller)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(counts.statements());
+
+        DistributionSummary.builder("matcha.controller.entity.loads")
+                .tag("controller", controller)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(counts.entityLoads());
+
+        if (counts.statements() > queryWarnThreshold) {
+            log.warn("⚠️ [쿼리 과다] {}.{} → {} (임계값 {})", controller, method, counts, queryWarnThreshold);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.matchaworld.backend.repository;
 
 import com.matchaworld.backend.domain.AuthCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -22,6 +25,12 @@ public interface AuthCodeRepository extends JpaRepository<AuthCode, Long> {
      * 이메일로 가장 최근 인증코드 찾기
      */
     Optional<AuthCode> findTopByEmailOrderByCreatedAtDesc(String email);
+
+    /**
+     * 이메일로 가장 최근 인증코드 잠금 조회 (같은 이메일 동시 검증은 순서대로 → 실패 횟수 유실 없음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AuthCode> findFirstByEmailOrderByCreatedAtDesc(String email);
     
     /**
      * 이메일의 미인증 코드 모두 삭제
@@ -35,7 +44,7 @@ public interface AuthCodeRepository extends JpaRepository<AuthCode, Long> {
      */
     @Modifying
     @Query("DELETE FROM AuthCode a WHERE a.expiryTime < :now")
-    void deleteExpiredCodes(@Param("now") LocalDateTime now);
+    int deleteExpiredCodes(@Param("now") LocalDateTime now);
     
     /**
      * 이메일로 인증된 코드가 있는지 확인
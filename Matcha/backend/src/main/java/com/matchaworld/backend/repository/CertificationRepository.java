@@ -1,6 +1,11 @@
 package com.matchaworld.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.matchaworld.backend.domain.Certification;
@@ -13,4 +18,11 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
 
     // ✅ 특정 퀘스트 인증 내역 조회 (선택)
     Certification findByUserQuest_Id(Long userQuestId);
+
+    boolean existsByUserQuest_Id(Long userQuestId);
+
+    // 사용자 퀘스트 일괄 삭제 전 인증 로그 정리 (단일 DELETE 문)
+    @Modifying
+    @Query("DELETE FROM Certification c WHERE c.userQuest.id IN :userQuestIds")
+    int deleteAllByUserQuestIdIn(@Param("userQuestIds") List<Long> userQuestIds);
 }
@@ -2,16 +2,21 @@ package com.matchaworld.backend.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.matchaworld.backend.domain.Company;
 
+import jakarta.persistence.QueryHint;
+
 public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpecificationExecutor<Company> {
 
     // 카테고리명(LEADER/SPONSOR)으로 기업 조회
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
         SELECT DISTINCT c
         FROM Company c
@@ -20,5 +25,14 @@ public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpec
     """)
     List<Company> findByCategoryName(@Param("categoryName") String categoryName);
 
+    // ID 목록으로 기업 + 카테고리 한 번에 조회 (관리자 목록 페이지 하이드레이션용)
+    @Query("""
+        SELECT DISTINCT c
+        FROM Company c
+        LEFT JOIN FETCH c.categories
+        WHERE c.id IN :ids
+    """)
+    List<Company> findAllWithCategoriesByIdIn(@Param("ids") List<Long> ids);
+
     boolean existsByCompanyName(String companyName);
 }
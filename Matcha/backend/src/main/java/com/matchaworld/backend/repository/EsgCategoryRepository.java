@@ -1,13 +1,17 @@
 package com.matchaworld.backend.repository;
 
 import com.matchaworld.backend.domain.EsgCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface EsgCategoryRepository extends JpaRepository<EsgCategory, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<EsgCategory> findByCategoryName(String categoryName);
     boolean existsByCategoryName(String categoryName);
 }
\ No newline at end of file
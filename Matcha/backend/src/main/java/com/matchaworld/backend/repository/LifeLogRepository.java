@@ -36,4 +36,8 @@ public interface LifeLogRepository extends JpaRepository<LifeLog, Long> {
     @Query("SELECT SUM(l.esgScoreEffect) FROM LifeLog l WHERE l.user.id = :userId AND l.category = :category")
         BigDecimal sumScoreByCategory(@Param("userId") Long userId, @Param("category") LifeLog.Category category);
 
+    // 세그먼트 랭킹 적재용 (userId, category, loggedAt, esgScoreEffect)
+    @Query("SELECT l.user.id, l.category, l.loggedAt, l.esgScoreEffect FROM LifeLog l WHERE l.loggedAt >= :since")
+    List<Object[]> findScoreEventsSince(@Param("since") LocalDateTime since);
+
 }
@@ -0,0 +1,49 @@
+package com.matchaworld.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리 시각이 도래한 대기 이벤트 ID (오래된 순)
+    @Query("""
+        SELECT e.id
+        FROM OutboxEvent e
+        WHERE e.status = com.matchaworld.backend.domain.OutboxEvent.Status.PENDING
+          AND e.nextAttemptAt <= :now
+        ORDER BY e.id
+    """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리 선점 (행 잠금 획득) - 이미 처리됐거나 재시도 대기 중이면 0
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.nextAttemptAt = :now
+        WHERE e.id = :id
+          AND e.status = com.matchaworld.backend.domain.OutboxEvent.Status.PENDING
+          AND e.nextAttemptAt <= :now
+    """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 처리 완료 이벤트 정리
+    @Modifying
+    @Query("""
+        DELETE FROM OutboxEvent e
+        WHERE e.status = com.matchaworld.backend.domain.OutboxEvent.Status.DONE
+          AND e.processedAt < :before
+    """)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+
+    long countByStatus(OutboxEvent.Status status);
+}
@@ -1,17 +1,23 @@
 package com.matchaworld.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.matchaworld.backend.domain.Quest;
 import com.matchaworld.backend.domain.Quest.Type;
 import com.matchaworld.backend.dto.response.quest.QuestResponse;
 
+import jakarta.persistence.QueryHint;
+
 public interface QuestRepository
         extends JpaRepository<Quest, Long>, JpaSpecificationExecutor<Quest> {
 
@@ -22,6 +28,7 @@ public interface QuestRepository
     List<Quest> findAllByType(Type type);
 
     // 활성화 여부 포함 조회 (랜덤 지급용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Quest> findByTypeAndIsActive(Type type, boolean isActive);
 
     // 유저에게 부여된 퀘스트 전체 조회 (진행중 + 완료 포함)
@@ -92,5 +99,11 @@ public interface QuestRepository
     // 활성화된 퀘스트 수 확인
     long countByIsActive(boolean isActive);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Quest> findByIsActive(Boolean isActive);
+
+    // 기간 만료 퀘스트 일괄 비활성화 (타입별 단일 UPDATE 문)
+    @Modifying
+    @Query("UPDATE Quest q SET q.isActive = false WHERE q.isActive = true AND q.type = :type AND q.createdAt < :cutoff")
+    int deactivateCreatedBefore(@Param("type") Type type, @Param("cutoff") LocalDateTime cutoff);
 }
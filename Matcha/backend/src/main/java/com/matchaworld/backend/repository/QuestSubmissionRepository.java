@@ -0,0 +1,23 @@
+package com.matchaworld.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.QuestSubmission;
+
+@Repository
+public interface QuestSubmissionRepository extends JpaRepository<QuestSubmission, Long> {
+
+    Optional<QuestSubmission> findByUserIdAndQuestIdAndIdempotencyKey(Long userId, Long questId, String idempotencyKey);
+
+    // 보관 기간이 지난 멱등키 정리
+    @Modifying
+    @Query("DELETE FROM QuestSubmission s WHERE s.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
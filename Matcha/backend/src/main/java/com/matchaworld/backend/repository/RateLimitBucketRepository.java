@@ -0,0 +1,37 @@
+package com.matchaworld.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.RateLimitBucket;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    // 버킷 행 잠금 조회 (같은 키 동시 요청은 순서대로 소비)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RateLimitBucket b WHERE b.bucketKey = :bucketKey")
+    Optional<RateLimitBucket> findForUpdate(@Param("bucketKey") String bucketKey);
+
+    // 최초 요청: 토큰 1개를 쓴 상태로 생성 (동시 생성은 PK 충돌 → 잠금 조회로 재시도)
+    @Modifying
+    @Query(value = """
+        INSERT INTO RATE_LIMIT_BUCKET (BUCKET_KEY, TOKENS, REFILLED_AT)
+        VALUES (:bucketKey, :tokens, :refilledAt)
+    """, nativeQuery = true)
+    int insertBucket(@Param("bucketKey") String bucketKey,
+                     @Param("tokens") double tokens,
+                     @Param("refilledAt") long refilledAt);
+
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.refilledAt < :before")
+    int deleteRefilledBefore(@Param("before") long before);
+}
@@ -0,0 +1,19 @@
+package com.matchaworld.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.SchedulerJobRun;
+
+@Repository
+public interface SchedulerJobRunRepository extends JpaRepository<SchedulerJobRun, Long> {
+
+    @Modifying
+    @Query("DELETE FROM SchedulerJobRun r WHERE r.startedAt < :before")
+    int deleteStartedBefore(@Param("before") LocalDateTime before);
+}
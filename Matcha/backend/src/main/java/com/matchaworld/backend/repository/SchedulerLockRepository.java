@@ -0,0 +1,49 @@
+package com.matchaworld.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.SchedulerLock;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행 최초 생성 (동시에 생성하면 PK 충돌 → 한 노드만 성공)
+    @Modifying
+    @Query(value = """
+        INSERT INTO SCHEDULER_LOCK (NAME, LOCKED_UNTIL, LOCKED_AT, LOCKED_BY)
+        VALUES (:name, :lockedUntil, :now, :node)
+    """, nativeQuery = true)
+    int insertLock(@Param("name") String name,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil,
+                   @Param("node") String node);
+
+    // 만료된 잠금만 가져감 (조건부 UPDATE → 영향 행 1 이면 획득)
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLock l
+        SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :node
+        WHERE l.name = :name AND l.lockedUntil <= :now
+    """)
+    int tryLock(@Param("name") String name,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("node") String node);
+
+    // 보유 노드만 해제 (lockedUntil 을 최소 보유 시각까지 당김)
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLock l
+        SET l.lockedUntil = :lockedUntil
+        WHERE l.name = :name AND l.lockedBy = :node
+    """)
+    int unlock(@Param("name") String name,
+               @Param("lockedUntil") LocalDateTime lockedUntil,
+               @Param("node") String node);
+}
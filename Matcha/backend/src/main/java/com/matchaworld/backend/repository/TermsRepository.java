@@ -3,18 +3,24 @@ package com.matchaworld.backend.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.matchaworld.backend.domain.Terms;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TermsRepository extends JpaRepository<Terms, Long> {
     
     // 모든 약관 조회 (최신순)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Terms> findAllByOrderByCreatedAtDesc();
     
     // 필수 약관만 조회
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Terms> findByIsRequiredTrueOrderByCreatedAtDesc();
     
     // 제목으로 약관 조회
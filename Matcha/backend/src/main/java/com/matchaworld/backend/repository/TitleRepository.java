@@ -1,13 +1,23 @@
 package com.matchaworld.backend.repository;
 
 import com.matchaworld.backend.domain.Title;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TitleRepository extends JpaRepository<Title, Long>, JpaSpecificationExecutor<Title> {
     
+    // 전체 칭호 (쿼리 캐시 사용)
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Title> findAll();
+
     // 칭호명 중복 체크
     boolean existsByName(String name);
 }
\ No newline at end of file
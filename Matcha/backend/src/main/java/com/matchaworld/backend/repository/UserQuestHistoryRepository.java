@@ -0,0 +1,33 @@
+package com.matchaworld.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.matchaworld.backend.domain.UserQuestHistory;
+
+@Repository
+public interface UserQuestHistoryRepository extends JpaRepository<UserQuestHistory, Long> {
+
+    // 완료된 사용자 퀘스트를 한 문장으로 이관 (이미 이관된 행은 건너뜀 → 재실행 안전)
+    @Modifying
+    @Query(value = """
+        INSERT INTO USER_QUEST_HISTORY
+            (UQ_ID, USER_ID, QUEST_ID, STATUS, ATTEMPT_COUNT, STARTED_AT, COMPLETED_AT, SEASON_START, ARCHIVED_AT)
+        SELECT uq.UQ_ID, uq.USER_ID, uq.QUEST_ID, uq.STATUS, uq.ATTEMPT_COUNT, uq.STARTED_AT, uq.COMPLETED_AT,
+               :seasonStart, :archivedAt
+        FROM USER_QUEST uq
+        WHERE uq.UQ_ID IN (:ids)
+          AND uq.STATUS = 'SUCCESS'
+          AND NOT EXISTS (SELECT 1 FROM USER_QUEST_HISTORY h WHERE h.UQ_ID = uq.UQ_ID)
+    """, nativeQuery = true)
+    int archiveCompleted(@Param("ids") List<Long> ids,
+                         @Param("seasonStart") LocalDate seasonStart,
+                         @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -1,9 +1,12 @@
 package com.matchaworld.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -38,10 +41,35 @@ public interface UserQuestRepository extends JpaRepository<UserQuest, Long> {
         @Query("SELECT uq FROM UserQuest uq WHERE uq.quest.type = :type")
         List<UserQuest> findByQuestType(@Param("type") Quest.Type type);
 
+        // 지난 시즌(또는 시작 시각 없는) 사용자 퀘스트 ID (키셋 페이지, 시즌 초기화 청크 단위)
+        @Query("""
+            SELECT uq.id FROM UserQuest uq
+            WHERE uq.quest.type = :type
+              AND (uq.startedAt < :before OR uq.startedAt IS NULL)
+              AND uq.id > :afterId
+            ORDER BY uq.id
+        """)
+        List<Long> findIdsByQuestTypeStartedBefore(
+                @Param("type") Type type,
+                @Param("before") LocalDateTime before,
+                @Param("afterId") Long afterId,
+                Pageable pageable
+        );
+
+        // ID 목록 일괄 삭제 (단일 DELETE 문)
+        @Modifying
+        @Query("DELETE FROM UserQuest uq WHERE uq.id IN :ids")
+        int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
         // 특정 유저가 특정 퀘스트를 이미 가지고 있는지 확인
         boolean existsByUserIdAndQuestId(Long userId, Long questId);
 
         // 특정 사용자의 퀘스트 중 지정된 퀘스트 제목과 상태(SUCCESS 등)에 해당하는 개수를 반환
         long countByUserAndQuest_TitleAndStatus(User user, String title, UserQuest.Status status);
 
+        // 세그먼트 랭킹 적재용 완료 내역 (userId, quest category, quest type, completedAt)
+        @Query("SELECT uq.user.id, q.category, q.type, uq.completedAt FROM UserQuest uq JOIN uq.quest q " +
+               "WHERE uq.status = 'SUCCESS' AND uq.completedAt >= :since")
+        List<Object[]> findCompletionEventsSince(@Param("since") LocalDateTime since);
+
 }
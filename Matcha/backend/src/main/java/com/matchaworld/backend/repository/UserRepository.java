@@ -17,14 +17,17 @@ import jakarta.transaction.Transactional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
-        // ✅ E, S, ESG 점수를 즉시 반영 (flush + commit)
+        // ✅ E, S, ESG 점수 + 캐릭터를 즉시 반영 (flush + commit)
+    // 버전도 함께 올려 동시에 진행 중인 엔티티 갱신이 낙관적 락으로 충돌을 감지하도록 함
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
-    @Query("UPDATE User u SET u.eScore = :e, u.sScore = :s, u.esgScore = :total WHERE u.id = :userId")
+    @Query("UPDATE User u SET u.eScore = :e, u.sScore = :s, u.esgScore = :total, u.character = :character, "
+            + "u.version = u.version + 1 WHERE u.id = :userId")
     void updateScores(@Param("userId") Long userId,
                       @Param("e") int e,
                       @Param("s") int s,
-                      @Param("total") int total);
+                      @Param("total") int total,
+                      @Param("character") String character);
     
     // 이메일로 사용자 찾기
     Optional<User> findByEmail(String email);
@@ -44,4 +47,8 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     List<User> findAllByOrderByEsgScoreDesc();
 
     long countByEsgScoreGreaterThan(Integer score);
+
+    // 점수별 인원 수 (근사 순위 히스토그램 적재용)
+    @Query("SELECT u.esgScore, COUNT(u) FROM User u GROUP BY u.esgScore")
+    List<Object[]> countGroupByEsgScore();
 }
\ No newline at end of file
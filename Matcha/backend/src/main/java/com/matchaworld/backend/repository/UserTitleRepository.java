@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import com.matchaworld.backend.domain.Title;
 import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.domain.UserTitle;
+import com.matchaworld.backend.dto.response.my.ProfileTitleRow;
 
 @Repository
 public interface UserTitleRepository extends JpaRepository<UserTitle, Long> {
@@ -33,6 +34,23 @@ public interface UserTitleRepository extends JpaRepository<UserTitle, Long> {
     @Query("UPDATE UserTitle ut SET ut.isMain = false WHERE ut.user.id = :userId")
     void clearMainTitle(@Param("userId") Long userId);
 
+    // 프로필 칭호 목록 (전체 칭호 LEFT JOIN 사용자 보유 칭호, 한 번의 쿼리)
+    @Query("""
+    SELECT new com.matchaworld.backend.dto.response.my.ProfileTitleRow(
+        t.id,
+        t.name,
+        t.description,
+        ut.earnedAt,
+        ut.isMain
+    )
+    FROM Title t
+    LEFT JOIN UserTitle ut
+      ON ut.title.id = t.id
+     AND ut.user.id = :userId
+    ORDER BY t.id
+    """)
+    List<ProfileTitleRow> findProfileTitleRows(@Param("userId") Long userId);
+
     // 사용자가 이미 특정 칭호를 보유하고 있는지 여부를 확인
     boolean existsByUserAndTitle(User user, Title title);
 }
\ No newline at end of file
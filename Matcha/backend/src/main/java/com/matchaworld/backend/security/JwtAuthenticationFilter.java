@@ -84,31 +84,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String method = request.getMethod();
 
-        log.info("========================================");
-        log.info("🌐 JWT Filter Start - {} {}", method, requestURI);
-        log.info("========================================");
+        log.debug("🌐 JWT Filter Start - {} {}", method, requestURI);
 
         try {
             String token = extractTokenFromRequest(request);
 
             if (token == null) {
-                log.warn("⚠️ No token found in Authorization header");
+                log.debug("⚠️ No token found in Authorization header");
             } else {
-                log.info("✅ Token found: {}...", token.substring(0, Math.min(20, token.length())));
+                if (log.isTraceEnabled()) {
+                    log.trace("✅ Token found: {}...", token.substring(0, Math.min(20, token.length())));
+                }
 
                 // JWT 유효성 검증
                 if (jwtService.validateToken(token)) {
-                    log.info("✅ Token is valid");
-
                     String tokenType = jwtService.getTokenType(token);
-                    log.info("📝 Token type: {}", tokenType);
 
                     if ("access".equals(tokenType)) {
                         Long userId = jwtService.getUserIdFromToken(token);
-                        String email = jwtService.getEmailFromToken(token);
                         String role = jwtService.getRoleFromToken(token);
 
-                        log.info("🔐 JWT Data - userId: {}, email: {}, role: {}", userId, email, role);
+                        log.debug("🔐 JWT Data - userId: {}, role: {}", userId, role);
 
                         if (role != null && !role.isEmpty()) {
                             String authority = "ROLE_" + role;
@@ -121,8 +117,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                             SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                            log.info("✅ SecurityContext set successfully");
                         } else {
                             throw new JwtException("권한 정보가 없습니다."); // 수정 이유: null role 예외 처리 통일
                         }
@@ -143,9 +137,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             setErrorResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
         }
-
-        log.info("🔚 JWT Filter End - Proceeding to next filter");
-        log.info("========================================");
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
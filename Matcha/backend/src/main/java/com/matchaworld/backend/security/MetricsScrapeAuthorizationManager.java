@@ -0,0 +1,79 @@
+package com.matchaworld.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ /actuator/prometheus 접근 제어
+ * - ADMIN JWT 또는 스크레이프 전용 Basic 인증 (Prometheus scrape_config 의 basic_auth)
+ * - 비밀번호(app.metrics.scrape.password)가 비어 있으면 Basic 경로는 꺼지고 ADMIN 만 허용
+ * - Basic 헤더는 JwtAuthenticationFilter 가 무시하므로 JWT 검증과 충돌하지 않음
+ */
+@Component
+public class MetricsScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final byte[] expectedCredentials;
+
+    public MetricsScrapeAuthorizationManager(@Value("${app.metrics.scrape.username:prometheus}") String username,
+                                             @Value("${app.metrics.scrape.password:}") String password) {
+        this.expectedCredentials = password.isBlank()
+                ? null
+                : (username + ":" + password).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    // 추상 메서드라 구현은 남기되 authorize 와 같은 판정 (Spring Security 6.4 부터 deprecated)
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isAdmin(authentication.get())
+                || hasScrapeCredentials(context.getRequest().getHeader("Authorization")));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasScrapeCredentials(String header) {
+        if (expectedCredentials == null || header == null || !header.startsWith(BASIC_PREFIX)) {
+            return false;
+        }
+        byte[] presented;
+        try {
+            presented = Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // 길이/내용 비교 시간을 일정하게 (타이밍으로 비밀번호 추측 방지)
+        return MessageDigest.isEqual(presented, expectedCredentials);
+    }
+}
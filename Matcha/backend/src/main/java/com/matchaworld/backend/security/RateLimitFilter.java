@@ -0,0 +1,96 @@
+package com.matchaworld.backend.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.matchaworld.backend.security.ratelimit.RateLimitProperties;
+import com.matchaworld.backend.security.ratelimit.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 비용 큰 엔드포인트 요청 제한 (JwtAuthenticationFilter 다음)
+ * - 경로별 토큰 버킷, 키는 JWT 사용자 ID (비로그인 / IP 지정 경로는 클라이언트 IP)
+ * - 한도 초과 시 429 + Retry-After
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimitProperties.Route route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String bucketKey = route.getName() + ":" + resolveKey(route, request);
+        long waitMillis = rateLimiter.tryConsume(bucketKey, route.getCapacity(), route.getRefillPerMinute());
+        if (waitMillis > 0) {
+            meterRegistry.counter("matcha.rate-limit.rejected", "route", route.getName()).increment();
+            log.debug("[RATE-LIMIT] 한도 초과 → {} ({}ms 후 재시도)", bucketKey, waitMillis);
+            setTooManyRequests(response, waitMillis);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if ((route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 로그인 사용자는 userId, 그 외는 클라이언트 IP (server.forward-headers-strategy 로 프록시 뒤 실제 IP)
+    private String resolveKey(RateLimitProperties.Route route, HttpServletRequest request) {
+        if (route.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void setTooManyRequests(HttpServletResponse response, long waitMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"success\":false,\"message\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.\"}");
+    }
+}
@@ -0,0 +1,99 @@
+package com.matchaworld.backend.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.RateLimitBucket;
+import com.matchaworld.backend.repository.RateLimitBucketRepository;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ DB 공유 토큰 버킷 (app.rate-limit.backend=db, 여러 노드 운영 시)
+ * - 버킷 행을 잠금 조회 → 충전/소비 → 갱신 (요청당 짧은 트랜잭션 1회)
+ * - DB 오류 시 허용 (제한기 장애로 서비스를 막지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "db")
+public class DatabaseRateLimiter implements RateLimiter {
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final LockedJobRunner lockedJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final long idleTtlMillis;
+
+    public DatabaseRateLimiter(RateLimitBucketRepository rateLimitBucketRepository,
+                               LockedJobRunner lockedJobRunner,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.rate-limit.db.idle-ttl-ms:3600000}") long idleTtlMillis) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.lockedJobRunner = lockedJobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idleTtlMillis = idleTtlMillis;
+    }
+
+    @Override
+    public long tryConsume(String bucketKey, int capacity, int refillPerMinute) {
+        try {
+            Long wait = transactionTemplate.execute(status -> consumeLocked(bucketKey, capacity, refillPerMinute));
+            if (wait != null) {
+                return wait;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        rateLimitBucketRepository.insertBucket(bucketKey, capacity - 1, System.currentTimeMillis()));
+                return 0;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 생성 → 생성된 행에서 소비
+                Long retried = transactionTemplate.execute(status -> consumeLocked(bucketKey, capacity, refillPerMinute));
+                return retried == null ? 0 : retried;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[RATE-LIMIT] 버킷 조회 실패 → 허용 (key={}): {}", bucketKey, e.getMessage());
+            return 0;
+        }
+    }
+
+    // 버킷이 없으면 null
+    private Long consumeLocked(String bucketKey, int capacity, int refillPerMinute) {
+        Optional<RateLimitBucket> found = rateLimitBucketRepository.findForUpdate(bucketKey);
+        if (found.isEmpty()) {
+            return null;
+        }
+        RateLimitBucket bucket = found.get();
+        long now = System.currentTimeMillis();
+        double tokensPerMilli = refillPerMinute / 60_000.0;
+        double tokens = TokenBucket.refill(bucket.getTokens(), bucket.getRefilledAt(), capacity, tokensPerMilli, now);
+        if (tokens < 1) {
+            return TokenBucket.millisUntilNextToken(tokens, tokensPerMilli);
+        }
+        bucket.setTokens(tokens - 1);
+        bucket.setRefilledAt(Math.max(bucket.getRefilledAt(), now));
+        return 0L;
+    }
+
+    /**
+     * 오래 쓰지 않은 버킷 정리 (매시 15분, 한 노드에서만)
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeIdleBuckets() {
+        lockedJobRunner.run("rate-limit-bucket-purge", Duration.ofMinutes(5), () -> {
+            Integer deleted = transactionTemplate.execute(status ->
+                    rateLimitBucketRepository.deleteRefilledBefore(System.currentTimeMillis() - idleTtlMillis));
+            log.debug("[RATE-LIMIT] 유휴 버킷 정리 → {}건", deleted);
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.matchaworld.backend.security.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 노드별 인메모리 토큰 버킷 (app.rate-limit.backend=memory, 기본값)
+ * - 버킷 조회/생성은 ConcurrentHashMap, 소비는 버킷 단위 CAS (요청 경로에 락 없음)
+ * - 가득 찬(오래 쓰지 않은) 버킷은 주기적으로 제거 → 다음 요청 시 가득 찬 버킷으로 재생성되므로 결과 동일
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryConsume(String bucketKey, int capacity, int refillPerMinute) {
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(bucketKey, key -> new TokenBucket(capacity, refillPerMinute, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval-ms:60000}")
+    public void evictFullBuckets() {
+        long now = System.currentTimeMillis();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (before > 0) {
+            log.debug("[RATE-LIMIT] 유휴 버킷 정리 → {} / {}", before - buckets.size(), before);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.matchaworld.backend.security.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ✅ 경로별 토큰 버킷 설정 (app.rate-limit.*)
+ * - capacity: 순간 최대 허용 요청 수, refill-per-minute: 분당 채워지는 토큰 수
+ * - key: USER (JWT 사용자, 비로그인은 IP) / IP
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType { USER, IP }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private String pattern;
+        private String method;
+        private KeyType key = KeyType.USER;
+        private int capacity;
+        private int refillPerMinute;
+    }
+}
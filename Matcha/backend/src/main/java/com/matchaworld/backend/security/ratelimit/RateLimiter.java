@@ -0,0 +1,15 @@
+package com.matchaworld.backend.security.ratelimit;
+
+/**
+ * ✅ 토큰 버킷 저장소 (app.rate-limit.backend)
+ * - memory : 노드별 버킷 (기본값, 노드 수만큼 한도가 늘어남)
+ * - db     : RATE_LIMIT_BUCKET 테이블 공유 버킷 (여러 노드가 같은 한도를 나눠 씀)
+ */
+public interface RateLimiter {
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 밀리초
+     */
+    long tryConsume(String bucketKey, int capacity, int refillPerMinute);
+}
@@ -0,0 +1,57 @@
+package com.matchaworld.backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ✅ 잠금 없는 토큰 버킷 (불변 상태 + CAS)
+ * - 소비 시점에 경과 시간만큼 토큰을 채우므로 별도 충전 스레드 없음
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long refilledAtMillis) {
+    }
+
+    private final int capacity;
+    private final double tokensPerMilli;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, int refillPerMinute, long nowMillis) {
+        this.capacity = capacity;
+        this.tokensPerMilli = refillPerMinute / 60_000.0;
+        this.state = new AtomicReference<>(new State(capacity, nowMillis));
+    }
+
+    /**
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 밀리초
+     */
+    long tryConsume(long nowMillis) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current.tokens(), current.refilledAtMillis(), capacity, tokensPerMilli, nowMillis);
+            if (tokens < 1) {
+                return millisUntilNextToken(tokens, tokensPerMilli);
+            }
+            State next = new State(tokens - 1, Math.max(current.refilledAtMillis(), nowMillis));
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 마지막 소비 이후 가득 찰 만큼 시간이 지났는지 (정리 대상)
+     */
+    boolean isFull(long nowMillis) {
+        State current = state.get();
+        return refill(current.tokens(), current.refilledAtMillis(), capacity, tokensPerMilli, nowMillis) >= capacity;
+    }
+
+    static double refill(double tokens, long refilledAtMillis, int capacity, double tokensPerMilli, long nowMillis) {
+        long elapsed = Math.max(0, nowMillis - refilledAtMillis);
+        return Math.min(capacity, tokens + elapsed * tokensPerMilli);
+    }
+
+    static long millisUntilNextToken(double tokens, double tokensPerMilli) {
+        return tokensPerMilli <= 0 ? Long.MAX_VALUE : Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerMilli));
+    }
+}
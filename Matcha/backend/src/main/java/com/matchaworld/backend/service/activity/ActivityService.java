@@ -1,11 +1,13 @@
 package com.matchaworld.backend.service.activity;
 
 import com.matchaworld.backend.domain.LifeLog;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.dto.response.activity.ActivityResponse;
 import com.matchaworld.backend.dto.response.dailyscore.DailyScoreResponse;
 import com.matchaworld.backend.repository.LifeLogRepository;
 import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.my.CharacterTier;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class ActivityService {
 
     private final LifeLogRepository lifeLogRepository;
     private final UserRepository userRepository;
+    private final MyActivityCache myActivityCache;
 
     /**
      * ✅ 사용자별 E/S/ESG 점수 계산
@@ -42,7 +45,31 @@ public class ActivityService {
     }
 
     /**
-     * ✅ USER 테이블의 점수를 즉시 갱신
+     * ✅ 내 점수 + 캐릭터 조회 (쓰기 없음)
+     * - totalScore = 퀘스트 점수(USER.ESG_SCORE) + E + S, 캐릭터는 E+S 단계로 계산만 함
+     * - USER 의 E/S 동기화와 캐릭터 저장은 점수 쓰기 경로와 자정 스케줄러가 담당
+     */
+    @Transactional(readOnly = true)
+    public ActivityResponse getMyActivity(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Map<String, Integer> scores = calculateUserScores(userId);
+        int e = scores.get("eScore");
+        int s = scores.get("sScore");
+        int questScore = user.getEsgScore() != null ? user.getEsgScore() : 0;
+
+        return ActivityResponse.builder()
+                .totalScore(questScore + e + s)
+                .esgScore(questScore)
+                .eScore(e)
+                .sScore(s)
+                .characterUrl(CharacterTier.url(scores.get("esgScore")))
+                .build();
+    }
+
+    /**
+     * ✅ USER 테이블의 점수를 즉시 갱신 (캐릭터는 단계가 바뀐 경우만)
      */
     @Transactional
     public void updateUserScores(Long userId) {
@@ -61,13 +88,16 @@ public class ActivityService {
         user.setEScore(eScore);
         user.setSScore(sScore);
         user.setEsgScore(currentEsg);
+        CharacterTier.apply(user, scores.get("esgScore"));
         userRepository.saveAndFlush(user);
+        myActivityCache.evict(userId);
     }
 
 
     /**
      * ✅ 기간별 점수 (차트용)
      */
+    @Transactional(readOnly = true)
     public List<DailyScoreResponse> getScoresByPeriod(
             Long userId,
             LifeLog.Category category,
@@ -91,6 +121,7 @@ public class ActivityService {
     /**
      * ✅ 최근 로그 (E/S 구분) - E: 최근 7일 - S: 최근 30일
      */
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getRecentLogs(Long userId, LifeLog.Category category, int limit) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime start = (category == LifeLog.Category.E)
@@ -115,9 +146,8 @@ public class ActivityService {
     }
 
     /**
-     * ✅ 매일 자정에 전체 사용자 ESG 점수 자동 업데이트
+     * ✅ 전체 사용자 ESG 점수 업데이트 (매일 자정, SchedulerConfig 가 한 노드에서만 호출)
      */
-    @Scheduled(cron = "0 0 0 * * *")
     public void updateAllUserScores() {
         userRepository.findAll().forEach(user -> updateUserScores(user.getId()));
         System.out.println("[Scheduler] ✅ 모든 사용자 ESG 점수 자동 업데이트 완료");
@@ -0,0 +1,83 @@
+package com.matchaworld.backend.service.activity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.dto.response.activity.ActivityResponse;
+import com.matchaworld.backend.support.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ✅ 사용자별 /api/activity/me 응답 캐시 (노드 로컬, 홈 화면 폴링 대응)
+ * - 점수 쓰기 경로(기록 추가/수정/삭제, 퀘스트 보상, 관리자 수정, 점수 동기화)에서 evict
+ * - evict 는 즉시 + 커밋 이후 두 번 (커밋 전 동시 조회가 이전 값을 다시 적재하는 경우 방지)
+ * - 조회 중에 evict 가 끼어들면 읽은 값을 저장하지 않음 (세대 번호 비교, TitleCatalog 와 같은 방식)
+ * - 다른 노드의 쓰기는 ttl 이 지나야 반영 → ttl 은 짧게 유지
+ * - 지표: matcha.activity.me.cache{result}
+ */
+@Component
+public class MyActivityCache {
+
+    private record Entry(ActivityResponse response, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public MyActivityCache(@Value("${app.activity.me-cache-ttl-seconds:15}") long ttlSeconds,
+                           MeterRegistry meterRegistry) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.hits = meterRegistry.counter("matcha.activity.me.cache", "result", "hit");
+        this.misses = meterRegistry.counter("matcha.activity.me.cache", "result", "miss");
+    }
+
+    public ActivityResponse get(Long userId, Supplier<ActivityResponse> loader) {
+        Entry entry = entries.get(userId);
+        if (entry != null && System.nanoTime() - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry.response();
+        }
+        misses.increment();
+        long loadedAt = generation.get();
+        ActivityResponse response = loader.get();
+        if (ttlNanos > 0 && generation.get() == loadedAt) {
+            Entry loaded = new Entry(response, System.nanoTime() + ttlNanos);
+            entries.put(userId, loaded);
+            // 비교와 저장 사이에 evict 가 지나갔으면 방금 넣은 값만 되돌림
+            if (generation.get() != loadedAt) {
+                entries.remove(userId, loaded);
+            }
+        }
+        return response;
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.remove(userId);
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        });
+    }
+
+    // 만료 항목 정리 (다시 조회되지 않은 사용자 엔트리 누적 방지)
+    @Scheduled(fixedDelayString = "${app.activity.me-cache-cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(e -> now - e.expiresAtNanos() >= 0);
+    }
+}
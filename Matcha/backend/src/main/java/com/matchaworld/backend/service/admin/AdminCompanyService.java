@@ -1,27 +1,28 @@
 package com.matchaworld.backend.service.admin;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.matchaworld.backend.domain.Company;
 import com.matchaworld.backend.domain.EsgCategory;
 import com.matchaworld.backend.repository.CompanyRepository;
 import com.matchaworld.backend.repository.EsgCategoryRepository;
+import com.matchaworld.backend.service.admin.search.AdminSearchPager;
+import com.matchaworld.backend.service.admin.search.SearchTarget;
+import com.matchaworld.backend.service.storage.StorageService;
 
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
@@ -36,56 +37,29 @@ public class AdminCompanyService {
 
     private final CompanyRepository companyRepository;
     private final EsgCategoryRepository esgCategoryRepository;
-
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
-
-    @Value("${file.base-url:http://localhost:8080}")
-    private String baseUrl;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
+    private final AdminSearchPager adminSearchPager;
+    private final StorageService storageService;
 
     /**
      * 기업 목록 조회 (검색, 카테고리 필터, 페이지네이션)
      */
     @Transactional(readOnly = true)
     public Page<Company> searchCompanies(String keyword, String categoryName, Pageable pageable) {
-        Specification<Company> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // Fetch Join으로 카테고리 미리 로드
-            if (query != null && query.getResultType() != Long.class) { // count 쿼리 실행 시 fetch join으로 인한 Hibernate 오류 방지
-                root.fetch("categories", JoinType.LEFT);
-                query.distinct(true); // 중복 제거
-            }
-
-            // 키워드 검색 (기업명)
-            if (keyword != null && !keyword.isEmpty()) {
-                Predicate namePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("companyName")),
-                        "%" + keyword.toLowerCase() + "%"
-                );
-                predicates.add(namePredicate);
-            }
-
-            // 카테고리 필터
-            if (categoryName != null && !categoryName.isEmpty()) {
-                Join<Object, Object> categoryJoin = root.join("categories", JoinType.LEFT);
-                predicates.add(criteriaBuilder.equal(
-                        categoryJoin.get("categoryName"),
-                        categoryName
-                ));
-            }
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-
-        Page<Company> companies = companyRepository.findAll(spec, pageable);
-
-        // 각 기업의 카테고리를 명시적으로 로드 (Lazy Loading 방지)
-        companies.getContent().forEach(company -> {
-            company.getCategories().size(); // 강제 초기화
-        });
-
-        return companies;
+        // 카테고리 필터
+        Specification<Company> filters = (categoryName == null || categoryName.isEmpty()) ? null
+                : (root, query, criteriaBuilder) -> {
+                    Join<Object, Object> categoryJoin = root.join("categories", JoinType.LEFT);
+                    return criteriaBuilder.equal(categoryJoin.get("categoryName"), categoryName);
+                };
+
+        // 키워드 검색 (기업명) - 검색 인덱스 후보가 너무 많을 때만 사용
+        Specification<Company> keywordFallback = (root, query, criteriaBuilder) -> criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("companyName")), "%" + keyword.toLowerCase() + "%");
+
+        // 1단계: 기업 ID 페이지 조회 / 2단계: 해당 ID 의 기업 + 카테고리를 IN 쿼리 한 번으로 로드
+        return adminSearchPager.page(SearchTarget.COMPANY, keyword, filters, keywordFallback,
+                pageable, companyRepository::findAllWithCategoriesByIdIn);
     }
 
     /**
@@ -145,6 +119,7 @@ public class AdminCompanyService {
                 .build();
 
         Company savedCompany = companyRepository.save(company);
+        referenceCacheEvictor.evictCompanies();
 
         // 저장 후 카테고리 정보 로드
         savedCompany.getCategories().size();
@@ -177,14 +152,10 @@ public class AdminCompanyService {
 
         String logoUrl = companyLogoUrl;
 
-        // 새 파일 업로드가 있는 경우
+        // 새 파일 업로드가 있는 경우 - 검증/업로드가 끝난 뒤에만 기존 파일 정리
         if (logoFile != null && !logoFile.isEmpty()) {
-            // 기존 파일 삭제
-            if (company.getCompanyLogo() != null && company.getCompanyLogo().contains("/uploads/")) {
-                deleteImageByUrl(company.getCompanyLogo());
-            }
-
             logoUrl = uploadImage(logoFile, "logo");
+            deleteLogoAfterCompletion(company.getCompanyLogo(), logoUrl);
         }
 
         // 카테고리 업데이트
@@ -201,6 +172,7 @@ public class AdminCompanyService {
         company.getCategories().addAll(categories);
 
         Company updatedCompany = companyRepository.save(company);
+        referenceCacheEvictor.evictCompanies();
 
         // 업데이트 후 카테고리 정보 로드
         updatedCompany.getCategories().size();
@@ -224,12 +196,11 @@ public class AdminCompanyService {
             company.getCategories().clear();
         }
 
-        // 로고 파일 삭제
-        if (company.getCompanyLogo() != null && company.getCompanyLogo().contains("/uploads/")) {
-            deleteImageByUrl(company.getCompanyLogo());
-        }
+        // 로고 파일 삭제 (커밋 이후)
+        deleteLogoAfterCompletion(company.getCompanyLogo(), null);
 
         companyRepository.delete(company);
+        referenceCacheEvictor.evictCompanies();
         log.info("기업 삭제됨: ID={}, 이름={}", id, company.getCompanyName());
     }
 
@@ -249,39 +220,22 @@ public class AdminCompanyService {
     }
 
     /**
-     * 이미지 파일 업로드
+     * 이미지 파일 업로드 (StorageService 로 스트리밍 저장)
      */
     private String uploadImage(MultipartFile file, String type) {
-        try {
-            // 파일 검증
-            if (!file.getContentType().startsWith("image/")) {
-                throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
-            }
-
-            if (file.getSize() > 5 * 1024 * 1024) {
-                throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
-            }
-
-            // 디렉토리 생성
-            Path typePath = Paths.get(uploadDir, type);
-            if (!Files.exists(typePath)) {
-                Files.createDirectories(typePath);
-            }
-
-            // 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            // String extension = originalFilename != null ? 
-            //         originalFilename.substring(originalFilename.lastIndexOf(".")) : ".png";
-            String filename = UUID.randomUUID().toString() + "_" + originalFilename;
+        // 파일 검증
+        if (file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+        }
 
-            // 파일 저장
-            Path filePath = typePath.resolve(filename);
-            Files.copy(file.getInputStream(), filePath);
+        if (file.getSize() > 5 * 1024 * 1024) {
+            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
+        }
 
-            // String fileUrl = baseUrl + "/uploads/" + type + "/" + filename;
-            String fileUrl = baseUrl + "/uploads/" + type + "/" + filename;
+        try (InputStream content = file.getInputStream()) {
+            String fileUrl = storageService.store(type, file.getOriginalFilename(), file.getContentType(),
+                    file.getSize(), content);
             log.info("파일 업로드 성공: {}", fileUrl);
-
             return fileUrl;
 
         } catch (IOException e) {
@@ -291,22 +245,25 @@ public class AdminCompanyService {
     }
 
     /**
-     * URL로 이미지 파일 삭제
+     * 트랜잭션 결과에 따라 로고 파일 정리 (외부 URL 로고는 저장소가 무시)
+     * - 커밋: 더 이상 참조되지 않는 이전 로고 삭제
+     * - 롤백: 방금 올린 새 로고 삭제 (DB 에는 이전 로고가 그대로 남음)
      */
-    private void deleteImageByUrl(String url) {
-        try {
-            if (url != null && url.contains("/uploads/")) {
-                String relativePath = url.substring(url.indexOf("/uploads/") + 9);
-                Path filePath = Paths.get(uploadDir, relativePath);
-
-                if (Files.exists(filePath)) {
-                    Files.delete(filePath);
-                    log.info("파일 삭제 성공: {}", relativePath);
+    private void deleteLogoAfterCompletion(String previousLogoUrl, String uploadedLogoUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storageService.deleteByUrl(previousLogoUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    storageService.deleteByUrl(previousLogoUrl);
+                } else {
+                    storageService.deleteByUrl(uploadedLogoUrl);
                 }
             }
-        } catch (IOException e) {
-            log.error("파일 삭제 실패", e);
-        }
+        });
     }
 
     @Transactional(readOnly = true)
@@ -4,6 +4,8 @@ import com.matchaworld.backend.domain.Quest;
 import com.matchaworld.backend.dto.request.admin.QuestCreateRequest;
 import com.matchaworld.backend.dto.request.admin.QuestUpdateRequest;
 import com.matchaworld.backend.repository.QuestRepository;
+import com.matchaworld.backend.service.admin.search.AdminSearchPager;
+import com.matchaworld.backend.service.admin.search.SearchTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,28 +25,17 @@ import java.util.List;
 public class AdminQuestService {
 
     private final QuestRepository questRepository;
+    private final AdminSearchPager adminSearchPager;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
 
     /**
      * 퀘스트 목록 조회 (검색, 필터링, 페이지네이션)
      */
     @Transactional(readOnly = true)
     public Page<Quest> searchQuests(String keyword, String authType, String type, Pageable pageable) {
-        Specification<Quest> spec = (root, query, criteriaBuilder) -> {
+        Specification<Quest> filters = (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // 키워드 검색 (제목 또는 설명)
-            if (keyword != null && !keyword.isEmpty()) {
-                Predicate titlePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("title")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                Predicate descPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("description")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                predicates.add(criteriaBuilder.or(titlePredicate, descPredicate));
-            }
-
             // 타입 필터 (DAILY, WEEKLY, SEASON)
             if (type != null && !type.isEmpty()) {
                 predicates.add(criteriaBuilder.equal(
@@ -69,7 +60,13 @@ public class AdminQuestService {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        return questRepository.findAll(spec, pageable);
+        // 키워드 검색 (제목 또는 설명) - 검색 인덱스 후보가 너무 많을 때만 사용
+        Specification<Quest> keywordFallback = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + keyword.toLowerCase() + "%"),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + keyword.toLowerCase() + "%"));
+
+        return adminSearchPager.page(SearchTarget.QUEST, keyword, filters, keywordFallback, pageable,
+                questRepository::findAllById);
     }
 
     /**
@@ -101,6 +98,7 @@ public class AdminQuestService {
                 .build();
 
         Quest savedQuest = questRepository.save(quest);
+        referenceCacheEvictor.evictQuests();
         log.info("퀘스트 생성됨: ID={}, 제목={}", savedQuest.getId(), savedQuest.getTitle());
         
         return savedQuest;
@@ -124,6 +122,7 @@ public class AdminQuestService {
         quest.setConditionJson(request.getConditionJson());
 
         Quest updatedQuest = questRepository.save(quest);
+        referenceCacheEvictor.evictQuests();
         log.info("퀘스트 수정됨: ID={}, 제목={}", updatedQuest.getId(), updatedQuest.getTitle());
         
         return updatedQuest;
@@ -136,6 +135,7 @@ public class AdminQuestService {
     public void deleteQuest(Long id) {
         Quest quest = getQuestById(id);
         questRepository.delete(quest);
+        referenceCacheEvictor.evictQuests();
         log.info("퀘스트 삭제됨: ID={}, 제목={}", id, quest.getTitle());
     }
 
@@ -148,6 +148,7 @@ public class AdminQuestService {
         quest.setIsActive(!quest.getIsActive());
         
         Quest updatedQuest = questRepository.save(quest);
+        referenceCacheEvictor.evictQuests();
         log.info("퀘스트 활성화 상태 변경: ID={}, 활성화={}", id, updatedQuest.getIsActive());
         
         return updatedQuest;
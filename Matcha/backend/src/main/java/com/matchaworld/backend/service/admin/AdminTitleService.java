@@ -4,6 +4,8 @@ import com.matchaworld.backend.domain.Title;
 import com.matchaworld.backend.dto.request.admin.TitleCreateRequest;
 import com.matchaworld.backend.dto.request.admin.TitleUpdateRequest;
 import com.matchaworld.backend.repository.TitleRepository;
+import com.matchaworld.backend.service.admin.search.AdminSearchPager;
+import com.matchaworld.backend.service.admin.search.SearchTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,32 +24,21 @@ import java.util.List;
 public class AdminTitleService {
 
     private final TitleRepository titleRepository;
+    private final AdminSearchPager adminSearchPager;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
 
     /**
      * 칭호 목록 조회 (검색, 페이지네이션)
      */
     @Transactional(readOnly = true)
     public Page<Title> searchTitles(String keyword, Pageable pageable) {
-        Specification<Title> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // 키워드 검색 (칭호명 또는 설명)
-            if (keyword != null && !keyword.isEmpty()) {
-                Predicate namePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("name")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                Predicate descPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("description")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                predicates.add(criteriaBuilder.or(namePredicate, descPredicate));
-            }
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+        // 키워드 검색 (칭호명 또는 설명) - 검색 인덱스 후보가 너무 많을 때만 사용
+        Specification<Title> keywordFallback = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + keyword.toLowerCase() + "%"),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + keyword.toLowerCase() + "%"));
 
-        return titleRepository.findAll(spec, pageable);
+        return adminSearchPager.page(SearchTarget.TITLE, keyword, null, keywordFallback, pageable,
+                titleRepository::findAllById);
     }
 
     /**
@@ -76,6 +67,7 @@ public class AdminTitleService {
                 .build();
 
         Title savedTitle = titleRepository.save(title);
+        referenceCacheEvictor.evictTitles();
         log.info("칭호 생성됨: ID={}, 이름={}", savedTitle.getId(), savedTitle.getName());
         
         return savedTitle;
@@ -106,6 +98,7 @@ public class AdminTitleService {
         }
 
         Title updatedTitle = titleRepository.save(title);
+        referenceCacheEvictor.evictTitles();
         log.info("칭호 수정됨: ID={}, 이름={}, JSON={}", updatedTitle.getId(), updatedTitle.getName(), updatedTitle.getConditionJson());
         return updatedTitle;
     }
@@ -123,6 +116,7 @@ public class AdminTitleService {
         // }
         
         titleRepository.delete(title);
+        referenceCacheEvictor.evictTitles();
         log.info("칭호 삭제됨: ID={}, 이름={}", id, title.getName());
     }
 
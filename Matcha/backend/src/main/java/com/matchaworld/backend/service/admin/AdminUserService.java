@@ -11,6 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.activity.MyActivityCache;
+import com.matchaworld.backend.service.admin.search.AdminSearchPager;
+import com.matchaworld.backend.service.admin.search.SearchTarget;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
@@ -22,38 +25,25 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final AdminSearchPager adminSearchPager;
+    private final MyActivityCache myActivityCache;
 
     /**
      * 사용자 목록 조회 (검색, 필터링, 페이지네이션)
      */
     @Transactional(readOnly = true)
     public Page<User> searchUsers(String keyword, String role, Pageable pageable) {
-        Specification<User> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // 키워드 검색 (이메일 또는 닉네임)
-            if (keyword != null && !keyword.isEmpty()) {
-                Predicate emailPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("email")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                Predicate nicknamePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("nickname")), 
-                    "%" + keyword.toLowerCase() + "%"
-                );
-                predicates.add(criteriaBuilder.or(emailPredicate, nicknamePredicate));
-            }
-
-            // 권한 필터
-            if (role != null && !role.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("role"), User.Role.valueOf(role)));
-            }
-
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-
-        return userRepository.findAll(spec, pageable);
+        // 권한 필터
+        Specification<User> filters = (role == null || role.isEmpty()) ? null
+                : (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("role"), User.Role.valueOf(role));
+
+        // 키워드 검색 (이메일 또는 닉네임) - 검색 인덱스 후보가 너무 많을 때만 사용
+        Specification<User> keywordFallback = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), "%" + keyword.toLowerCase() + "%"),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("nickname")), "%" + keyword.toLowerCase() + "%"));
+
+        return adminSearchPager.page(SearchTarget.USER, keyword, filters, keywordFallback, pageable,
+                userRepository::findAllById);
     }
 
     /**
@@ -89,6 +79,7 @@ public class AdminUserService {
             user.setSScore(updateData.getSScore());
         }
 
+        myActivityCache.evict(id);
         return userRepository.save(user);
     }
 
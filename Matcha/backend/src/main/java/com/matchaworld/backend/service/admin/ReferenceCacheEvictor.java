@@ -0,0 +1,59 @@
+package com.matchaworld.backend.service.admin;
+
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.domain.Company;
+import com.matchaworld.backend.domain.EsgCategory;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.Title;
+import com.matchaworld.backend.service.title.TitleCatalog;
+import com.matchaworld.backend.support.AfterCommit;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 참조 데이터(칭호/퀘스트/기업/ESG 카테고리) 2차 캐시 명시적 무효화
+ * - 칭호는 TitleCatalog 스냅샷도 함께 무효화
+ * - 관리자 변경은 커밋 이후에 해당 엔티티 영역 + 쿼리 캐시를 비움
+ * - 커밋 전에 비우면 동시 조회가 이전 값을 다시 적재할 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TitleCatalog titleCatalog;
+
+    public void evictTitles() {
+        evictAfterCommit(Title.class);
+        AfterCommit.run(titleCatalog::invalidate);
+    }
+
+    public void evictQuests() {
+        evictAfterCommit(Quest.class);
+    }
+
+    // 기업 변경 시 카테고리(신규 생성 포함)와 기업-카테고리 컬렉션도 함께 무효화
+    public void evictCompanies() {
+        evictAfterCommit(Company.class, EsgCategory.class);
+    }
+
+    private void evictAfterCommit(Class<?>... entityClasses) {
+        Runnable evict = () -> {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            for (Class<?> entityClass : entityClasses) {
+                cache.evictEntityData(entityClass);
+                if (entityClass == Company.class) {
+                    cache.evictCollectionData(Company.class.getName() + ".categories");
+                }
+            }
+            cache.evictQueryRegions();
+            log.debug("2차 캐시 무효화: {}", (Object) entityClasses);
+        };
+        AfterCommit.run(evict);
+    }
+}
@@ -0,0 +1,22 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ✅ 관리자 검색 키워드 → 엔티티 ID 후보
+ * - memory   : 프로세스 내 2-gram 역색인 (기본값, LIKE '%kw%' 와 동일한 부분 문자열 의미)
+ * - fulltext : MariaDB FULLTEXT 인덱스 (MATCH ... AGAINST, 단어 접두어 검색)
+ * - 결과가 app.admin.search.max-candidates 를 넘으면 Optional.empty() → 호출 측이 LIKE 검색으로 폴백
+ */
+public interface AdminSearchIndex {
+
+    Optional<Set<Long>> findIds(SearchTarget target, String keyword);
+
+    // 엔티티 변경 반영 (FULLTEXT 는 DB가 관리하므로 기본 no-op)
+    default void onSaved(SearchTarget target, Long id, String... fields) {
+    }
+
+    default void onRemoved(SearchTarget target, Long id) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.matchaworld.backend.service.admin.search;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * ✅ 검색 대상 엔티티(User / Quest / Title / Company) 변경 → 관리자 검색 인덱스 갱신
+ * - 회원가입, 닉네임 변경, 관리자 CRUD 등 저장 경로가 여러 곳이라 엔티티 리스너로 처리
+ * - 검색 컬럼 값만 넘기고 재색인 여부(변경 없으면 생략)와 반영 시점은 인덱스 구현이 결정
+ */
+public class AdminSearchIndexListener {
+
+    // EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<AdminSearchIndex> searchIndex;
+
+    public AdminSearchIndexListener(ObjectProvider<AdminSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        SearchTarget target = SearchTarget.of(entity);
+        if (target != null) {
+            searchIndex.ifAvailable(index -> index.onSaved(target, target.id(entity), target.fields(entity)));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        SearchTarget target = SearchTarget.of(entity);
+        if (target != null) {
+            searchIndex.ifAvailable(index -> index.onRemoved(target, target.id(entity)));
+        }
+    }
+}
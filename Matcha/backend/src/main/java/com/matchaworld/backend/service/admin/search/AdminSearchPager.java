@@ -0,0 +1,121 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ✅ 관리자 목록 ID 우선 페이지네이션
+ * 1) 키워드 → AdminSearchIndex 로 ID 후보 (너무 많으면 기존 LIKE 조건으로 폴백)
+ * 2) 필터 + ID 후보 조건으로 "ID만" 정렬/페이지 조회 (+ 필요 시 COUNT)
+ * 3) 해당 페이지 ID 로 엔티티 일괄 조회 후 페이지 순서대로 정렬
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminSearchPager {
+
+    private final EntityManager entityManager;
+    private final AdminSearchIndex searchIndex;
+
+    /**
+     * @param filters         키워드 외 필터 (null 가능)
+     * @param keywordFallback 후보가 너무 많을 때 사용할 기존 LIKE 조건
+     * @param hydrator        페이지 ID → 엔티티 (순서 무관)
+     */
+    public <T> Page<T> page(SearchTarget target, String keyword, Specification<T> filters,
+                            Specification<T> keywordFallback, Pageable pageable,
+                            Function<List<Long>, List<T>> hydrator) {
+        Set<Long> candidates = null;
+        Specification<T> spec = filters;
+
+        if (keyword != null && !keyword.isBlank()) {
+            var ids = searchIndex.findIds(target, keyword);
+            if (ids.isPresent()) {
+                if (ids.get().isEmpty()) {
+                    return Page.empty(pageable);
+                }
+                candidates = ids.get();
+            } else {
+                spec = spec == null ? keywordFallback : spec.and(keywordFallback);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<T> entityType = (Class<T>) target.entityType();
+        List<Long> pageIds = findPageIds(entityType, spec, candidates, pageable);
+
+        List<T> rows = pageIds.isEmpty() ? List.of() : hydrator.apply(pageIds);
+        Map<Long, T> byId = rows.stream()
+                .collect(Collectors.toMap(target::id, Function.identity()));
+        List<T> content = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+
+        Specification<T> countSpec = spec;
+        Set<Long> countCandidates = candidates;
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> count(entityType, countSpec, countCandidates));
+    }
+
+    private <T> List<Long> findPageIds(Class<T> entityType, Specification<T> spec, Set<Long> candidates, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get("id")).where(predicate(root, query, cb, spec, candidates));
+
+        // 동일 정렬 값에서도 페이지 경계가 흔들리지 않도록 id 로 마무리 정렬
+        Sort sort = pageable.getSort();
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, root, cb));
+        if (sort.getOrderFor("id") == null) {
+            orders.add(cb.desc(root.get("id")));
+        }
+        query.orderBy(orders);
+
+        var typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return typed.getResultList();
+    }
+
+    private <T> long count(Class<T> entityType, Specification<T> spec, Set<Long> candidates) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root)).where(predicate(root, query, cb, spec, candidates));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> Predicate predicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                           Specification<T> spec, Set<Long> candidates) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (candidates != null) {
+            predicates.add(root.get("id").in(candidates));
+        }
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+}
@@ -0,0 +1,126 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 2-gram 역색인 (검색 대상 1개 분량)
+ * - 문서: 검색 컬럼을 소문자로 이어 붙인 문자열 (컬럼 경계를 넘는 2-gram 은 만들지 않음)
+ * - 조회: 키워드 2-gram 포스팅 교집합(작은 것부터) → contains 로 최종 확인
+ * - 관리자 화면 전용이라 동시성은 단순 synchronized (변경 여부 확인 contains 만 잠금 없이 조회)
+ */
+final class BigramIndex {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final Map<Long, String> docs = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Long>> postings = new HashMap<>();
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    synchronized void put(Long id, String... fields) {
+        remove(id);
+        String text = document(fields);
+        docs.put(id, text);
+        for (int gram : grams(text)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    synchronized void remove(Long id) {
+        String previous = docs.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 같은 검색 컬럼 값으로 이미 색인되어 있는지 (점수/버전만 바뀐 UPDATE 는 재색인 생략)
+    boolean contains(Long id, String... fields) {
+        return document(fields).equals(docs.get(id));
+    }
+
+    synchronized int size() {
+        return docs.size();
+    }
+
+    /**
+     * @return 일치 ID, limit 초과 시 null
+     */
+    synchronized Set<Long> search(String keyword, int limit) {
+        String kw = normalize(keyword);
+        Set<Long> result = new HashSet<>();
+
+        if (kw.length() < 2) {
+            for (Map.Entry<Long, String> doc : docs.entrySet()) {
+                if (doc.getValue().contains(kw) && !addWithin(result, doc.getKey(), limit)) {
+                    return null;
+                }
+            }
+            return result;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int gram : grams(kw)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return result;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        for (Long id : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(id);
+            }
+            if (inAll && docs.get(id).contains(kw) && !addWithin(result, id, limit)) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static String document(String... fields) {
+        StringBuilder doc = new StringBuilder();
+        for (String field : fields) {
+            if (doc.length() > 0) {
+                doc.append(FIELD_SEPARATOR);
+            }
+            doc.append(normalize(field));
+        }
+        return doc.toString();
+    }
+
+    private static boolean addWithin(Set<Long> result, Long id, int limit) {
+        result.add(id);
+        return result.size() <= limit;
+    }
+
+    private static Set<Integer> grams(String text) {
+        Set<Integer> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char a = text.charAt(i);
+            char b = text.charAt(i + 1);
+            if (a != FIELD_SEPARATOR && b != FIELD_SEPARATOR) {
+                grams.add((a << 16) | b);
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,62 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ✅ MariaDB FULLTEXT 백엔드 (app.admin.search.backend=fulltext)
+ * - init.sql 의 ft_*_search 인덱스 사용, BOOLEAN MODE 로 모든 단어 필수 + 접두어 일치 (+단어*)
+ * - MariaDB InnoDB 에는 ngram 파서가 없어 단어 중간 일치는 지원하지 않음 (부분 문자열이 필요하면 memory 백엔드)
+ * - innodb_ft_min_token_size(기본 3) 보다 짧은 단어는 색인되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "app.admin.search.backend", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class FullTextAdminSearchIndex implements AdminSearchIndex {
+
+    private final EntityManager entityManager;
+
+    @Value("${app.admin.search.max-candidates:5000}")
+    private int maxCandidates;
+
+    @Override
+    public Optional<Set<Long>> findIds(SearchTarget target, String keyword) {
+        String against = booleanQuery(keyword);
+        if (against.isEmpty()) {
+            return Optional.of(Set.of());
+        }
+
+        String sql = "SELECT " + target.idColumn() + " FROM " + target.table()
+                + " WHERE MATCH(" + String.join(", ", target.columns()) + ") AGAINST (:q IN BOOLEAN MODE)"
+                + " LIMIT " + (maxCandidates + 1);
+
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(sql).setParameter("q", against).getResultList();
+        if (rows.size() > maxCandidates) {
+            return Optional.empty();
+        }
+        Set<Long> ids = new HashSet<>(rows.size() * 2);
+        rows.forEach(id -> ids.add(id.longValue()));
+        return Optional.of(ids);
+    }
+
+    // 불리언 모드 연산자 제거 후 단어마다 +word*
+    static String booleanQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String word : BigramIndex.normalize(keyword).replaceAll("[+\\-<>()~*\"@]", " ").split("\\s+")) {
+            if (!word.isEmpty()) {
+                query.append(query.length() > 0 ? " " : "").append('+').append(word).append('*');
+            }
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.support.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 프로세스 내 역색인 백엔드 (app.admin.search.backend=memory, 기본값)
+ * - 기동 시 대상별 (id, 검색 컬럼)만 조회해 적재
+ * - 이후 변경은 AdminSearchIndexListener → 검색 컬럼이 바뀐 경우만 커밋 후 색인 스레드에서 반영
+ *   (쓰기 요청 스레드는 색인 잠금을 기다리지 않음, 큐 포화 시 주기 재적재로 흡수)
+ * - 주기적으로 DB 기준 재적재하여 다른 노드 / 벌크 UPDATE 변경분을 흡수
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.admin.search.backend", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryAdminSearchIndex implements AdminSearchIndex {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.admin.search.max-candidates:5000}")
+    private int maxCandidates;
+
+    private volatile Map<SearchTarget, BigramIndex> indexes;
+
+    // 색인 반영 전용 단일 스레드 (변경 순서 유지)
+    private final ThreadPoolExecutor indexer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(10_000), new CustomizableThreadFactory("admin-search-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    @Override
+    public Optional<Set<Long>> findIds(SearchTarget target, String keyword) {
+        Map<SearchTarget, BigramIndex> current = indexes;
+        if (current == null) {
+            rebuild();
+            current = indexes;
+        }
+        return Optional.ofNullable(current.get(target).search(keyword, maxCandidates));
+    }
+
+    @Override
+    public void onSaved(SearchTarget target, Long id, String... fields) {
+        Map<SearchTarget, BigramIndex> current = indexes;
+        if (current == null || current.get(target).contains(id, fields)) {
+            return; // 아직 미적재(재적재가 DB 에서 읽음) 또는 검색 컬럼 변경 없음
+        }
+        AfterCommit.run(() -> submit(() -> {
+            Map<SearchTarget, BigramIndex> latest = indexes;
+            if (latest != null) {
+                latest.get(target).put(id, fields);
+            }
+        }));
+    }
+
+    @Override
+    public void onRemoved(SearchTarget target, Long id) {
+        AfterCommit.run(() -> submit(() -> {
+            Map<SearchTarget, BigramIndex> current = indexes;
+            if (current != null) {
+                current.get(target).remove(id);
+            }
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("⚠️ [관리자 검색 인덱스 적재 실패] error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.admin.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        Map<SearchTarget, BigramIndex> fresh = new EnumMap<>(SearchTarget.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SearchTarget target : SearchTarget.values()) {
+                BigramIndex index = new BigramIndex();
+                for (Object[] row : entityManager.createQuery(target.loadQuery(), Object[].class).getResultList()) {
+                    String[] fields = new String[row.length - 1];
+                    for (int i = 1; i < row.length; i++) {
+                        fields[i - 1] = (String) row[i];
+                    }
+                    index.put((Long) row[0], fields);
+                }
+                fresh.put(target, index);
+            }
+        });
+        indexes = fresh;
+        log.info("🔎 [관리자 검색 인덱스 적재 완료] users={}, quests={}, titles={}, companies={}",
+                fresh.get(SearchTarget.USER).size(), fresh.get(SearchTarget.QUEST).size(),
+                fresh.get(SearchTarget.TITLE).size(), fresh.get(SearchTarget.COMPANY).size());
+    }
+
+    private void submit(Runnable task) {
+        try {
+            indexer.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("[관리자 검색 인덱스] 반영 큐 포화 → 주기 재적재로 반영");
+        }
+    }
+
+    // 색인 스레드에 넘긴 변경 건수 (검색 컬럼이 그대로인 UPDATE 는 포함되지 않음)
+    long submittedChanges() {
+        return indexer.getTaskCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+    }
+}
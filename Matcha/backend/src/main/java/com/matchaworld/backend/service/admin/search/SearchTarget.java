@@ -0,0 +1,102 @@
+package com.matchaworld.backend.service.admin.search;
+
+import java.util.List;
+
+import com.matchaworld.backend.domain.Company;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.Title;
+import com.matchaworld.backend.domain.User;
+
+/**
+ * ✅ 관리자 검색 대상 (기존 LIKE 검색 컬럼과 동일)
+ * - table / columns : FULLTEXT 인덱스 (init.sql)
+ * - loadQuery       : 메모리 인덱스 적재용 JPQL (id + 검색 컬럼)
+ */
+public enum SearchTarget {
+
+    USER(User.class, "USER", "USER_ID", List.of("EMAIL", "NICKNAME"),
+            "SELECT e.id, e.email, e.nickname FROM User e") {
+        @Override
+        String[] fields(Object entity) {
+            User user = (User) entity;
+            return new String[] {user.getEmail(), user.getNickname()};
+        }
+    },
+    QUEST(Quest.class, "QUEST", "QUEST_ID", List.of("TITLE", "DESCRIPTION"),
+            "SELECT e.id, e.title, e.description FROM Quest e") {
+        @Override
+        String[] fields(Object entity) {
+            Quest quest = (Quest) entity;
+            return new String[] {quest.getTitle(), quest.getDescription()};
+        }
+    },
+    TITLE(Title.class, "TITLE", "TITLE_ID", List.of("NAME", "DESCRIPTION"),
+            "SELECT e.id, e.name, e.description FROM Title e") {
+        @Override
+        String[] fields(Object entity) {
+            Title title = (Title) entity;
+            return new String[] {title.getName(), title.getDescription()};
+        }
+    },
+    COMPANY(Company.class, "COMPANY", "COMPANY_ID", List.of("COMPANY_NAME"),
+            "SELECT e.id, e.companyName FROM Company e") {
+        @Override
+        String[] fields(Object entity) {
+            return new String[] {((Company) entity).getCompanyName()};
+        }
+    };
+
+    private final Class<?> entityType;
+    private final String table;
+    private final String idColumn;
+    private final List<String> columns;
+    private final String loadQuery;
+
+    SearchTarget(Class<?> entityType, String table, String idColumn, List<String> columns, String loadQuery) {
+        this.entityType = entityType;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.columns = columns;
+        this.loadQuery = loadQuery;
+    }
+
+    abstract String[] fields(Object entity);
+
+    Long id(Object entity) {
+        return switch (this) {
+            case USER -> ((User) entity).getId();
+            case QUEST -> ((Quest) entity).getId();
+            case TITLE -> ((Title) entity).getId();
+            case COMPANY -> ((Company) entity).getId();
+        };
+    }
+
+    public Class<?> entityType() {
+        return entityType;
+    }
+
+    String table() {
+        return table;
+    }
+
+    String idColumn() {
+        return idColumn;
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    String loadQuery() {
+        return loadQuery;
+    }
+
+    static SearchTarget of(Object entity) {
+        for (SearchTarget target : values()) {
+            if (target.entityType.isInstance(entity)) {
+                return target;
+            }
+        }
+        return null;
+    }
+}
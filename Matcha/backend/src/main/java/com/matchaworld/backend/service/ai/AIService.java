@@ -1,17 +1,21 @@
 package com.matchaworld.backend.service.ai;
 
+import java.time.Duration;
+
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.content.Media;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MimeType;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.matchaworld.backend.dto.response.ai.AiResult;
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
@@ -22,11 +26,24 @@ import reactor.core.publisher.Mono;
 public class AIService {
 
     private final OpenAiChatModel openAiChatModel;
+    private final ExternalCallMetrics externalCallMetrics;
+    private final AiCallGuard aiCallGuard;
+    private final KeywordEsgClassifier keywordEsgClassifier;
+    private final Duration textTimeout;
+    private final Duration imageTimeout;
     private final ObjectMapper objectMapper = new ObjectMapper(); // ✅ Jackson 객체
 
     @Autowired
-    public AIService(OpenAiChatModel openAiChatModel) {
+    public AIService(OpenAiChatModel openAiChatModel, ExternalCallMetrics externalCallMetrics, AiCallGuard aiCallGuard,
+                     KeywordEsgClassifier keywordEsgClassifier,
+                     @Value("${app.ai.resilience.text-timeout-ms:10000}") long textTimeoutMillis,
+                     @Value("${app.ai.resilience.image-timeout-ms:20000}") long imageTimeoutMillis) {
         this.openAiChatModel = openAiChatModel;
+        this.externalCallMetrics = externalCallMetrics;
+        this.aiCallGuard = aiCallGuard;
+        this.keywordEsgClassifier = keywordEsgClassifier;
+        this.textTimeout = Duration.ofMillis(textTimeoutMillis);
+        this.imageTimeout = Duration.ofMillis(imageTimeoutMillis);
     }
 
     /**
@@ -87,6 +104,7 @@ public class AIService {
             })
             .filter(chunk -> chunk != null && !chunk.isBlank())
             .collectList() // ✅ 모든 chunk 모아서
+            .as(call -> externalCallMetrics.record("openai", "image-analysis", call))
             .map(chunks -> {
                 String result = String.join("", chunks).trim();
                 log.info("✅ 최종 분석 결과: {}", result);
@@ -129,9 +147,9 @@ public class AIService {
 
         log.info("📤 [AI 요청 전송 - 동기 처리 모드]");
 
-        try {
-            // 수정 이유: 기존 스트리밍 처리 코드를 그대로 사용하되, block()을 통해 동기적으로 결과를 반환
-            return openAiChatModel.stream(prompt)
+        // 수정 이유: 기존 스트리밍 처리 코드를 그대로 사용하되, block()을 통해 동기적으로 결과를 반환
+        // 오류는 삼키지 않고 AiCallGuard 로 전달 → 타임아웃/서킷 브레이커 집계 후 기본 메시지로 폴백
+        return aiCallGuard.call("image-analysis", imageTimeout, () -> openAiChatModel.stream(prompt)
                 .flatMap(resp -> {
                     try {
                         if (resp == null || resp.getResult() == null || resp.getResult().getOutput() == null)
@@ -157,20 +175,14 @@ public class AIService {
                 })
                 .filter(chunk -> chunk != null && !chunk.isBlank())
                 .collectList()
+                .as(call -> externalCallMetrics.record("openai", "image-analysis", call))
                 .map(chunks -> {
                     String result = String.join("", chunks).trim();
                     log.info("최종 분석 결과(동기): {}", result);
                     return result.isEmpty() ? "결과를 해석할 수 없습니다." : result;
                 })
-                .onErrorResume(e -> {
-                    log.error("전체 스트림 오류(동기): {}", e.getMessage());
-                    return Mono.just("AI 분석 중 오류가 발생했습니다.");
-                })
-                .block(); // 수정 이유: 비동기 Mono를 동기적으로 변환하기 위해 block() 호출
-        } catch (Exception e) {
-            log.error("동기 분석 중 예외 발생: {}", e.getMessage());
-            return "AI 분석 중 오류가 발생했습니다.";
-        }
+                .block(), // 수정 이유: 비동기 Mono를 동기적으로 변환하기 위해 block() 호출 (타임아웃 시 인터럽트로 구독 취소)
+                () -> "AI 분석 중 오류가 발생했습니다.");
     }
 
    /**
@@ -178,8 +190,18 @@ public class AIService {
      * - Markdown(````json ... ````) 형태 응답도 안전하게 처리
      * - 동기식 (기록 저장, 퀘스트 완료 등 트랜잭션 내에서 안전)
      * - 항상 rawText(사용자 원문)를 포함하도록 보장
+     * - 키워드 사전으로 확신할 수 있는 문장은 OpenAI 를 호출하지 않음 (KeywordEsgClassifier)
      */
     public AiResult analyzeTextJackson(String content) {
+        // 0️⃣ 키워드 사전 빠른 경로
+        var local = keywordEsgClassifier.classify(content);
+        if (local.isPresent()) {
+            AiResult result = local.get();
+            log.info("⚡ [키워드 분류] category={}, keywords={}, confidence={}",
+                    result.getCategory(), result.getKeywords(), result.getConfidence());
+            return result;
+        }
+
         SystemMessage systemMessage = SystemMessage.builder()
             .text("""
                 당신은 ESG 활동 분류 전문가입니다.
@@ -201,9 +223,16 @@ public class AIService {
 
         log.info("📤 [AI 요청 전송 - 텍스트 분석(Jackson)]");
 
+        // 1️⃣ AI 응답 수신 (타임아웃/동시 호출 제한/서킷 브레이커 → 실패 시 null)
+        String response = aiCallGuard.call("text-analysis", textTimeout,
+                () -> externalCallMetrics.record("openai", "text-analysis",
+                        () -> openAiChatModel.call(prompt).getResult().getOutput().getText()),
+                () -> null);
+        if (response == null) {
+            return new AiResult("E", java.util.List.of(), 0.5, content);
+        }
+
         try {
-            // 1️⃣ AI 응답 수신
-            String response = openAiChatModel.call(prompt).getResult().getOutput().getText();
             log.info("✅ 텍스트 분석 결과(Jackson): {}", response);
 
             // 2️⃣ Markdown 백틱(```json ... ````) 제거
@@ -0,0 +1,185 @@
+package com.matchaworld.backend.service.ai;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ OpenAI 호출 보호 (타임아웃 + 동시 호출 제한 + 서킷 브레이커)
+ * - 동시 호출 제한(bulkhead): max-concurrent-calls 개 초과 시 bulkhead-max-wait-ms 만 기다린 뒤 즉시 폴백
+ * - 호출은 가상 스레드에서 실행, 호출 스레드는 timeout 까지만 대기 → 초과 시 인터럽트로 취소 후 폴백
+ * - 동시 호출 허가는 실제 호출이 끝날 때 반납 (타임아웃 후에도 정리 중인 호출까지 상한에 포함, 시작 전에 취소되면 호출 측이 반납)
+ * - 타임아웃/오류는 서킷 브레이커 실패로 집계, OPEN 동안은 OpenAI 를 호출하지 않고 바로 폴백
+ * - 지표: matcha.ai.circuit.state{state} (현재 상태만 1), matcha.ai.circuit.transitions{from,to},
+ *         matcha.ai.bulkhead.in-flight, matcha.ai.calls.rejected{operation,reason}, matcha.ai.calls.failed{operation,reason}
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitMillis;
+    private final ExecutorService executor;
+
+    @Autowired
+    public AiCallGuard(MeterRegistry meterRegistry,
+                       @Value("${app.ai.resilience.max-concurrent-calls:16}") int maxConcurrentCalls,
+                       @Value("${app.ai.resilience.bulkhead-max-wait-ms:100}") long bulkheadMaxWaitMillis,
+                       @Value("${app.ai.resilience.circuit.window-size:20}") int windowSize,
+                       @Value("${app.ai.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                       @Value("${app.ai.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                       @Value("${app.ai.resilience.circuit.open-duration-ms:30000}") long openDurationMillis,
+                       @Value("${app.ai.resilience.circuit.half-open-calls:3}") int halfOpenCalls) {
+        this(meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), maxConcurrentCalls, bulkheadMaxWaitMillis,
+                windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenCalls);
+    }
+
+    AiCallGuard(MeterRegistry meterRegistry,
+                ExecutorService executor,
+                int maxConcurrentCalls,
+                long bulkheadMaxWaitMillis,
+                int windowSize,
+                int minimumCalls,
+                int failureRateThreshold,
+                long openDurationMillis,
+                int halfOpenCalls) {
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.bulkheadMaxWaitMillis = bulkheadMaxWaitMillis;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                openDurationMillis, halfOpenCalls, this::onTransition);
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("matcha.ai.circuit.state", circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("matcha.ai.bulkhead.in-flight", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호된 호출 실행
+     * @param operation 지표/로그용 작업 이름 (text-analysis, image-analysis)
+     * @param fallback 거절/타임아웃/오류 시 반환할 값
+     */
+    public <T> T call(String operation, Duration timeout, Supplier<T> call, Supplier<T> fallback) {
+        if (!acquireBulkhead()) {
+            return reject(operation, "bulkhead-full", fallback);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            return reject(operation, "circuit-open", fallback);
+        }
+
+        // 시작 전에 취소된 작업은 본문이 실행되지 않음 → 먼저 started 를 차지한 쪽이 허가 반납 책임
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return call.get();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return fail(operation, "error", e, fallback);
+        }
+
+        boolean recorded = false;
+        try {
+            T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            recorded = true;
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future, started);
+            circuitBreaker.onFailure();
+            recorded = true;
+            return fail(operation, "timeout", e, fallback);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            recorded = true;
+            return fail(operation, "error", e.getCause(), fallback);
+        } catch (InterruptedException e) {
+            // 호출 스레드 자체가 중단된 경우 → 업스트림 실패로 보지 않음 (서킷 허가는 finally 에서 반납)
+            cancel(future, started);
+            Thread.currentThread().interrupt();
+            return fallback.get();
+        } finally {
+            if (!recorded) {
+                circuitBreaker.releasePermission();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 아직 시작하지 않은 작업이면 호출 측에서 동시 호출 허가 반납 (시작했다면 작업의 finally 가 반납)
+    private void cancel(Future<?> future, AtomicBoolean started) {
+        future.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T reject(String operation, String reason, Supplier<T> fallback) {
+        meterRegistry.counter("matcha.ai.calls.rejected", "operation", operation, "reason", reason).increment();
+        log.warn("[AI] {} 호출 거절 ({}) → 기본값 반환", operation, reason);
+        return fallback.get();
+    }
+
+    private <T> T fail(String operation, String reason, Throwable cause, Supplier<T> fallback) {
+        meterRegistry.counter("matcha.ai.calls.failed", "operation", operation, "reason", reason).increment();
+        log.error("[AI] {} 호출 실패 ({}) → 기본값 반환: {}", operation, reason,
+                cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        return fallback.get();
+    }
+
+    private void onTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        meterRegistry.counter("matcha.ai.circuit.transitions",
+                "from", from.name().toLowerCase(), "to", to.name().toLowerCase()).increment();
+        if (to == CircuitBreaker.State.CLOSED) {
+            log.info("[AI] 서킷 브레이커 {} → {}", from, to);
+        } else {
+            log.warn("[AI] 서킷 브레이커 {} → {}", from, to);
+        }
+    }
+}
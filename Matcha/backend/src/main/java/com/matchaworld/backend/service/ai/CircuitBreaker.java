@@ -0,0 +1,139 @@
+package com.matchaworld.backend.service.ai;
+
+import java.util.function.BiConsumer;
+
+/**
+ * ✅ 호출 횟수 기반 서킷 브레이커
+ * - CLOSED    : 최근 window-size 건 중 실패율이 임계치 이상이면 OPEN (최소 minimum-calls 건 이후부터 판단)
+ * - OPEN      : open-duration 동안 호출 없이 즉시 실패
+ * - HALF_OPEN : half-open-calls 건만 시험 호출 → 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 호출 자체가 수 초 단위라 단순 synchronized 로 충분
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final BiConsumer<State, State> onTransition;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int count;
+    private int failures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param failureRateThreshold 실패율 임계치 (%)
+     * @param onTransition (이전 상태, 새 상태) 전이 알림 (락 보유 중 호출되므로 가볍게)
+     */
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMillis,
+                   int halfOpenCalls, BiConsumer<State, State> onTransition) {
+        if (windowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("window-size, half-open-calls 는 1 이상이어야 합니다");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000;
+        this.halfOpenCalls = halfOpenCalls;
+        this.onTransition = onTransition;
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess / onFailure / releasePermission 중 하나로 결과를 알려야 함)
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> { } // OPEN 전환 전에 시작된 호출의 늦은 결과는 무시
+        }
+    }
+
+    synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (count >= minimumCalls && failures * 100 >= failureRateThreshold * count) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> transitionTo(State.OPEN);
+            case OPEN -> { }
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 호출(호출 스레드 중단 등)의 허가 반납 - 성공/실패로 집계하지 않음
+     * - HALF_OPEN 시험 호출 허가를 돌려주지 않으면 남은 허가가 0 인 채로 영원히 OPEN 으로도 CLOSED 로도 가지 못함
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits = Math.min(halfOpenPermits + 1, halfOpenCalls - halfOpenSuccesses);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    // 링 버퍼: 가장 오래된 결과를 덮어쓰며 실패 건수 유지
+    private void record(boolean failure) {
+        if (count == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            count++;
+        }
+        window[index] = failure;
+        if (failure) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                index = 0;
+                count = 0;
+                failures = 0;
+            }
+        }
+        onTransition.accept(previous, next);
+    }
+}
@@ -0,0 +1,148 @@
+package com.matchaworld.backend.service.ai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.dto.response.ai.AiResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 키워드 사전 기반 ESG 분류 (OpenAI 호출 전 빠른 경로)
+ * - 사전(ai/esg-keywords.txt)의 키워드를 공백/대소문자 무시하고 부분 문자열로 매칭 (KeywordTrie)
+ * - 카테고리별 확신도 = 1 - Π(1 - 가중치)  (매칭된 서로 다른 키워드 기준)
+ * - 최종 confidence = 1위 확신도 × 1위 / (1위 + 2위)  → E/S 단서가 섞이면 낮아짐
+ * - min-confidence 미만이거나 매칭이 없으면 empty → 호출 측이 OpenAI 로 분석
+ * - 지표: matcha.ai.keyword-classifier{outcome=hit|low-confidence|no-match}
+ */
+@Slf4j
+@Component
+public class KeywordEsgClassifier {
+
+    private record Entry(String category, String keyword, double weight) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double minConfidence;
+    private final KeywordTrie<Entry> trie;
+
+    public KeywordEsgClassifier(MeterRegistry meterRegistry,
+                                @Value("${app.ai.keyword-classifier.enabled:true}") boolean enabled,
+                                @Value("${app.ai.keyword-classifier.min-confidence:0.8}") double minConfidence,
+                                @Value("${app.ai.keyword-classifier.dictionary:classpath:ai/esg-keywords.txt}") Resource dictionary)
+            throws IOException {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minConfidence = minConfidence;
+        Map<String, Entry> entries = load(dictionary);
+        this.trie = new KeywordTrie<>(entries);
+        log.info("🔤 ESG 키워드 사전 로드: {}개 (enabled={}, min-confidence={})", entries.size(), enabled, minConfidence);
+    }
+
+    /**
+     * @return 확신도가 min-confidence 이상이면 분류 결과 (rawText = 원문), 아니면 empty
+     */
+    public Optional<AiResult> classify(String content) {
+        if (!enabled || content == null || content.isBlank()) {
+            return Optional.empty();
+        }
+
+        List<KeywordTrie.Match<Entry>> matches = trie.findAll(normalize(content));
+        if (matches.isEmpty()) {
+            count("no-match");
+            return Optional.empty();
+        }
+
+        Set<String> keywords = new LinkedHashSet<>();
+        Map<String, Double> missProbability = new HashMap<>();
+        for (KeywordTrie.Match<Entry> match : matches) {
+            Entry entry = match.value();
+            if (keywords.add(entry.keyword())) {
+                missProbability.merge(entry.category(), 1 - entry.weight(), (a, b) -> a * b);
+            }
+        }
+
+        String category = null;
+        double top = 0;
+        double second = 0;
+        for (Map.Entry<String, Double> e : missProbability.entrySet()) {
+            double score = 1 - e.getValue();
+            if (score > top) {
+                second = top;
+                top = score;
+                category = e.getKey();
+            } else if (score > second) {
+                second = score;
+            }
+        }
+        double confidence = Math.round(top * top / (top + second) * 100) / 100.0;
+
+        if (confidence < minConfidence) {
+            count("low-confidence");
+            log.debug("[AI] 키워드 분류 확신도 부족 → OpenAI (category={}, confidence={}, keywords={})",
+                    category, confidence, keywords);
+            return Optional.empty();
+        }
+
+        count("hit");
+        return Optional.of(new AiResult(category, new ArrayList<>(keywords), confidence, content));
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("matcha.ai.keyword-classifier", "outcome", outcome).increment();
+    }
+
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // "<카테고리> <키워드> <가중치>" 한 줄씩, # 주석/빈 줄 무시
+    private static Map<String, Entry> load(Resource dictionary) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+");
+                if (parts.length != 3 || !(parts[0].equals("E") || parts[0].equals("S"))) {
+                    throw new IllegalStateException("ESG 키워드 사전 형식 오류 (" + lineNumber + "행): " + line);
+                }
+                double weight = Double.parseDouble(parts[2]);
+                if (weight <= 0 || weight >= 1) {
+                    throw new IllegalStateException("ESG 키워드 가중치는 0과 1 사이여야 합니다 (" + lineNumber + "행): " + line);
+                }
+                entries.put(normalize(parts[1]), new Entry(parts[0], parts[1], weight));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,96 @@
+package com.matchaworld.backend.service.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * ✅ 다중 키워드 부분 문자열 매칭 (Aho-Corasick)
+ * - 생성 시 한 번만 구성하고 이후 읽기 전용 → 여러 스레드에서 동시에 조회 가능
+ * - 본문을 한 번 훑으며 모든 키워드 위치를 찾음 (키워드 수와 무관하게 본문 길이에 비례)
+ * - 겹치는 매칭은 왼쪽 우선, 같은 위치에서는 가장 긴 키워드 하나만 남김
+ */
+final class KeywordTrie<V> {
+
+    record Match<V>(int start, int end, String keyword, V value) {
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> next = new HashMap<>();
+        private Node<V> fail;
+        private Node<V> output; // fail 경로에서 가장 가까운 키워드 노드
+        private String keyword;
+        private V value;
+    }
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * @param entries 정규화된 키워드 → 값
+     */
+    KeywordTrie(Map<String, V> entries) {
+        for (Map.Entry<String, V> entry : entries.entrySet()) {
+            Node<V> node = root;
+            for (char c : entry.getKey().toCharArray()) {
+                node = node.next.computeIfAbsent(c, k -> new Node<>());
+            }
+            node.keyword = entry.getKey();
+            node.value = entry.getValue();
+        }
+
+        // 너비 우선으로 실패 링크 연결
+        Queue<Node<V>> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node<V> child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node<V> node = queue.poll();
+            for (Map.Entry<Character, Node<V>> edge : node.next.entrySet()) {
+                Node<V> child = edge.getValue();
+                Node<V> fail = node.fail;
+                while (fail != root && !fail.next.containsKey(edge.getKey())) {
+                    fail = fail.fail;
+                }
+                child.fail = fail.next.getOrDefault(edge.getKey(), root);
+                child.output = child.fail.keyword != null ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    List<Match<V>> findAll(String text) {
+        List<Match<V>> matches = new ArrayList<>();
+        Node<V> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.next.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.next.getOrDefault(c, root);
+            for (Node<V> out = node.keyword != null ? node : node.output; out != null; out = out.output) {
+                matches.add(new Match<>(i + 1 - out.keyword.length(), i + 1, out.keyword, out.value));
+            }
+        }
+        if (matches.size() < 2) {
+            return matches;
+        }
+
+        matches.sort(Comparator.<Match<V>>comparingInt(Match::start)
+                .thenComparing(Comparator.<Match<V>>comparingInt(Match::end).reversed()));
+        List<Match<V>> selected = new ArrayList<>();
+        int lastEnd = 0;
+        for (Match<V> match : matches) {
+            if (match.start() >= lastEnd) {
+                selected.add(match);
+                lastEnd = match.end();
+            }
+        }
+        return selected;
+    }
+}
@@ -2,6 +2,8 @@ package com.matchaworld.backend.service.auth;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Service;
 public class EmailService {
     
     private final JavaMailSender mailSender;
+    private final ExternalCallMetrics externalCallMetrics;
     
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -52,7 +55,7 @@ public class EmailService {
             helper.setSubject(subject);
             helper.setText(htmlContent, true); // true = HTML 형식
             
-            mailSender.send(message);
+            externalCallMetrics.run("smtp", "send", () -> mailSender.send(message));
             log.info("이메일 전송 성공: {}", toEmail);
             
         } catch (MessagingException e) {
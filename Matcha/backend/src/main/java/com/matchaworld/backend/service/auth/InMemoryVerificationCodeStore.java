@@ -0,0 +1,111 @@
+package com.matchaworld.backend.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 프로세스 내 인증번호 저장소 (app.verification.store=memory)
+ * - 이메일 → 최신 코드 해시 맵, 검증은 맵 조회 1회
+ * - 시도 횟수는 비교 전에 먼저 예약 (incrementAndGet) → 동시 요청도 max-attempts 번을 넘지 못함
+ * - 인증 완료 코드는 별도 맵에 만료 전까지 유지 (JPA 저장소처럼 새 코드 발송이 인증 상태를 지우지 않음)
+ * - 만료는 TimingWheel tick 으로 제거 (조회 시에도 만료 시각을 다시 확인)
+ * - 재시작 / 다른 노드에서는 코드가 보이지 않으므로 단일 노드 또는 세션 고정 라우팅 전용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.verification.store", havingValue = "memory")
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static final class Entry {
+        final String email;
+        final String code;
+        final long expiresAt;
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicBoolean verified = new AtomicBoolean();
+
+        Entry(String email, String code, long expiresAt) {
+            this.email = email;
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> verifiedEntries = new ConcurrentHashMap<>();
+    private final TimingWheel<Entry> wheel;
+    private final int maxAttempts;
+
+    public InMemoryVerificationCodeStore(@Value("${app.verification.max-attempts:5}") int maxAttempts,
+                                         @Value("${app.verification.memory.tick-ms:1000}") long tickMillis,
+                                         @Value("${app.verification.memory.wheel-size:512}") int wheelSize) {
+        this.maxAttempts = maxAttempts;
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        Entry entry = new Entry(email, code, System.currentTimeMillis() + ttl.toMillis());
+        entries.put(email, entry);
+        wheel.schedule(entry, entry.expiresAt);
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return Result.NOT_FOUND;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(email, entry);
+            return Result.EXPIRED;
+        }
+        if (entry.verified.get()) {
+            return Result.ALREADY_VERIFIED;
+        }
+        // 시도 예약 후 비교 (확인 후 증가하면 동시 요청이 모두 검사를 통과함)
+        int attempt = entry.attempts.incrementAndGet();
+        if (attempt > maxAttempts) {
+            return Result.LOCKED;
+        }
+        if (!MessageDigest.isEqual(entry.code.getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8))) {
+            return attempt >= maxAttempts ? Result.LOCKED : Result.MISMATCH;
+        }
+        if (!entry.verified.compareAndSet(false, true)) {
+            return Result.ALREADY_VERIFIED;
+        }
+        verifiedEntries.put(email, entry);
+        return Result.VERIFIED;
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        Entry entry = verifiedEntries.get(email);
+        return entry != null && entry.expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public int purgeExpired() {
+        return 0;
+    }
+
+    // 만료 tick: 같은 이메일로 새 코드가 저장됐으면 (다른 Entry) 지우지 않음
+    @Scheduled(fixedDelayString = "${app.verification.memory.tick-ms:1000}")
+    public void tick() {
+        wheel.advance(System.currentTimeMillis(), entry -> {
+            entries.remove(entry.email, entry);
+            verifiedEntries.remove(entry.email, entry);
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.matchaworld.backend.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.matchaworld.backend.domain.AuthCode;
+import com.matchaworld.backend.repository.AuthCodeRepository;
+
+/**
+ * ✅ AUTH_CODE 테이블 인증번호 저장소 (app.verification.store=jpa, 기본값)
+ * - 모든 노드가 같은 코드를 보며, 만료 행은 새벽 정리 작업이 일괄 삭제
+ * - 검증은 최신 코드 행을 PESSIMISTIC_WRITE 로 잠근 뒤 확인/증가 (동시 오답이 시도 횟수를 넘지 못함)
+ */
+@Component
+@ConditionalOnProperty(name = "app.verification.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final AuthCodeRepository authCodeRepository;
+    private final int maxAttempts;
+
+    public JpaVerificationCodeStore(AuthCodeRepository authCodeRepository,
+                                    @Value("${app.verification.max-attempts:5}") int maxAttempts) {
+        this.authCodeRepository = authCodeRepository;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String code, Duration ttl) {
+        // 기존 미인증 코드 무효화
+        authCodeRepository.deleteUnverifiedByEmail(email);
+        authCodeRepository.save(AuthCode.builder()
+                .email(email)
+                .authCode(code)
+                .expiryTime(LocalDateTime.now().plus(ttl))
+                .isVerified(false)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Result verify(String email, String code) {
+        Optional<AuthCode> latest = authCodeRepository.findFirstByEmailOrderByCreatedAtDesc(email);
+        if (latest.isEmpty()) {
+            return Result.NOT_FOUND;
+        }
+        AuthCode authCode = latest.get();
+        if (authCode.getExpiryTime().isBefore(LocalDateTime.now())) {
+            return Result.EXPIRED;
+        }
+        if (authCode.getIsVerified()) {
+            return Result.ALREADY_VERIFIED;
+        }
+        if (authCode.getFailedAttempts() >= maxAttempts) {
+            return Result.LOCKED;
+        }
+        if (!MessageDigest.isEqual(authCode.getAuthCode().getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8))) {
+            authCode.setFailedAttempts(authCode.getFailedAttempts() + 1);
+            return authCode.getFailedAttempts() >= maxAttempts ? Result.LOCKED : Result.MISMATCH;
+        }
+        authCode.setIsVerified(true);
+        return Result.VERIFIED;
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        return authCodeRepository.existsVerifiedByEmail(email, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        return authCodeRepository.deleteExpiredCodes(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,64 @@
+package com.matchaworld.backend.service.auth;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * ✅ 해시 타이밍 휠 (만료 시각 → 슬롯, tick 마다 현재 슬롯만 확인)
+ * - 등록/만료 모두 O(1), 전체 항목을 훑지 않음
+ * - 휠 한 바퀴보다 먼 만료는 같은 슬롯에 남아 있다가 해당 바퀴에서 처리
+ */
+class TimingWheel<T> {
+
+    private record Timeout<T>(T item, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final Queue<Timeout<T>>[] slots;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis, wheelSize 는 0보다 커야 합니다");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        // 올림: 만료 시각이 지난 뒤의 tick 에서 처리
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        slots[(int) Math.floorMod(deadlineTick, (long) slots.length)].add(new Timeout<>(item, deadlineTick));
+    }
+
+    /**
+     * 현재 시각까지 지난 tick 의 슬롯을 처리 (호출 간격이 밀려도 건너뛴 슬롯까지 처리)
+     */
+    synchronized void advance(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long from = Math.max(currentTick + 1, targetTick - slots.length + 1);
+        for (long tick = from; tick <= targetTick; tick++) {
+            Queue<Timeout<T>> slot = slots[(int) Math.floorMod(tick, (long) slots.length)];
+            int pending = slot.size();
+            for (int i = 0; i < pending; i++) {
+                Timeout<T> timeout = slot.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.deadlineTick() <= targetTick) {
+                    onExpired.accept(timeout.item());
+                } else {
+                    slot.add(timeout);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+}
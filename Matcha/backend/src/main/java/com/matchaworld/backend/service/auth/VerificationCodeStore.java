@@ -0,0 +1,31 @@
+package com.matchaworld.backend.service.auth;
+
+import java.time.Duration;
+
+/**
+ * ✅ 인증번호 저장소 (app.verification.store)
+ * - jpa    : AUTH_CODE 테이블 (기본값, 여러 노드가 같은 코드를 봄)
+ * - memory : 프로세스 내 TTL 맵 (단일 노드 또는 세션 고정 라우팅에서만 사용)
+ * - 이메일당 최신 코드 1개만 유효, 틀린 입력은 이메일별로 세어 max-attempts 도달 시 잠금
+ */
+public interface VerificationCodeStore {
+
+    enum Result { VERIFIED, NOT_FOUND, MISMATCH, EXPIRED, ALREADY_VERIFIED, LOCKED }
+
+    /**
+     * 새 인증번호 저장 (같은 이메일의 미인증 코드는 대체)
+     */
+    void save(String email, String code, Duration ttl);
+
+    Result verify(String email, String code);
+
+    /**
+     * 만료 전 인증 완료된 코드가 있는지
+     */
+    boolean isVerified(String email);
+
+    /**
+     * 만료 코드 정리 (메모리 저장소는 타이머가 처리하므로 0)
+     */
+    int purgeExpired();
+}
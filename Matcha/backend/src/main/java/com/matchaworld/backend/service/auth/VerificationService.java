@@ -1,15 +1,10 @@
 package com.matchaworld.backend.service.auth;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import com.matchaworld.backend.domain.AuthCode;
-import com.matchaworld.backend.repository.AuthCodeRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class VerificationService {
     
-    private final AuthCodeRepository authCodeRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final EmailService emailService;
     private final SecureRandom random = new SecureRandom();
     
@@ -29,23 +24,10 @@ public class VerificationService {
     /**
      * 회원가입용 인증번호 생성 및 전송
      */
-    @Transactional
     public void sendSignupVerificationCode(String email) {
-        // 기존 미인증 코드 무효화
-        authCodeRepository.deleteUnverifiedByEmail(email);
-        
-        // 새 인증번호 생성
+        // 새 인증번호 저장 (기존 미인증 코드는 대체)
         String code = generateVerificationCode();
-        
-        // DB에 저장
-        AuthCode authCode = AuthCode.builder()
-                .email(email)
-                .authCode(code)
-                .expiryTime(LocalDateTime.now().plusMinutes(codeExpirationMinutes))
-                .isVerified(false)
-                .build();
-        
-        authCodeRepository.save(authCode);
+        verificationCodeStore.save(email, code, Duration.ofMinutes(codeExpirationMinutes));
         
         // 이메일 전송
         emailService.sendSignupVerificationEmail(email, code);
@@ -56,23 +38,10 @@ public class VerificationService {
     /**
      * 비밀번호 재설정용 인증번호 생성 및 전송
      */
-    @Transactional
     public void sendPasswordResetCode(String email) {
-        // 기존 미인증 코드 무효화
-        authCodeRepository.deleteUnverifiedByEmail(email);
-        
-        // 새 인증번호 생성
+        // 새 인증번호 저장 (기존 미인증 코드는 대체)
         String code = generateVerificationCode();
-        
-        // DB에 저장
-        AuthCode authCode = AuthCode.builder()
-                .email(email)
-                .authCode(code)
-                .expiryTime(LocalDateTime.now().plusMinutes(codeExpirationMinutes))
-                .isVerified(false)
-                .build();
-        
-        authCodeRepository.save(authCode);
+        verificationCodeStore.save(email, code, Duration.ofMinutes(codeExpirationMinutes));
         
         // 이메일 전송
         emailService.sendPasswordResetEmail(email, code);
@@ -83,43 +52,25 @@ public class VerificationService {
     /**
      * 인증번호 검증
      */
-    @Transactional
     public boolean verifyCode(String email, String code) {
-        Optional<AuthCode> optionalAuthCode = authCodeRepository
-                .findTopByEmailAndAuthCodeOrderByCreatedAtDesc(email, code);
-        
-        if (optionalAuthCode.isEmpty()) {
-            log.warn("인증번호를 찾을 수 없음: email={}, code={}", email, code);
-            return false;
+        VerificationCodeStore.Result result = verificationCodeStore.verify(email, code);
+        
+        switch (result) {
+            case VERIFIED -> log.info("인증번호 검증 성공: email={}", email);
+            case NOT_FOUND -> log.warn("인증번호를 찾을 수 없음: email={}", email);
+            case MISMATCH -> log.warn("인증번호 불일치: email={}", email);
+            case EXPIRED -> log.warn("만료된 인증번호: email={}", email);
+            case ALREADY_VERIFIED -> log.warn("이미 사용된 인증번호: email={}", email);
+            case LOCKED -> log.warn("인증번호 입력 횟수 초과: email={}", email);
         }
-        
-        AuthCode authCode = optionalAuthCode.get();
-        
-        // 이미 인증된 코드
-        if (authCode.getIsVerified()) {
-            log.warn("이미 사용된 인증번호: email={}", email);
-            return false;
-        }
-        
-        // 만료된 코드
-        if (authCode.getExpiryTime().isBefore(LocalDateTime.now())) {
-            log.warn("만료된 인증번호: email={}, expiryTime={}", email, authCode.getExpiryTime());
-            return false;
-        }
-        
-        // 인증 성공
-        authCode.setIsVerified(true);
-        authCodeRepository.save(authCode);
-        
-        log.info("인증번호 검증 성공: email={}", email);
-        return true;
+        return result == VerificationCodeStore.Result.VERIFIED;
     }
     
     /**
      * 이메일 인증 여부 확인
      */
     public boolean isEmailVerified(String email) {
-        return authCodeRepository.existsVerifiedByEmail(email, LocalDateTime.now());
+        return verificationCodeStore.isVerified(email);
     }
     
     /**
@@ -131,11 +82,10 @@ public class VerificationService {
     }
     
     /**
-     * 만료된 인증번호 정리 (스케줄러에서 호출)
+     * 만료된 인증번호 정리 (스케줄러에서 호출, 메모리 저장소는 타이머가 처리)
      */
-    @Transactional
     public void cleanupExpiredCodes() {
-        authCodeRepository.deleteExpiredCodes(LocalDateTime.now());
-        log.info("만료된 인증번호 정리 완료");
+        int deleted = verificationCodeStore.purgeExpired();
+        log.info("만료된 인증번호 정리 완료: {}건", deleted);
     }
 }
\ No newline at end of file
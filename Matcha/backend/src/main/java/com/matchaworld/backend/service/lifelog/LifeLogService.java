@@ -1,5 +1,6 @@
 package com.matchaworld.backend.service.lifelog;
 
+import com.matchaworld.backend.config.ReadYourWrites;
 import com.matchaworld.backend.domain.LifeLog;
 import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.dto.request.lifelog.LifeLogRequest;
@@ -7,13 +8,18 @@ import com.matchaworld.backend.dto.response.lifelog.LifeLogResponse;
 import com.matchaworld.backend.dto.response.ai.AiResult;
 import com.matchaworld.backend.repository.LifeLogRepository;
 import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.activity.MyActivityCache;
 import com.matchaworld.backend.service.ai.AIService;
+import com.matchaworld.backend.service.my.CharacterTier;
 import com.matchaworld.backend.service.quest.QuestMatcherFacade;
 import com.matchaworld.backend.service.quest.QuestMatcherService;
+import com.matchaworld.backend.service.ranking.LeaderboardAggregator;
+import com.matchaworld.backend.service.ranking.ScoreDistribution;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +40,14 @@ public class LifeLogService {
     private final QuestMatcherFacade questMatcherFacade;
     private final LifeLogRepository lifeLogRepository;
     private final UserRepository userRepository;
+    private final LeaderboardAggregator leaderboardAggregator;
+    private final ScoreDistribution scoreDistribution;
+    private final MyActivityCache myActivityCache;
+    private final ReadYourWrites readYourWrites;
+
+    // 저장 직후 DB 재조회로 반영 상태를 확인 (디버깅 전용, 추가 SELECT 발생 → 운영에서는 끔)
+    @Value("${app.logging.verify-writes:false}")
+    private boolean verifyWrites;
 
     /** ✅ 날짜별 기록 조회 */
     public List<LifeLogResponse> getLogs(Long userId, String date) {
@@ -78,7 +92,8 @@ public class LifeLogService {
 
         lifeLogRepository.save(lifelog);
         lifeLogRepository.flush(); // <- 즉시 반영, 락 지속시간 단축
-        log.info("📝 [기록 저장 완료] userId={}, content={}, 초기점수={}", userId, content, lifelog.getEsgScoreEffect());
+        log.info("📝 [기록 저장 완료] userId={}, logId={}", userId, lifelog.getId());
+        myActivityCache.evict(userId);
 
         // 3️⃣ 트랜잭션 종료 후 AI 분석 및 퀘스트 매칭 수행
         processAiAndQuestAsync(lifelog.getId(), content, userId);
@@ -91,26 +106,25 @@ public class LifeLogService {
     // @Async
     @Transactional
     public void processAiAndQuestAsync(Long logId, String content, Long userId) {
+        // 비동기 실행이어도 커밋 후 이 사용자의 조회가 primary 로 가도록 (principal 과 무관)
+        readYourWrites.pin(userId);
         try {
             // 1️⃣ 기록 재조회
             LifeLog lifelog = lifeLogRepository.findById(logId)
                     .orElseThrow(() -> new RuntimeException("❌ 기록을 찾을 수 없습니다."));
-            log.info("🔎 [1단계] 재조회 직후 점수 = {}", lifelog.getEsgScoreEffect());
+            log.debug("🔎 [1단계] 재조회 직후 점수 = {}", lifelog.getEsgScoreEffect());
 
             // 2️⃣ AI 분석 호출
             AiResult result = aiService.analyzeTextJackson(content);
-            log.info("📜 [2단계] AI 분석 결과 수신 → category={}, confidence={}",
+            log.debug("📜 [2단계] AI 분석 결과 수신 → category={}, confidence={}",
                     result.getCategory(), result.getConfidence());
 
             // ✅ rawText 누락 방지
             if (result.getRawText() == null || result.getRawText().isBlank()) {
                 result.setRawText(content);
-                log.warn("⚠️ [보정] AI rawText 누락 감지 → 원문으로 재설정됨: {}", content);
+                log.debug("⚠️ [보정] AI rawText 누락 감지 → 원문으로 재설정됨");
             }
 
-            // 3️⃣ 카테고리 반영 전 점수 확인
-            log.info("🔎 [3단계] AI 결과 반영 전 점수 = {}", lifelog.getEsgScoreEffect());
-
             // 4️⃣ AI 결과를 기록에 반영
             LifeLog.Category detectedCategory = switch (result.getCategory().toUpperCase()) {
                 case "E" -> LifeLog.Category.E;
@@ -118,35 +132,35 @@ public class LifeLogService {
                 default -> LifeLog.Category.E;
             };
             lifelog.setCategory(detectedCategory);
-            log.info("🔎 [4단계] 카테고리 반영 후 ({}), 점수 = {}", detectedCategory, lifelog.getEsgScoreEffect());
 
             // ✅ 점수는 항상 ONE으로 고정
-            lifelog.setEsgScoreEffect(BigDecimal.ONE);
-            log.info("✅ [5단계] 점수 고정 적용 후 점수 = {}", lifelog.getEsgScoreEffect());
-
-            // ⚠️ confidence는 점수로 사용하지 않음
-            log.info("🧠 [AI confidence 로그 전용] confidence={}", result.getConfidence());
+            lifelog.setEsgScoreEffect(BigDecimal.ONE); // ⚠️ confidence는 점수로 사용하지 않음
 
             lifeLogRepository.save(lifelog);
-            log.info("💾 [3단계] 기록 카테고리 반영 후 DB 저장 완료: {} (카테고리={}, 점수={})",
+            log.debug("💾 [3단계] 기록 카테고리 반영 후 DB 저장 완료: {} (카테고리={}, 점수={})",
                 lifelog.getId(), detectedCategory, lifelog.getEsgScoreEffect());
-
-            // ⚡ DB 재조회
-            var reloaded = lifeLogRepository.findById(lifelog.getId()).get();
-            log.info("🧾 [확인] DB 반영 상태 → category={}, score={}",
-                    reloaded.getCategory(), reloaded.getEsgScoreEffect());
+            leaderboardAggregator.recordLifeLog(userId, detectedCategory, lifelog.getLoggedAt(),
+                    lifelog.getEsgScoreEffect().intValue());
+
+            // ⚡ DB 재조회 (검증 모드 전용)
+            if (verifyWrites) {
+                var reloaded = lifeLogRepository.findById(lifelog.getId()).get();
+                log.info("🧾 [확인] DB 반영 상태 → category={}, score={}",
+                        reloaded.getCategory(), reloaded.getEsgScoreEffect());
+            }
 
             // 수정 후
             questMatcherFacade.execute(userId, result);
-            log.info("🎯 [4단계] 퀘스트 매칭 완료 후, User 점수 상태를 확인합니다.");
+            log.debug("🎯 [4단계] 퀘스트 매칭 완료");
 
             // 6️⃣ 사용자 ESG 점수 합산
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("❌ 사용자 정보를 찾을 수 없습니다."));
 
-            User userAfterQuest = userRepository.findById(userId).get();
-            log.info("💰 [확인] 퀘스트 완료 직후 User 상태 → E={}, S={}, ESG={}",
-                    userAfterQuest.getEScore(), userAfterQuest.getSScore(), userAfterQuest.getEsgScore());
+            if (verifyWrites) {
+                log.info("💰 [확인] 퀘스트 완료 직후 User 상태 → E={}, S={}, ESG={}",
+                        user.getEScore(), user.getSScore(), user.getEsgScore());
+            }
 
             var eSum = lifeLogRepository.sumScoreByCategory(userId, LifeLog.Category.E);
             var sSum = lifeLogRepository.sumScoreByCategory(userId, LifeLog.Category.S);
@@ -157,17 +171,18 @@ public class LifeLogService {
             // int questScore = user.getEsgScore() != null ? user.getEsgScore() : 0;
             int total = eScore + sScore;
 
-            user.setEScore(eScore);
-            user.setSScore(sScore);
-            user.setEsgScore(total);
-            // user.setEsgScore(questScore);
-
-            userRepository.save(user);
-
-            // ⚡ DB 반영 확인
-            User checkFinal = userRepository.findById(userId).get();
-            log.info("🌱 [최종 확인] DB 반영 상태 → E={}, S={}, ESG={}",
-                    checkFinal.getEScore(), checkFinal.getSScore(), checkFinal.getEsgScore());
+            // 단일 UPDATE 로 반영 (퀘스트 보상 컨슈머와 동시에 User 를 갱신해도 낙관적 락 충돌 없음)
+            // 캐릭터 단계도 같은 UPDATE 에 포함 (추가 쓰기 없음)
+            userRepository.updateScores(userId, eScore, sScore, total, CharacterTier.url(total));
+            scoreDistribution.onScoreChanged(user.getEsgScore(), total);
+            myActivityCache.evict(userId);
+
+            // ⚡ DB 반영 확인 (검증 모드 전용)
+            if (verifyWrites) {
+                User checkFinal = userRepository.findById(userId).get();
+                log.info("🌱 [최종 확인] DB 반영 상태 → E={}, S={}, ESG={}",
+                        checkFinal.getEScore(), checkFinal.getSScore(), checkFinal.getEsgScore());
+            }
 
         } catch (Exception e) {
             log.error("⚠️ [AI/퀘스트 처리 실패] userId={}, error={}", userId, e.getMessage());
@@ -204,6 +219,9 @@ public class LifeLogService {
             throw new IllegalStateException("다른 사용자의 기록을 수정할 수 없습니다.");
         }
 
+        LifeLog.Category beforeCategory = log.getCategory();
+        int beforeEffect = log.getEsgScoreEffect() != null ? log.getEsgScoreEffect().intValue() : 0;
+
         log.setContent(request.getContent());
         log.setCategory(request.getCategory());
         // log.setEsgScoreEffect(request.getEsgScoreEffect());
@@ -211,7 +229,15 @@ public class LifeLogService {
         if (request.getEsgScoreEffect() != null) {
         log.setEsgScoreEffect(request.getEsgScoreEffect());
     }
-        lifeLogRepository.save(log);
+        // flush → @PreUpdate 점수 보정까지 끝난 값으로 비교
+        lifeLogRepository.saveAndFlush(log);
+
+        // 세그먼트 랭킹: 카테고리나 점수가 바뀌면 이전 기여분을 빼고 새 기여분을 더한다
+        int afterEffect = log.getEsgScoreEffect() != null ? log.getEsgScoreEffect().intValue() : 0;
+        if (beforeCategory != log.getCategory() || beforeEffect != afterEffect) {
+            leaderboardAggregator.recordLifeLog(userId, beforeCategory, log.getLoggedAt(), -beforeEffect);
+            leaderboardAggregator.recordLifeLog(userId, log.getCategory(), log.getLoggedAt(), afterEffect);
+        }
         updateUserScores(log.getUser());
 
         return LifeLogResponse.fromEntity(log);
@@ -227,6 +253,8 @@ public class LifeLogService {
         }
 
         lifeLogRepository.delete(log);
+        leaderboardAggregator.recordLifeLog(userId, log.getCategory(), log.getLoggedAt(),
+                -log.getEsgScoreEffect().intValue());
         updateUserScores(log.getUser());
     }
 
@@ -242,7 +270,9 @@ public class LifeLogService {
         user.setEScore(eScore);
         user.setSScore(sScore);
         user.setEsgScore(total);
+        CharacterTier.apply(user, total);
 
         userRepository.save(user);
+        myActivityCache.evict(user.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.matchaworld.backend.service.my;
+
+import java.util.Arrays;
+
+import com.matchaworld.backend.domain.User;
+
+/**
+ * ✅ E+S 점수 → 캐릭터 이미지 (정렬된 경계값 이진 탐색)
+ * - THRESHOLDS[i] 이상이면 i+1 단계, 첫 경계 미만은 default
+ * - 읽기 경로(/api/activity/me)는 url 만 계산, 저장은 점수 쓰기 시점에 단계가 바뀐 경우만
+ */
+public final class CharacterTier {
+
+    private static final int[] THRESHOLDS = {50, 150, 300, 500, 800, 1100, 1500, 2000, 2500};
+
+    private static final String[] URLS = {
+            "/uploads/character/default.png",
+            "/uploads/character/seed.png",
+            "/uploads/character/flower.png",
+            "/uploads/character/tree.png",
+            "/uploads/character/earth.png",
+            "/uploads/character/moon.png",
+            "/uploads/character/star.png",
+            "/uploads/character/sun.png",
+            "/uploads/character/wind.png",
+            "/uploads/character/cloud.png"
+    };
+
+    private CharacterTier() {
+    }
+
+    public static String url(int score) {
+        int found = Arrays.binarySearch(THRESHOLDS, score);
+        // 경계값과 같으면 다음 단계, 아니면 삽입 위치 = 점수보다 작은 경계 수
+        int tier = found >= 0 ? found + 1 : -found - 1;
+        return URLS[tier];
+    }
+
+    /**
+     * 관리 중인 엔티티에 반영 (단계가 같으면 건드리지 않아 dirty checking 대상이 되지 않음)
+     * @return 변경 여부
+     */
+    public static boolean apply(User user, int score) {
+        String url = url(score);
+        if (url.equals(user.getCharacter())) {
+            return false;
+        }
+        user.setCharacter(url);
+        return true;
+    }
+}
@@ -1,19 +1,18 @@
 package com.matchaworld.backend.service.my;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.matchaworld.backend.domain.Title;
 import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.domain.UserTitle;
+import com.matchaworld.backend.dto.response.my.ProfileTitleRow;
 import com.matchaworld.backend.dto.response.my.UserProfileResponse;
-import com.matchaworld.backend.repository.TitleRepository;
 import com.matchaworld.backend.repository.UserRepository;
 import com.matchaworld.backend.repository.UserTitleRepository;
 
@@ -27,9 +26,10 @@ public class UserMyService {
 
     private final UserRepository userRepository;
     private final UserTitleRepository userTitleRepository;
-    private final TitleRepository titleRepository;
     private final PasswordEncoder passwordEncoder;
 
+    private static final DateTimeFormatter EARNED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     /**
      * 사용자 프로필 조회
      */
@@ -38,31 +38,23 @@ public class UserMyService {
         User user = findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 모든 칭호 조회
-        List<Title> allTitles = titleRepository.findAll();
-        List<UserTitle> userTitles = userTitleRepository.findByUserId(userId);
-
-        // 대표 칭호 조회
-        Optional<UserTitle> mainTitle = userTitleRepository.findByUserIdAndIsMainTrue(userId);
-
-        // 칭호 DTO 생성
-        List<UserProfileResponse.TitleDTO> titleDTOList = allTitles.stream()
-                .map(title -> {
-                    Optional<UserTitle> userTitle = userTitles.stream()
-                            .filter(ut -> ut.getTitle().getId().equals(title.getId()))
-                            .findFirst();
-
-                    return UserProfileResponse.TitleDTO.builder()
-                            .titleId(title.getId())
-                            .name(title.getName())
-                            .description(title.getDescription())
-                            .earned(userTitle.isPresent())
-                            .earnedAt(userTitle.map(ut
-                                    -> ut.getEarnedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-                            ).orElse(null))
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 전체 칭호 + 보유 여부를 한 번의 LEFT JOIN 으로 조회 (칭호 수에 선형)
+        List<ProfileTitleRow> rows = userTitleRepository.findProfileTitleRows(userId);
+
+        List<UserProfileResponse.TitleDTO> titleDTOList = new ArrayList<>(rows.size());
+        ProfileTitleRow mainTitle = null;
+        for (ProfileTitleRow row : rows) {
+            if (row.isMainTitle()) {
+                mainTitle = row;
+            }
+            titleDTOList.add(UserProfileResponse.TitleDTO.builder()
+                    .titleId(row.getTitleId())
+                    .name(row.getName())
+                    .description(row.getDescription())
+                    .earned(row.isEarned())
+                    .earnedAt(row.isEarned() ? row.getEarnedAt().format(EARNED_AT_FORMAT) : null)
+                    .build());
+        }
 
         return UserProfileResponse.builder()
                 .userId(user.getId())
@@ -74,8 +66,8 @@ public class UserMyService {
                 .eScore(user.getEScore())
                 .sScore(user.getSScore())
                 .role(user.getRole().name())
-                .mainTitleId(mainTitle.map(ut -> ut.getTitle().getId()).orElse(null))
-                .mainTitleName(mainTitle.map(ut -> ut.getTitle().getName()).orElse(null))
+                .mainTitleId(mainTitle != null ? mainTitle.getTitleId() : null)
+                .mainTitleName(mainTitle != null ? mainTitle.getName() : null)
                 .titles(titleDTOList)
                 .build();
     }
@@ -174,31 +166,16 @@ public class UserMyService {
         }
     }
 
-    // 캐릭터 이미지 업데이트
+    // 캐릭터 이미지 업데이트 (단계가 바뀐 경우만 저장)
     @Transactional
     public String updateUserCharacter(Long userId, int score) {
-    
-        String characterImgUrl = "/uploads/character/default.png";
-        if (score < 50) characterImgUrl = "/uploads/character/default.png";
-        else if (score < 150) characterImgUrl ="/uploads/character/seed.png";
-        else if (score < 300) characterImgUrl ="/uploads/character/flower.png";
-        else if (score < 500) characterImgUrl ="/uploads/character/tree.png";
-        else if (score < 800) characterImgUrl ="/uploads/character/earth.png";
-        else if (score < 1100) characterImgUrl ="/uploads/character/moon.png";
-        else if (score < 1500) characterImgUrl ="/uploads/character/star.png";
-        else if (score < 2000) characterImgUrl ="/uploads/character/sun.png";
-        else if (score < 2500) characterImgUrl ="/uploads/character/wind.png";
-        else characterImgUrl = "/uploads/character/cloud.png";
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        user.setCharacter(characterImgUrl);
-
-        userRepository.save(user);
-        log.info("캐릭터 이미지 업데이트 완료: Character={}", user.getCharacter());
-
-        return characterImgUrl;
+        if (CharacterTier.apply(user, score)) {
+            log.info("캐릭터 이미지 업데이트 완료: Character={}", user.getCharacter());
+        }
+        return user.getCharacter();
     }
 
 
@@ -0,0 +1,20 @@
+package com.matchaworld.backend.service.outbox;
+
+import com.matchaworld.backend.domain.OutboxEvent;
+
+/**
+ * ✅ 아웃박스 이벤트 컨슈머
+ * - 이벤트 처리와 아웃박스 완료 표시가 같은 트랜잭션에서 커밋됨 → DB 부수효과는 1회만 반영
+ * - 예외를 던지면 롤백 후 backoff 재시도
+ */
+public interface OutboxConsumer<T> {
+
+    // 아웃박스 행에 기록되는 컨슈머 식별자 (변경 시 대기 중인 행이 처리되지 않음)
+    String name();
+
+    OutboxEvent.Type type();
+
+    Class<T> payloadType();
+
+    void consume(T payload);
+}
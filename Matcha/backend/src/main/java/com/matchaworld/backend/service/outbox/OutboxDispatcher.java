@@ -0,0 +1,199 @@
+package com.matchaworld.backend.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.repository.OutboxEventRepository;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 아웃박스 이벤트 디스패처
+ * - 커밋 직후 요청분은 전용 스레드 풀에서 즉시 처리, 주기 폴링은 재시도·유실분 처리
+ * - 이벤트마다 별도 트랜잭션: 조건부 UPDATE 로 선점(행 잠금) → 컨슈머 실행 → DONE
+ *   (여러 노드·스레드가 같은 행을 집어도 한 번만 처리됨)
+ * - 실패 시 롤백 후 새 트랜잭션에서 시도 횟수 + 지수 backoff 기록, 한도 초과 시 FAILED
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int CONFLICT_RETRIES = 3;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final LockedJobRunner lockedJobRunner;
+    private final Map<String, OutboxConsumer<?>> consumers;
+    private final ThreadPoolExecutor executor;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            LockedJobRunner lockedJobRunner,
+                            List<OutboxConsumer<?>> consumers,
+                            @Value("${app.outbox.workers:4}") int workers,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                            @Value("${app.outbox.max-backoff-ms:300000}") long maxBackoffMillis,
+                            @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lockedJobRunner = lockedJobRunner;
+        this.consumers = consumers.stream().collect(Collectors.toMap(OutboxConsumer::name, Function.identity()));
+        // 큐가 가득 차면 즉시 처리를 포기하고 폴링에 맡김 (요청 스레드로 역류하지 않음)
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1000), new CustomizableThreadFactory("outbox-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 커밋 직후 호출 - 발행된 이벤트를 비동기로 즉시 처리
+     */
+    public void dispatchAsync(List<Long> ids) {
+        try {
+            executor.execute(() -> ids.forEach(this::process));
+        } catch (RejectedExecutionException e) {
+            log.debug("[OUTBOX] 처리 큐 포화 → 폴링으로 처리 (ids={})", ids);
+        }
+    }
+
+    /**
+     * 처리 시각이 도래한 대기 이벤트 처리 (재시도 / 즉시 처리 누락분)
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void pollDue() {
+        List<Long> ids = outboxEventRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        ids.forEach(this::process);
+    }
+
+    /**
+     * 처리 완료 이벤트 정리 (매일 새벽 4시, 한 노드에서만)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeProcessed() {
+        lockedJobRunner.run("outbox-purge", Duration.ofMinutes(30), () -> {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays)));
+            log.info("[OUTBOX] 처리 완료 이벤트 정리 → {}건", deleted);
+        });
+    }
+
+    void process(Long id) {
+        String consumerName;
+        try {
+            consumerName = processWithConflictRetry(id);
+        } catch (Exception e) {
+            recordFailure(id, e);
+            return;
+        }
+        if (consumerName != null) {
+            meterRegistry.counter("matcha.outbox.events", "consumer", consumerName, "outcome", "done").increment();
+        }
+    }
+
+    // 낙관적 락 충돌은 backoff 없이 즉시 몇 차례 재시도 (동일 사용자 이벤트가 몰릴 때)
+    private String processWithConflictRetry(Long id) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return processOnce(id);
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= CONFLICT_RETRIES) {
+                    throw e;
+                }
+                log.debug("[OUTBOX] 동시 갱신 충돌 → 즉시 재시도 id={}, attempt={}", id, attempt);
+            }
+        }
+    }
+
+    private String processOnce(Long id) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (outboxEventRepository.claim(id, now) == 0) {
+                return null; // 이미 처리됨 또는 재시도 대기 중
+            }
+            OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+            consume(event);
+            event.markDone(now);
+            return event.getConsumer();
+        });
+    }
+
+    private <T> void consume(OutboxEvent event) {
+        @SuppressWarnings("unchecked")
+        OutboxConsumer<T> consumer = (OutboxConsumer<T>) consumers.get(event.getConsumer());
+        if (consumer == null) {
+            throw new IllegalStateException("등록되지 않은 아웃박스 컨슈머: " + event.getConsumer());
+        }
+        try {
+            consumer.consume(objectMapper.readValue(event.getPayload(), consumer.payloadType()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패: id=" + event.getId(), e);
+        }
+    }
+
+    private void recordFailure(Long id, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id)
+                    .filter(event -> event.getStatus() == OutboxEvent.Status.PENDING)
+                    .ifPresent(event -> markFailed(event, cause)));
+        } catch (Exception e) {
+            log.error("[OUTBOX] 실패 기록 중 오류 → id={}, error={}", id, e.getMessage());
+        }
+    }
+
+    private void markFailed(OutboxEvent event, Exception cause) {
+        long backoff = Math.min(maxBackoffMillis, retryBackoffMillis << Math.min(event.getAttempts(), 20));
+        event.markFailed(cause.toString(), LocalDateTime.now().plusNanos(backoff * 1_000_000), maxAttempts);
+        String outcome = event.getStatus() == OutboxEvent.Status.FAILED ? "failed" : "retry";
+        meterRegistry.counter("matcha.outbox.events", "consumer", event.getConsumer(), "outcome", outcome).increment();
+        log.warn("[OUTBOX] 이벤트 처리 실패 → id={}, consumer={}, attempts={}, status={}, error={}",
+                event.getId(), event.getConsumer(), event.getAttempts(), event.getStatus(), cause.getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,74 @@
+package com.matchaworld.backend.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.repository.OutboxEventRepository;
+import com.matchaworld.backend.support.AfterCommit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 아웃박스 이벤트 발행
+ * - 호출한 트랜잭션 안에서 구독 컨슈머별 행을 INSERT (핵심 상태 변경과 원자적으로 커밋)
+ * - 커밋 직후 디스패처에 즉시 처리를 요청, 실패·유실분은 주기 폴링이 처리
+ */
+@Slf4j
+@Component
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final Map<OutboxEvent.Type, List<String>> consumersByType;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository, OutboxDispatcher dispatcher,
+                           ObjectMapper objectMapper, List<OutboxConsumer<?>> consumers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.consumersByType = consumers.stream().collect(Collectors.groupingBy(
+                OutboxConsumer::type, Collectors.mapping(OutboxConsumer::name, Collectors.toList())));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEvent.Type type, Long aggregateId, Object payload) {
+        List<String> consumers = consumersByType.getOrDefault(type, List.of());
+        if (consumers.isEmpty()) {
+            log.warn("[OUTBOX] 구독 컨슈머 없음 → type={}", type);
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + type, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = consumers.stream()
+                .map(consumer -> OutboxEvent.builder()
+                        .eventType(type)
+                        .consumer(consumer)
+                        .aggregateId(aggregateId)
+                        .payload(json)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build())
+                .toList();
+        outboxEventRepository.saveAll(events);
+
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        AfterCommit.run(() -> dispatcher.dispatchAsync(ids));
+    }
+}
@@ -0,0 +1,69 @@
+package com.matchaworld.backend.service.quest;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.config.ReadYourWrites;
+import com.matchaworld.backend.domain.Certification;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.domain.UserQuest;
+import com.matchaworld.backend.repository.CertificationRepository;
+import com.matchaworld.backend.service.outbox.OutboxConsumer;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ AI 자동완료 인증 로그 저장 (CERTIFICATION_REQUESTED)
+ * - 사용자 퀘스트당 인증 1건 (UQ_ID 유니크) → 이미 있으면 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CertificationLogConsumer implements OutboxConsumer<CertificationRequestedEvent> {
+
+    private final CertificationRepository certificationRepository;
+    private final EntityManager em;
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    public String name() {
+        return "certification-log";
+    }
+
+    @Override
+    public OutboxEvent.Type type() {
+        return OutboxEvent.Type.CERTIFICATION_REQUESTED;
+    }
+
+    @Override
+    public Class<CertificationRequestedEvent> payloadType() {
+        return CertificationRequestedEvent.class;
+    }
+
+    @Override
+    public void consume(CertificationRequestedEvent event) {
+        if (certificationRepository.existsByUserQuest_Id(event.userQuestId())) {
+            log.debug("🪪 [인증 로그 스킵] 이미 저장됨 → userQuestId={}", event.userQuestId());
+            return;
+        }
+
+        Certification cert = Certification.builder()
+                .userQuest(em.getReference(UserQuest.class, event.userQuestId()))
+                .user(em.getReference(User.class, event.userId()))
+                .authType(Certification.AuthType.TEXT)
+                .authContent(event.authContent())
+                .validationStatus(Certification.ValidationStatus.SUCCESS)
+                .validatedAt(LocalDateTime.now())
+                .modelType(Certification.ModelType.OPENAPI)
+                .confidenceScore(event.confidence())
+                .build();
+
+        certificationRepository.save(cert);
+        readYourWrites.pin(event.userId());
+        log.debug("🪪 [인증 로그 저장 완료] userQuestId={}, userId={}", event.userQuestId(), event.userId());
+    }
+}
@@ -0,0 +1,7 @@
+package com.matchaworld.backend.service.quest;
+
+/**
+ * ✅ AI 자동완료 인증 로그 아웃박스 페이로드 (CERTIFICATION_REQUESTED)
+ */
+public record CertificationRequestedEvent(Long userId, Long userQuestId, String authContent, Double confidence) {
+}
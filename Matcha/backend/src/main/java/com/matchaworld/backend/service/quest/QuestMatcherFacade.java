@@ -17,12 +17,13 @@ public class QuestMatcherFacade {
     private final QuestMatcherService questMatcherService;
 
     /**
-     * ✅ 별도의 트랜잭션으로 퀘스트 매칭을 실행한다.
-     * - LifeLogService와 분리된 커넥션으로 실행되므로 락 충돌 방지
+     * ✅ 호출 측 트랜잭션과 분리하여 퀘스트 매칭을 실행한다.
+     * - 호출 측 트랜잭션을 보류(NOT_SUPPORTED)하고 조회/제출을 각각 짧은 트랜잭션으로 실행
+     * - 제출이 외부 트랜잭션에 묶이지 않아야 낙관적 락 충돌 시 재시도 가능
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Long userId, AiResult result) {
-        log.info("🚀 [Facade] REQUIRES_NEW 트랜잭션 시작 (userId={})", userId);
+        log.info("🚀 [Facade] 퀘스트 매칭 시작 (userId={})", userId);
         questMatcherService.matchAndComplete(userId, result);
         log.info("✅ [Facade] 퀘스트 매칭 완료 (userId={})", userId);
     }
@@ -1,19 +1,14 @@
 package com.matchaworld.backend.service.quest;
 
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.matchaworld.backend.domain.Certification;
-import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.domain.UserQuest;
 import com.matchaworld.backend.dto.response.ai.AiResult;
 import com.matchaworld.backend.dto.response.quest.QuestResponse;
 import com.matchaworld.backend.dto.response.quest.QuestSubmitResponse;
-import com.matchaworld.backend.repository.CertificationRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,93 +25,82 @@ import lombok.extern.slf4j.Slf4j;
 public class QuestMatcherService {
 
     private final QuestService questService;
-    private final CertificationRepository certificationRepository;
+    private final QuestSubmissionService questSubmissionService;
 
-    @Transactional
+    // 트랜잭션 없이 호출 → 조회/제출이 각각 짧은 트랜잭션으로 실행 (제출 충돌은 QuestSubmissionService 가 재시도)
     public void matchAndComplete(Long userId, AiResult result) {
+        List<String> keywords = Optional.ofNullable(result.getKeywords()).orElse(List.of());
+        if (keywords.isEmpty()) {
+            log.debug("⚠️ [자동완료 스킵] 키워드 없음 → {}", result);
+            return;
+        }
 
-        synchronized (userId.toString().intern()) {
-            List<String> keywords = Optional.ofNullable(result.getKeywords()).orElse(List.of());
-            if (keywords.isEmpty()) {
-                log.info("⚠️ [자동완료 스킵] 키워드 없음 → {}", result);
-                return;
-            }
-
-            List<QuestResponse> userQuests = questService.getUserQuests(userId);
-            if (userQuests.isEmpty()) {
-                log.info("⚠️ [자동완료 스킵] 진행 중 퀘스트 없음");
-                return;
-            }
+        List<QuestResponse> userQuests = questService.getUserQuests(userId);
+        if (userQuests.isEmpty()) {
+            log.debug("⚠️ [자동완료 스킵] 진행 중 퀘스트 없음");
+            return;
+        }
 
-            // ✅ 각 퀘스트별 매칭 점수 계산
-            Map<QuestResponse, Double> scored = new HashMap<>();
-            for (QuestResponse quest : userQuests) {
-                double score = calculateMatchScore(quest, result);
-                scored.put(quest, score);
-                log.info("📊 [매칭 점수 계산] quest='{}', 점수={}, keywords={}", 
-                        quest.getTitle(), String.format("%.2f", score), result.getKeywords());
+        // ✅ 각 퀘스트별 매칭 점수 계산
+        Map<QuestResponse, Double> scored = new HashMap<>();
+        boolean traceScores = log.isDebugEnabled();
+        for (QuestResponse quest : userQuests) {
+            double score = calculateMatchScore(quest, result);
+            scored.put(quest, score);
+            if (traceScores) {
+                log.debug("📊 [매칭 점수 계산] quest='{}', 점수={}, keywords={}",
+                        quest.getTitle(), String.format("%.2f", score), keywords);
             }
+        }
 
-            // ✅ 최고 점수 퀘스트 선택 (최소 2점 이상일 때만 자동완료)
-            QuestResponse bestMatch = scored.entrySet().stream()
-                    .filter(e -> e.getValue() >= 2.0)
-                    .max(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
-                    .orElse(null);
+        // ✅ 최고 점수 퀘스트 선택 (최소 2점 이상일 때만 자동완료)
+        QuestResponse bestMatch = scored.entrySet().stream()
+                .filter(e -> e.getValue() >= 2.0)
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
 
-            if (bestMatch == null) {
-                log.info("🤔 [자동완료 없음] 어떤 퀘스트도 충분히 일치하지 않음 (최고 점수={})",
+        if (bestMatch == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("🤔 [자동완료 없음] 어떤 퀘스트도 충분히 일치하지 않음 (최고 점수={})",
                         String.format("%.2f", scored.values().stream().max(Double::compareTo).orElse(0.0)));
-                return;
             }
+            return;
+        }
 
-            // ✅ 중복 완료 방지
-            if (!UserQuest.Status.PENDING.equals(bestMatch.getStatus())) {
-                log.info("⚠️ [자동완료 스킵] 이미 완료된 퀘스트 → {}", bestMatch.getTitle());
-                return;
-            }
+        // ✅ 중복 완료 방지
+        if (!UserQuest.Status.PENDING.equals(bestMatch.getStatus())) {
+            log.debug("⚠️ [자동완료 스킵] 이미 완료된 퀘스트 → {}", bestMatch.getTitle());
+            return;
+        }
 
-            // ✅ 자동완료 실행
-            try {
-                double finalScore = scored.get(bestMatch);
-                log.info("🎯 [자동완료 매칭 성공] '{}' → questId={}, userId={}, 매칭점수={}",
-                        bestMatch.getTitle(), bestMatch.getQuestId(), userId, String.format("%.2f", finalScore));
-
-                QuestSubmitResponse response = questService.submitQuest(bestMatch.getQuestId(), userId);
-                log.info("🏆 [퀘스트 완료 성공] userId={}, questId={}, message={}, +{}점",
-                        userId, bestMatch.getQuestId(), response.getMessage(), response.getReward());
-
-                // 인증 로그 저장
-                String safeAuthContent = Optional.ofNullable(result.getRawText())
-                        .filter(s -> !s.isBlank())
-                        .orElse("(내용 없음)");
-
-                Certification cert = Certification.builder()
-                        .userQuest(UserQuest.builder().id(bestMatch.getUserQuestId()).build())
-                        .user(User.builder().id(userId).build())
-                        .authType(Certification.AuthType.TEXT)
-                        .authContent(safeAuthContent)
-                        .validationStatus(Certification.ValidationStatus.SUCCESS)
-                        .validatedAt(LocalDateTime.now())
-                        .modelType(Certification.ModelType.OPENAPI)
-                        .confidenceScore(result.getConfidence())
-                        .build();
-
-                certificationRepository.save(cert);
-                log.info("🪪 [인증 로그 저장 완료] questId={}, userId={}, content={}",
-                        bestMatch.getQuestId(), userId, safeAuthContent);
-
-            } catch (Exception e) {
-                log.error("⚠️ [퀘스트 자동완료 실패] questId={}, userId={}, error={}",
-                        bestMatch.getQuestId(), userId, e.getMessage());
-            }
+        // ✅ 자동완료 실행
+        try {
+            log.info("🎯 [자동완료 매칭 성공] questId={}, userId={}, 매칭점수={}",
+                    bestMatch.getQuestId(), userId, scored.get(bestMatch));
+
+            // 인증 로그는 제출과 같은 트랜잭션에 아웃박스로 기록 (커밋 후 비동기 저장)
+            String safeAuthContent = Optional.ofNullable(result.getRawText())
+                    .filter(s -> !s.isBlank())
+                    .orElse("(내용 없음)");
+            CertificationRequestedEvent certification = new CertificationRequestedEvent(
+                    userId, bestMatch.getUserQuestId(), safeAuthContent, result.getConfidence());
+
+            QuestSubmitResponse response = questSubmissionService.submit(
+                    userId, bestMatch.getQuestId(), null, certification);
+            log.info("🏆 [퀘스트 완료 성공] userId={}, questId={}, message={}, +{}점",
+                    userId, bestMatch.getQuestId(), response.getMessage(), response.getReward());
+
+        } catch (Exception e) {
+            log.error("⚠️ [퀘스트 자동완료 실패] questId={}, userId={}, error={}",
+                    bestMatch.getQuestId(), userId, e.getMessage());
         }
     }
 
     /**
      * 🧠 퀘스트-기록 매칭 점수 계산식 (디버그 로그 포함)
      */
-    private double calculateMatchScore(QuestResponse quest, AiResult result) {
+    double calculateMatchScore(QuestResponse quest, AiResult result) {
         List<String> keywords = Optional.ofNullable(result.getKeywords()).orElse(List.of());
         String title = normalize(quest.getTitle());
         String desc = normalize(Optional.ofNullable(quest.getDescription()).orElse(""));
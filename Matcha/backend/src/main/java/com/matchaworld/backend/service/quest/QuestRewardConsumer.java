@@ -0,0 +1,53 @@
+package com.matchaworld.backend.service.quest;
+
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.config.ReadYourWrites;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.activity.MyActivityCache;
+import com.matchaworld.backend.service.outbox.OutboxConsumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 퀘스트 보상 → USER.ESG_SCORE 누적 (QUEST_REWARDED)
+ * - User @Version 낙관적 락 → 동시 갱신 충돌 시 아웃박스 디스패처가 재시도
+ * - 엔티티 갱신이므로 EsgScoreListener 점수 분포 반영 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestRewardConsumer implements OutboxConsumer<QuestRewardEvent> {
+
+    private final UserRepository userRepository;
+    private final MyActivityCache myActivityCache;
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    public String name() {
+        return "esg-score";
+    }
+
+    @Override
+    public OutboxEvent.Type type() {
+        return OutboxEvent.Type.QUEST_REWARDED;
+    }
+
+    @Override
+    public Class<QuestRewardEvent> payloadType() {
+        return QuestRewardEvent.class;
+    }
+
+    @Override
+    public void consume(QuestRewardEvent event) {
+        userRepository.findById(event.userId()).ifPresent(user -> {
+            int newEsgScore = (user.getEsgScore() != null ? user.getEsgScore() : 0) + event.reward();
+            user.setEsgScore(newEsgScore);
+            myActivityCache.evict(event.userId());
+            readYourWrites.pin(event.userId());
+            log.info("🌱 [ESG 점수 갱신 완료] userId={}, +{}, 총점={}", event.userId(), event.reward(), newEsgScore);
+        });
+    }
+}
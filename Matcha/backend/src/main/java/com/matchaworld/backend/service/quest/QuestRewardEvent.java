@@ -0,0 +1,13 @@
+package com.matchaworld.backend.service.quest;
+
+import java.time.LocalDateTime;
+
+import com.matchaworld.backend.domain.Quest;
+
+/**
+ * ✅ 퀘스트 제출/완료 아웃박스 페이로드 (QUEST_REWARDED, QUEST_COMPLETED 공용)
+ * - completedAt 은 최종 완료 시에만 채워짐
+ */
+public record QuestRewardEvent(Long userId, Long questId, Long userQuestId, Quest.Category category,
+                               int reward, LocalDateTime completedAt) {
+}
@@ -8,11 +8,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.OutboxEvent;
 import com.matchaworld.backend.domain.Quest;
 import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.domain.UserQuest;
@@ -21,6 +21,8 @@ import com.matchaworld.backend.dto.response.quest.QuestSubmitResponse;
 import com.matchaworld.backend.mapper.QuestMapper;
 import com.matchaworld.backend.repository.QuestRepository;
 import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.service.admin.ReferenceCacheEvictor;
+import com.matchaworld.backend.service.outbox.OutboxPublisher;
 import com.matchaworld.backend.service.title.TitleService;
 import com.matchaworld.backend.weather.WeatherClient;
 import com.matchaworld.backend.weather.WeatherInfo;
@@ -39,7 +41,22 @@ public class QuestServiceImpl implements QuestService {
     private final EntityManager em;
     private final WeatherClient weatherClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutboxPublisher outboxPublisher;
     private final TitleService titleService;
+    private final SeasonResetJob seasonResetJob;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
+
+    // 퀘스트 타입별 완료 보상 점수
+    public static int rewardOf(Quest.Type type) {
+        return switch (type) {
+            case DAILY ->
+                10;
+            case WEEKLY ->
+                50;
+            case SEASON ->
+                200;
+        };
+    }
 
     // 오늘의 퀘스트 조회
     @Transactional
@@ -76,8 +93,8 @@ public class QuestServiceImpl implements QuestService {
         return season.stream().map(QuestMapper::toResponse).toList();
     }
 
-    // 메인 퀘스트 통합 조회
-    @Transactional(readOnly = true)
+    // 메인 퀘스트 통합 조회 (미지급 시 퀘스트 지급 INSERT 포함 → readOnly 불가: 리플리카 라우팅 / 시퀀스 지연 flush)
+    @Transactional
     public Map<String, Object> getMainQuests(Long userId) {
         Map<String, Object> data = new HashMap<>();
         QuestResponse today = getTodayQuest(userId);
@@ -130,14 +147,29 @@ public class QuestServiceImpl implements QuestService {
         if (weather == null) {
             return assignRandomDailyFallback(userId);
         }
-        double temp = weather.getTemperature();
-        double humidity = weather.getHumidity();
-        double pm10 = weather.getPm10();
         List<Quest> dailyList = questRepository.findByTypeAndIsActive(Quest.Type.DAILY, true);
         if (dailyList.isEmpty()) {
             return assignRandomDailyFallback(userId);
         }
 
+        Quest selected = selectWeatherQuest(dailyList, weather);
+
+        UserQuest uq = new UserQuest();
+        uq.setUser(em.getReference(User.class, userId));
+        uq.setQuest(selected);
+        uq.setStatus(UserQuest.Status.PENDING);
+        uq.setStartedAt(LocalDateTime.now());
+        userQuestRepository.save(uq);
+
+        return QuestMapper.toResponse(selected);
+    }
+
+    // 날씨 조건(CONDITION_JSON) 충족 개수가 가장 많은 일일 퀘스트 선택
+    Quest selectWeatherQuest(List<Quest> dailyList, WeatherInfo weather) {
+        double temp = weather.getTemperature();
+        double humidity = weather.getHumidity();
+        double pm10 = weather.getPm10();
+
         Map<Quest, Integer> scored = new HashMap<>();
         for (Quest quest : dailyList) {
             try {
@@ -168,19 +200,10 @@ public class QuestServiceImpl implements QuestService {
             }
         }
 
-        Quest selected = scored.entrySet().stream()
+        return scored.entrySet().stream()
                 .max(Map.Entry.comparingByValue())
                 .map(Map.Entry::getKey)
                 .orElseGet(() -> dailyList.get(new Random().nextInt(dailyList.size())));
-
-        UserQuest uq = new UserQuest();
-        uq.setUser(em.getReference(User.class, userId));
-        uq.setQuest(selected);
-        uq.setStatus(UserQuest.Status.PENDING);
-        uq.setStartedAt(LocalDateTime.now());
-        userQuestRepository.save(uq);
-
-        return QuestMapper.toResponse(selected);
     }
 
     // 랜덤 대체 일일 퀘스트 지급
@@ -197,7 +220,8 @@ public class QuestServiceImpl implements QuestService {
         return QuestMapper.toResponse(random);
     }
 
-    // 퀘스트 완료 처리 및 칭호 지급 후 결과 반환
+    // 퀘스트 제출 처리 (시도 횟수/완료 상태, 칭호 지급은 동기 반영 → 응답에 새 칭호 포함)
+    // 점수 누적·랭킹 반영은 같은 트랜잭션에 아웃박스로 기록 → 커밋 후 비동기 처리
     @Transactional
     public QuestSubmitResponse submitQuest(Long questId, Long userId) {
         UserQuest uq = userQuestRepository.findByUserIdAndQuestId(userId, questId)
@@ -208,45 +232,35 @@ public class QuestServiceImpl implements QuestService {
             return new QuestSubmitResponse("이미 완료된 퀘스트입니다.", 0, List.of());
         }
 
-        // uq.setStatus(UserQuest.Status.SUCCESS);
-        // uq.setCompletedAt(LocalDateTime.now());
-        // userQuestRepository.save(uq);
         // 시도 횟수 증가
         uq.setAttemptCount(uq.getAttemptCount() + 1);
         Quest quest = uq.getQuest();
 
+        int reward = rewardOf(quest.getType());
+
         // maxAttempts 도달 시만 SUCCESS 처리
-        if (uq.getAttemptCount() >= quest.getMaxAttempts()) {
+        boolean completed = uq.getAttemptCount() >= quest.getMaxAttempts();
+        if (completed) {
             uq.setStatus(UserQuest.Status.SUCCESS);
             uq.setCompletedAt(LocalDateTime.now());
         }
 
         userQuestRepository.save(uq);
 
-        Quest.Type questType = uq.getQuest().getType();
-        int reward = switch (questType) {
-            case DAILY ->
-                10;
-            case WEEKLY ->
-                50;
-            case SEASON ->
-                200;
-            default ->
-                0;
-        };
-
-        // ✅ User 점수 갱신 (merge → dirty checking 자동 반영으로 변경)
-        User user = em.find(User.class, userId);
-        if (user != null) {
-            // ✅ 퀘스트 점수 누적
-            int newEsgScore = (user.getEsgScore() != null ? user.getEsgScore() : 0) + reward;
-            user.setEsgScore(newEsgScore);
-            log.info("🌱 [ESG 점수 갱신 완료] userId={}, +{}, 총점={}", userId, reward, newEsgScore);
+        QuestRewardEvent event = new QuestRewardEvent(userId, quest.getId(), uq.getId(), quest.getCategory(),
+                reward, uq.getCompletedAt());
+        outboxPublisher.publish(OutboxEvent.Type.QUEST_REWARDED, userId, event);
+        if (completed) {
+            outboxPublisher.publish(OutboxEvent.Type.QUEST_COMPLETED, userId, event);
         }
-        // 칭호 지급
-        List<String> newTitles = titleService.checkAndGrantTitle(user, uq.getQuest());
-        em.flush();
-        log.info("[INFO] 퀘스트 완료 → userId={}, +{}점, newTitles={}", userId, reward, newTitles);
+
+        // 칭호 조건은 완료 횟수 기준 → 최종 완료 시에만 검사 (카탈로그는 메모리, 사용자는 프록시 참조)
+        List<String> newTitles = completed
+                ? titleService.checkAndGrantTitle(em.getReference(User.class, userId), quest)
+                : List.of();
+
+        log.info("[INFO] 퀘스트 제출 → userId={}, +{}점, completed={}, newTitles={}",
+                userId, reward, completed, newTitles);
         return new QuestSubmitResponse("퀘스트 완료 성공", reward, newTitles);
     }
 
@@ -258,34 +272,32 @@ public class QuestServiceImpl implements QuestService {
         return list.stream().map(QuestMapper::toResponse).toList();
     }
 
-    // 기간 만료 퀘스트 자동 비활성화
-    @Scheduled(cron = "0 0 0 * * *")
+    // 기간 만료 퀘스트 자동 비활성화 (타입별 UPDATE 1회, 커밋 후 퀘스트 캐시 무효화)
+    // 자정 실행은 SchedulerConfig 가 한 노드에서만 호출
+    @Override
     @Transactional
     public void deactivateExpiredQuests() {
-        List<Quest> active = questRepository.findByIsActive(true);
         LocalDateTime now = LocalDateTime.now();
-        for (Quest quest : active) {
-            boolean deactivate = switch (quest.getType()) {
-                case DAILY ->
-                    quest.getCreatedAt().isBefore(now.minusDays(1));
-                case WEEKLY ->
-                    quest.getCreatedAt().isBefore(now.minusDays(7));
-                case SEASON ->
-                    quest.getCreatedAt().isBefore(now.minusMonths(6));
+        int total = 0;
+        for (Quest.Type type : Quest.Type.values()) {
+            LocalDateTime cutoff = switch (type) {
+                case DAILY -> now.minusDays(1);
+                case WEEKLY -> now.minusDays(7);
+                case SEASON -> now.minusMonths(6);
             };
-            if (deactivate) {
-                quest.setIsActive(false);
-                questRepository.save(quest);
-                log.info("[INFO] 퀘스트 자동 비활성화 → {}", quest.getTitle());
+            int updated = questRepository.deactivateCreatedBefore(type, cutoff);
+            if (updated > 0) {
+                log.info("[INFO] 퀘스트 자동 비활성화 → type={}, {}건", type, updated);
             }
+            total += updated;
         }
+        referenceCacheEvictor.evictQuests();
+        log.debug("[DEBUG] 만료 퀘스트 비활성화 완료 → {}건", total);
     }
 
-    // 시즌 종료 시 사용자 퀘스트 초기화
-    @Transactional
+    // 시즌 종료 시 사용자 퀘스트 초기화 (청크 단위 이관/삭제는 SeasonResetJob)
     public void resetSeasonUserQuests() {
-        List<UserQuest> seasonQuests = userQuestRepository.findByQuestType(Quest.Type.SEASON);
-        seasonQuests.forEach(userQuestRepository::delete);
+        seasonResetJob.run(true);
     }
 
     // MAX_ATTEMPTS 도달 시 자동 완료 처리
@@ -0,0 +1,185 @@
+package com.matchaworld.backend.service.quest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.domain.QuestSubmission;
+import com.matchaworld.backend.dto.response.quest.QuestSubmitResponse;
+import com.matchaworld.backend.repository.QuestSubmissionRepository;
+import com.matchaworld.backend.service.outbox.OutboxPublisher;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 퀘스트 제출 진입점 (제출 API, AI 이미지 인증, AI 자동 매칭 공통)
+ * - Idempotency-Key 가 있으면 (사용자, 퀘스트, 키) 유니크 INSERT 로 중복 요청을 걸러내고 최초 응답을 재사용
+ * - UserQuest/User 는 @Version 낙관적 락 → 동시 제출 충돌 시 새 트랜잭션으로 재시도
+ *   (재시도 시 이미 완료된 퀘스트는 "이미 완료" 응답이 되어 점수가 중복 누적되지 않음)
+ * - 호출 측 트랜잭션 밖에서 호출해야 재시도가 의미 있음
+ */
+@Slf4j
+@Service
+public class QuestSubmissionService {
+
+    private final QuestService questService;
+    private final QuestSubmissionRepository questSubmissionRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final LockedJobRunner lockedJobRunner;
+    private final int maxRetries;
+    private final long idempotencyTtlHours;
+
+    public QuestSubmissionService(QuestService questService,
+                                  QuestSubmissionRepository questSubmissionRepository,
+                                  OutboxPublisher outboxPublisher,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  LockedJobRunner lockedJobRunner,
+                                  @Value("${app.quest.submit.max-retries:5}") int maxRetries,
+                                  @Value("${app.quest.submit.idempotency-ttl-hours:24}") long idempotencyTtlHours) {
+        this.questService = questService;
+        this.questSubmissionRepository = questSubmissionRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockedJobRunner = lockedJobRunner;
+        this.maxRetries = maxRetries;
+        this.idempotencyTtlHours = idempotencyTtlHours;
+    }
+
+    public QuestSubmitResponse submit(Long userId, Long questId, String idempotencyKey) {
+        return submit(userId, questId, idempotencyKey, null);
+    }
+
+    /**
+     * @param certification AI 자동완료 인증 로그 (제출과 같은 트랜잭션에 아웃박스 기록, 없으면 null)
+     */
+    public QuestSubmitResponse submit(Long userId, Long questId, String idempotencyKey,
+                                      CertificationRequestedEvent certification) {
+        String key = normalizeKey(idempotencyKey);
+
+        for (int attempt = 1; ; attempt++) {
+            if (key != null) {
+                Optional<QuestSubmitResponse> replay = findResponse(userId, questId, key);
+                if (replay.isPresent()) {
+                    log.debug("[DEBUG] 중복 제출 → 저장된 응답 반환 (userId={}, questId={}, key={})", userId, questId, key);
+                    return replay.get();
+                }
+            }
+
+            try {
+                return transactionTemplate.execute(status -> submitOnce(userId, questId, key, certification));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 키의 요청이 먼저 INSERT 함 → 다음 루프에서 저장된 응답 조회
+                if (key == null || attempt >= maxRetries) {
+                    throw e;
+                }
+                log.debug("[DEBUG] 멱등키 선점됨 → 재조회 (userId={}, key={})", userId, key);
+            } catch (ConcurrencyFailureException | OptimisticLockException e) {
+                if (attempt >= maxRetries) {
+                    log.warn("[WARN] 퀘스트 제출 충돌 재시도 한도 초과 → userId={}, questId={}", userId, questId);
+                    throw new IllegalStateException("동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", e);
+                }
+                log.debug("[DEBUG] 퀘스트 제출 충돌 → 재시도 {}/{} (userId={}, questId={})",
+                        attempt, maxRetries, userId, questId);
+            }
+            backoff(attempt);
+        }
+    }
+
+    private QuestSubmitResponse submitOnce(Long userId, Long questId, String key,
+                                           CertificationRequestedEvent certification) {
+        QuestSubmission submission = null;
+        if (key != null) {
+            // 유니크 제약으로 중복 선점 (동시 요청은 먼저 INSERT 한 트랜잭션 종료까지 대기)
+            submission = questSubmissionRepository.saveAndFlush(QuestSubmission.builder()
+                    .userId(userId)
+                    .idempotencyKey(key)
+                    .questId(questId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        QuestSubmitResponse response = questService.submitQuest(questId, userId);
+
+        if (certification != null) {
+            outboxPublisher.publish(OutboxEvent.Type.CERTIFICATION_REQUESTED, userId, certification);
+        }
+        if (submission != null) {
+            submission.setResponse(toJson(response));
+        }
+        return response;
+    }
+
+    private Optional<QuestSubmitResponse> findResponse(Long userId, Long questId, String key) {
+        return questSubmissionRepository.findByUserIdAndQuestIdAndIdempotencyKey(userId, questId, key)
+                .map(QuestSubmission::getResponse)
+                .map(this::fromJson);
+    }
+
+    // 멱등키는 최대 64자, 공백 키는 키 없음으로 처리
+    private String normalizeKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > 64) {
+            throw new IllegalArgumentException("Idempotency-Key 는 64자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    // 충돌한 요청끼리 같은 시점에 다시 부딪히지 않도록 짧은 지터
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20L * attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("퀘스트 제출이 중단되었습니다.", e);
+        }
+    }
+
+    private String toJson(QuestSubmitResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제출 응답 직렬화 실패", e);
+        }
+    }
+
+    private QuestSubmitResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, QuestSubmitResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제출 응답 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 멱등키 정리 (매일 새벽 4시 30분, 한 노드에서만)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeExpiredKeys() {
+        lockedJobRunner.run("quest-submission-purge", Duration.ofMinutes(30), () -> {
+            Integer deleted = transactionTemplate.execute(status ->
+                    questSubmissionRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(idempotencyTtlHours)));
+            log.info("[INFO] 만료 멱등키 정리 → {}건", deleted);
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.matchaworld.backend.service.quest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.repository.CertificationRepository;
+import com.matchaworld.backend.repository.UserQuestHistoryRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.service.ranking.LeaderboardType;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 시즌 퀘스트 초기화 (지난 시즌 SEASON 퀘스트 진행 기록 정리)
+ * - 시즌 경계는 시즌 랭킹과 같은 달력 반기 (LeaderboardType.seasonStart, 1/1 · 7/1)
+ *   → 시즌 랭킹이 새로 시작될 때 시즌 퀘스트 진행도 함께 초기화
+ * - 퀘스트 정의의 비활성화(deactivateExpiredQuests, 생성 후 6개월)와는 별개로 사용자 진행 기록만 대상
+ * - 시즌 시작일 이전에 시작했거나 시작 시각이 없는(레거시) USER_QUEST 를 ID 키셋 청크 단위로 처리
+ * - 청크마다 짧은 트랜잭션: 완료 기록 INSERT ... SELECT 이관 → 인증 로그 / 사용자 퀘스트 일괄 DELETE
+ * - 청크 사이 pause-ms 만큼 쉬고, 업무 시간대에 들어서면 중단(PAUSED) → 다음 실행에서 남은 행부터 이어감
+ * - 처리 대상은 시즌 시작일로만 결정되므로 중간에 실패해도 그대로 재실행하면 됨 (이관은 중복 무시)
+ * - 매일 새벽 실행: 경계 직후 첫 실행이 정리하고, 업무 시간대로 중단된 나머지는 다음 날 이어감 (이후는 대상 없음)
+ */
+@Slf4j
+@Component
+public class SeasonResetJob {
+
+    public enum State { IDLE, RUNNING, PAUSED, COMPLETED, FAILED }
+
+    public record Progress(
+            State state,
+            LocalDate seasonStart,
+            long archived,
+            long deleted,
+            int chunks,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String message
+    ) {
+        static Progress idle() {
+            return new Progress(State.IDLE, null, 0, 0, 0, null, null, null);
+        }
+    }
+
+    private static final String JOB_NAME = "quest-season-reset";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(6);
+
+    private final UserQuestRepository userQuestRepository;
+    private final UserQuestHistoryRepository userQuestHistoryRepository;
+    private final CertificationRepository certificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LockedJobRunner lockedJobRunner;
+    private final Clock clock;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final LocalTime businessStart;
+    private final LocalTime businessEnd;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Progress progress = Progress.idle();
+
+    @Autowired
+    public SeasonResetJob(UserQuestRepository userQuestRepository,
+                          UserQuestHistoryRepository userQuestHistoryRepository,
+                          CertificationRepository certificationRepository,
+                          PlatformTransactionManager transactionManager,
+                          LockedJobRunner lockedJobRunner,
+                          @Value("${app.quest.season-reset.chunk-size:500}") int chunkSize,
+                          @Value("${app.quest.season-reset.pause-ms:200}") long pauseMillis,
+                          @Value("${app.quest.season-reset.business-hours-start:09:00}") LocalTime businessStart,
+                          @Value("${app.quest.season-reset.business-hours-end:22:00}") LocalTime businessEnd) {
+        this(userQuestRepository, userQuestHistoryRepository, certificationRepository, transactionManager,
+                lockedJobRunner, Clock.systemDefaultZone(), chunkSize, pauseMillis, businessStart, businessEnd);
+    }
+
+    SeasonResetJob(UserQuestRepository userQuestRepository,
+                   UserQuestHistoryRepository userQuestHistoryRepository,
+                   CertificationRepository certificationRepository,
+                   PlatformTransactionManager transactionManager,
+                   LockedJobRunner lockedJobRunner,
+                   Clock clock,
+                   int chunkSize,
+                   long pauseMillis,
+                   LocalTime businessStart,
+                   LocalTime businessEnd) {
+        this.userQuestRepository = userQuestRepository;
+        this.userQuestHistoryRepository = userQuestHistoryRepository;
+        this.certificationRepository = certificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockedJobRunner = lockedJobRunner;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.businessStart = businessStart;
+        this.businessEnd = businessEnd;
+    }
+
+    // 매일 새벽 실행 (한 노드에서만), 정리할 행이 없으면 즉시 종료
+    @Scheduled(cron = "${app.quest.season-reset.cron:0 0 3 * * *}")
+    public void runScheduled() {
+        lockedJobRunner.run(JOB_NAME, LOCK_AT_MOST_FOR, () -> run(false));
+    }
+
+    /**
+     * 관리자 수동 실행 (백그라운드 스레드)
+     * @param ignoreBusinessHours true 면 업무 시간대에도 중단하지 않음
+     * @return 이 노드에서 이미 실행 중이면 false (다른 노드가 실행 중이면 잠금 획득 실패로 건너뜀)
+     */
+    public boolean start(boolean ignoreBusinessHours) {
+        if (running.get()) {
+            return false;
+        }
+        Thread.ofVirtual().name("season-reset")
+                .start(() -> lockedJobRunner.run(JOB_NAME, LOCK_AT_MOST_FOR, () -> run(ignoreBusinessHours)));
+        return true;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    /**
+     * 지난 시즌 기록을 끝까지(또는 업무 시간대 진입 전까지) 정리
+     */
+    public Progress run(boolean ignoreBusinessHours) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[INFO] 시즌 초기화가 이미 실행 중 → 건너뜀");
+            return progress;
+        }
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDate seasonStart = LeaderboardType.seasonStart(startedAt.toLocalDate());
+        long archived = 0;
+        long deleted = 0;
+        int chunks = 0;
+        long afterId = 0L;
+        progress = new Progress(State.RUNNING, seasonStart, 0, 0, 0, startedAt, null, null);
+
+        try {
+            while (true) {
+                // 청크마다 현재 시각을 한 번만 읽음 (업무 시간대 판단과 이관 시각이 같은 값)
+                LocalDateTime now = LocalDateTime.now(clock);
+                if (!ignoreBusinessHours && isBusinessHours(now.toLocalTime())) {
+                    progress = new Progress(State.PAUSED, seasonStart, archived, deleted, chunks, startedAt,
+                            now, "업무 시간대 진입으로 중단");
+                    log.info("[INFO] 시즌 초기화 중단 (업무 시간대) → archived={}, deleted={}", archived, deleted);
+                    return progress;
+                }
+
+                List<Long> ids = userQuestRepository.findIdsByQuestTypeStartedBefore(
+                        Quest.Type.SEASON, seasonStart.atStartOfDay(), afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                int[] result = transactionTemplate.execute(status -> processChunk(ids, seasonStart, now));
+                archived += result[0];
+                deleted += result[1];
+                chunks++;
+                afterId = ids.get(ids.size() - 1);
+                progress = new Progress(State.RUNNING, seasonStart, archived, deleted, chunks, startedAt, null, null);
+                log.info("[INFO] 시즌 초기화 청크 #{} → archived={}, deleted={} (누적 archived={}, deleted={})",
+                        chunks, result[0], result[1], archived, deleted);
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+
+            progress = new Progress(State.COMPLETED, seasonStart, archived, deleted, chunks, startedAt,
+                    LocalDateTime.now(clock), null);
+            if (chunks > 0) {
+                log.info("[INFO] 시즌 초기화 완료 (seasonStart={}) → archived={}, deleted={}, chunks={}",
+                        seasonStart, archived, deleted, chunks);
+            }
+            return progress;
+        } catch (RuntimeException e) {
+            progress = new Progress(State.FAILED, seasonStart, archived, deleted, chunks, startedAt,
+                    LocalDateTime.now(clock), e.getMessage());
+            log.error("[ERROR] 시즌 초기화 실패 (재실행 시 남은 행부터 이어감)", e);
+            return progress;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 완료 기록 이관 → 인증 로그 삭제 → 사용자 퀘스트 삭제 (한 청크 = 한 트랜잭션)
+    private int[] processChunk(List<Long> ids, LocalDate seasonStart, LocalDateTime now) {
+        int archived = userQuestHistoryRepository.archiveCompleted(ids, seasonStart, now);
+        certificationRepository.deleteAllByUserQuestIdIn(ids);
+        int deleted = userQuestRepository.deleteAllByIdIn(ids);
+        return new int[] { archived, deleted };
+    }
+
+    private boolean isBusinessHours(LocalTime now) {
+        if (businessStart.equals(businessEnd)) {
+            return false;
+        }
+        if (businessStart.isBefore(businessEnd)) {
+            return !now.isBefore(businessStart) && now.isBefore(businessEnd);
+        }
+        return !now.isBefore(businessStart) || now.isBefore(businessEnd);
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시즌 초기화 대기 중 인터럽트", e);
+        }
+    }
+}
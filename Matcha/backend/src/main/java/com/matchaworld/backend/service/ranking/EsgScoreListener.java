@@ -0,0 +1,52 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.matchaworld.backend.domain.User;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * ✅ USER.ESG_SCORE 변경 감지 → 점수 분포(ScoreDistribution) 갱신
+ * - 로드 시점 점수를 기억해두고 UPDATE 후 값이 바뀐 경우만 이동
+ * - 서비스 곳곳의 setEsgScore 호출부를 건드리지 않기 위해 엔티티 리스너로 처리
+ */
+public class EsgScoreListener {
+
+    // EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<ScoreDistribution> distribution;
+
+    public EsgScoreListener(ObjectProvider<ScoreDistribution> distribution) {
+        this.distribution = distribution;
+    }
+
+    @PostLoad
+    public void onLoad(User user) {
+        user.setLoadedEsgScore(user.getEsgScore());
+    }
+
+    @PostPersist
+    public void onPersist(User user) {
+        distribution.ifAvailable(d -> d.onScoreChanged(null, user.getEsgScore()));
+        user.setLoadedEsgScore(user.getEsgScore());
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        Integer before = user.getLoadedEsgScore();
+        if (!Objects.equals(before, user.getEsgScore())) {
+            distribution.ifAvailable(d -> d.onScoreChanged(before, user.getEsgScore()));
+            user.setLoadedEsgScore(user.getEsgScore());
+        }
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        distribution.ifAvailable(d -> d.onScoreChanged(user.getLoadedEsgScore(), null));
+    }
+}
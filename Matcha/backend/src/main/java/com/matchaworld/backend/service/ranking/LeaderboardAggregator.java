@@ -0,0 +1,153 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.domain.LifeLog;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.repository.LifeLogRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.service.quest.QuestServiceImpl;
+import com.matchaworld.backend.support.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 세그먼트 랭킹 집계기 (주간 / 시즌 / E / S)
+ * - 기동 시 시즌 윈도우 범위의 LIFE_LOG, USER_QUEST 완료 내역으로 1회 적재
+ * - 이후에는 기록/퀘스트 완료 시점에 증분 반영 (트랜잭션 커밋 후)
+ * - 자정마다 윈도우 이동, 주기적으로 DB 기준 재적재하여 다른 노드의 변경분을 흡수
+ * - 재적재 중 들어온 증분은 따로 모아 두었다가 새 보드에 다시 반영한 뒤 교체 (교체 시점 유실 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardAggregator {
+
+    private final LifeLogRepository lifeLogRepository;
+    private final UserQuestRepository userQuestRepository;
+
+    private record Delta(Long userId, boolean social, LocalDate day, int delta) {
+    }
+
+    private final Object swapLock = new Object();
+    private volatile Map<LeaderboardType, SlidingWindowLeaderboard> boards = emptyBoards(LocalDate.now());
+    // 재적재 진행 중에만 non-null (swapLock 보유 상태에서 접근)
+    private List<Delta> pendingDuringRebuild;
+
+    public SlidingWindowLeaderboard board(LeaderboardType type) {
+        return boards.get(type);
+    }
+
+    /**
+     * 라이프로그 점수 반영 (삭제/카테고리 변경 시 음수 delta)
+     */
+    public void recordLifeLog(Long userId, LifeLog.Category category, LocalDateTime loggedAt, int delta) {
+        AfterCommit.run(() -> apply(userId, category == LifeLog.Category.S, loggedAt.toLocalDate(), delta));
+    }
+
+    /**
+     * 퀘스트 완료 보상 반영
+     */
+    public void recordQuestReward(Long userId, Quest.Category category, LocalDateTime completedAt, int reward) {
+        AfterCommit.run(() -> apply(userId, category == Quest.Category.S, completedAt.toLocalDate(), reward));
+    }
+
+    /**
+     * 자정마다 윈도우 이동 (만료 버킷 차감)
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void slide() {
+        LocalDate today = LocalDate.now();
+        boards.forEach((type, board) -> board.slide(type.windowStart(today)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 재적재 (시즌 윈도우 범위만 조회)
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.ranking.leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (swapLock) {
+            if (pendingDuringRebuild != null) {
+                return; // 다른 스레드가 재적재 중
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDateTime since = LeaderboardType.seasonStart(today).atStartOfDay();
+            Map<LeaderboardType, SlidingWindowLeaderboard> fresh = emptyBoards(today);
+
+            for (Object[] row : lifeLogRepository.findScoreEventsSince(since)) {
+                BigDecimal effect = (BigDecimal) row[3];
+                apply(fresh, (Long) row[0], row[1] == LifeLog.Category.S,
+                        ((LocalDateTime) row[2]).toLocalDate(), effect != null ? effect.intValue() : 0);
+            }
+            for (Object[] row : userQuestRepository.findCompletionEventsSince(since)) {
+                apply(fresh, (Long) row[0], row[1] == Quest.Category.S,
+                        ((LocalDateTime) row[3]).toLocalDate(), QuestServiceImpl.rewardOf((Quest.Type) row[2]));
+            }
+
+            int replayed;
+            synchronized (swapLock) {
+                replayed = pendingDuringRebuild.size();
+                for (Delta d : pendingDuringRebuild) {
+                    apply(fresh, d.userId(), d.social(), d.day(), d.delta());
+                }
+                boards = fresh;
+            }
+            log.info("🏁 [세그먼트 랭킹 적재 완료] weekly={}명, season={}명, 적재 중 증분={}건",
+                    fresh.get(LeaderboardType.WEEKLY).size(), fresh.get(LeaderboardType.SEASON).size(), replayed);
+        } catch (Exception e) {
+            log.error("⚠️ [세그먼트 랭킹 적재 실패] error={}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    // 현재 보드에 반영 + 재적재 중이면 새 보드용으로 보관 (보드 교체와 같은 잠금 안에서)
+    private void apply(Long userId, boolean social, LocalDate day, int delta) {
+        synchronized (swapLock) {
+            apply(boards, userId, social, day, delta);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new Delta(userId, social, day, delta));
+            }
+        }
+    }
+
+    private static void apply(Map<LeaderboardType, SlidingWindowLeaderboard> target,
+                              Long userId, boolean social, LocalDate day, int delta) {
+        target.get(LeaderboardType.WEEKLY).add(userId, day, delta);
+        target.get(LeaderboardType.SEASON).add(userId, day, delta);
+        target.get(social ? LeaderboardType.S : LeaderboardType.E).add(userId, day, delta);
+    }
+
+    private static Map<LeaderboardType, SlidingWindowLeaderboard> emptyBoards(LocalDate today) {
+        Map<LeaderboardType, SlidingWindowLeaderboard> map = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            SlidingWindowLeaderboard board = new SlidingWindowLeaderboard();
+            board.slide(type.windowStart(today));
+            map.put(type, board);
+        }
+        return map;
+    }
+}
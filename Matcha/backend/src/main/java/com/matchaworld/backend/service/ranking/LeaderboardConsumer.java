@@ -0,0 +1,40 @@
+package com.matchaworld.backend.service.ranking;
+
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.service.outbox.OutboxConsumer;
+import com.matchaworld.backend.service.quest.QuestRewardEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ✅ 퀘스트 완료 → 세그먼트 랭킹(주간/시즌/E/S) 반영 (QUEST_COMPLETED)
+ * - 메모리 반영은 아웃박스 처리 트랜잭션 커밋 이후 (AfterCommit)
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardConsumer implements OutboxConsumer<QuestRewardEvent> {
+
+    private final LeaderboardAggregator leaderboardAggregator;
+
+    @Override
+    public String name() {
+        return "leaderboard";
+    }
+
+    @Override
+    public OutboxEvent.Type type() {
+        return OutboxEvent.Type.QUEST_COMPLETED;
+    }
+
+    @Override
+    public Class<QuestRewardEvent> payloadType() {
+        return QuestRewardEvent.class;
+    }
+
+    @Override
+    public void consume(QuestRewardEvent event) {
+        leaderboardAggregator.recordQuestReward(event.userId(), event.category(), event.completedAt(), event.reward());
+    }
+}
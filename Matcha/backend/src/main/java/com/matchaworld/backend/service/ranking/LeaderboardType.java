@@ -0,0 +1,39 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * ✅ 세그먼트 랭킹 종류
+ * - WEEKLY : 최근 7일(오늘 포함) 슬라이딩 윈도우
+ * - SEASON : 이번 시즌(1~6월 / 7~12월) 누적
+ * - E, S   : 이번 시즌 카테고리별 누적
+ */
+public enum LeaderboardType {
+    WEEKLY,
+    SEASON,
+    E,
+    S;
+
+    // 윈도우 시작일 (이 날짜 이전 버킷은 만료)
+    public LocalDate windowStart(LocalDate today) {
+        if (this == WEEKLY) {
+            return today.minusDays(6);
+        }
+        return seasonStart(today);
+    }
+
+    // 시즌 퀘스트 주기(6개월)와 동일하게 반기 단위로 시즌을 나눈다
+    public static LocalDate seasonStart(LocalDate today) {
+        Month month = today.getMonthValue() <= 6 ? Month.JANUARY : Month.JULY;
+        return LocalDate.of(today.getYear(), month, 1);
+    }
+
+    public static LeaderboardType from(String value) {
+        try {
+            return LeaderboardType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("알 수 없는 랭킹 유형입니다: " + value);
+        }
+    }
+}
@@ -4,18 +4,29 @@ import com.matchaworld.backend.domain.User;
 import com.matchaworld.backend.dto.response.ranking.RankingResponse;
 import com.matchaworld.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class RankingService {
 
     private final UserRepository userRepository;
+    private final LeaderboardAggregator leaderboardAggregator;
+    private final ScoreDistribution scoreDistribution;
+
+    // exact: 기존 COUNT 쿼리, approximate: 메모리 히스토그램
+    @Value("${app.ranking.rank-mode:approximate}")
+    private String rankMode;
 
     /** ✅ 기존 글로벌 랭킹 */
     public List<RankingResponse> getGlobalRanking(int limit) {
@@ -29,16 +40,16 @@ public class RankingService {
                 .collect(Collectors.toList());
     }
 
-    /** ✅ 나의 랭킹 계산 */
+    /** ✅ 나의 랭킹 계산 (설정된 기본 모드) */
     public RankingResponse getMyRanking(Long userId) {
+        return getMyRanking(userId, exactByDefault());
+    }
+
+    /** ✅ 나의 랭킹 계산 (exact: COUNT 쿼리 / approximate: 점수 분포 히스토그램) */
+    public RankingResponse getMyRanking(Long userId, boolean exact) {
         User me = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        long higher = userRepository.countByEsgScoreGreaterThan(me.getEsgScore());
-        return new RankingResponse(
-                (int) higher + 1,
-                me.getNickname(),
-                me.getEsgScore()
-        );
+        return rankingOf(me, exact);
     }
 
     /** ✅ 로그인한 사용자를 최상단에 표시하는 글로벌 랭킹 */
@@ -51,12 +62,7 @@ public class RankingService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         // 내 순위 계산
-        long higher = userRepository.countByEsgScoreGreaterThan(me.getEsgScore());
-        RankingResponse myRanking = new RankingResponse(
-                (int) higher + 1,
-                me.getNickname(),
-                me.getEsgScore()
-        );
+        RankingResponse myRanking = rankingOf(me, exactByDefault());
 
         // 내 아이디와 일치하는 항목 제외
         List<RankingResponse> globalList = IntStream.range(0, Math.min(topUsers.size(), limit))
@@ -75,4 +81,54 @@ public class RankingService {
 
         return result;
     }
-}
\ No newline at end of file
+
+    /** ✅ 세그먼트 랭킹 (주간/시즌/E/S) - 로그인한 사용자를 최상단에 표시 */
+    public List<RankingResponse> getLeaderboardWithUserOnTop(LeaderboardType type, Long userId, int limit) {
+        SlidingWindowLeaderboard board = leaderboardAggregator.board(type);
+        List<SlidingWindowLeaderboard.Standing> top = board.top(limit);
+
+        // 닉네임은 상위 N명 + 나만 IN 조회
+        Set<Long> ids = top.stream().map(SlidingWindowLeaderboard.Standing::userId).collect(Collectors.toSet());
+        ids.add(userId);
+        Map<Long, String> nicknames = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+        if (!nicknames.containsKey(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+
+        List<RankingResponse> result = new ArrayList<>();
+        result.add(new RankingResponse(board.rankOf(userId), nicknames.get(userId), board.scoreOf(userId)));
+        for (int i = 0; i < top.size(); i++) {
+            SlidingWindowLeaderboard.Standing standing = top.get(i);
+            if (standing.userId() == userId || !nicknames.containsKey(standing.userId())) {
+                continue; // ✅ 중복 방지 + 탈퇴 사용자 제외
+            }
+            result.add(new RankingResponse(i + 1, nicknames.get(standing.userId()), standing.score()));
+        }
+        return result;
+    }
+
+    /** ✅ 세그먼트 랭킹 내 순위 */
+    public RankingResponse getMyLeaderboardRanking(LeaderboardType type, Long userId) {
+        User me = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        SlidingWindowLeaderboard board = leaderboardAggregator.board(type);
+        return new RankingResponse(board.rankOf(userId), me.getNickname(), board.scoreOf(userId));
+    }
+
+    private boolean exactByDefault() {
+        return "exact".equalsIgnoreCase(rankMode);
+    }
+
+    private RankingResponse rankingOf(User me, boolean exact) {
+        int score = me.getEsgScore() != null ? me.getEsgScore() : 0;
+        if (exact) {
+            long higher = userRepository.countByEsgScoreGreaterThan(score);
+            return new RankingResponse((int) higher + 1, me.getNickname(), score, null, false);
+        }
+        // 히스토그램 경로: 버킷 내부 보간을 거친 경우만 근사치로 표시
+        ScoreHistogram.Estimate estimate = scoreDistribution.estimate(score);
+        return new RankingResponse(estimate.rank(), me.getNickname(), score, estimate.topPercent(),
+                estimate.interpolated());
+    }
+}
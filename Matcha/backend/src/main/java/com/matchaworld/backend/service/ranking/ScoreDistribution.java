@@ -0,0 +1,76 @@
+package com.matchaworld.backend.service.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.support.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 전체 사용자 ESG 점수 분포 (근사 순위용)
+ * - 기동 시 점수별 인원 수(GROUP BY)로 1회 적재
+ * - 이후 USER 점수 변경은 EsgScoreListener가 커밋 후 반영
+ * - 주기적으로 DB 기준 재적재하여 다른 노드 / 벌크 UPDATE 변경분을 흡수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreDistribution {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.ranking.histogram.bucket-width:10}")
+    private int bucketWidth;
+
+    @Value("${app.ranking.histogram.max-score:100000}")
+    private int maxScore;
+
+    private volatile ScoreHistogram histogram;
+
+    public ScoreHistogram.Estimate estimate(int score) {
+        ScoreHistogram current = histogram;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current.estimate(score);
+    }
+
+    /**
+     * 점수 변경 반영 (신규: before=null, 삭제: after=null)
+     */
+    public void onScoreChanged(Integer before, Integer after) {
+        AfterCommit.run(() -> {
+            ScoreHistogram current = histogram;
+            if (current != null) {
+                current.move(before, after);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("⚠️ [점수 분포 적재 실패] error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.histogram.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.ranking.histogram.rebuild-interval-ms:600000}")
+    public ScoreHistogram rebuild() {
+        ScoreHistogram fresh = new ScoreHistogram(bucketWidth, maxScore);
+        for (Object[] row : userRepository.countGroupByEsgScore()) {
+            fresh.add(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        histogram = fresh;
+        log.info("📊 [점수 분포 적재 완료] users={}, bucketWidth={}", fresh.total(), bucketWidth);
+        return fresh;
+    }
+}
@@ -0,0 +1,88 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ✅ ESG 점수 분포 히스토그램 (근사 순위용)
+ * - 고정 폭 버킷 + 펜윅 트리(누적 합)로 "나보다 높은 점수 인원"을 O(log B)에 계산 (B = 버킷 수, 고정)
+ * - 버킷 내부는 균등 분포로 보간, bucketWidth=1 이면 정확한 순위와 동일
+ * - maxScore 이상은 마지막 버킷에 합산
+ * - 락 없이 원자적 카운터로 갱신 (읽기 시점의 미세한 불일치는 근사치로 허용)
+ */
+public class ScoreHistogram {
+
+    /** 근사 순위 (rank: 1부터, topPercent: 상위 %, interpolated: 버킷 내부 보간 사용 여부) */
+    public record Estimate(int rank, double topPercent, boolean interpolated) {
+    }
+
+    private final int bucketWidth;
+    private final int bucketCount;
+    private final AtomicLongArray tree;      // 펜윅 트리 (1-based)
+    private final AtomicLongArray counts;    // 버킷별 인원 수
+    private final AtomicLong total = new AtomicLong();
+
+    public ScoreHistogram(int bucketWidth, int maxScore) {
+        this.bucketWidth = Math.max(1, bucketWidth);
+        this.bucketCount = maxScore / this.bucketWidth + 1;
+        this.tree = new AtomicLongArray(bucketCount + 1);
+        this.counts = new AtomicLongArray(bucketCount);
+    }
+
+    public void add(int score, long delta) {
+        int bucket = bucketOf(score);
+        counts.addAndGet(bucket, delta);
+        total.addAndGet(delta);
+        for (int i = bucket + 1; i <= bucketCount; i += i & -i) {
+            tree.addAndGet(i, delta);
+        }
+    }
+
+    public void move(Integer before, Integer after) {
+        if (before != null) {
+            add(before, -1);
+        }
+        if (after != null) {
+            add(after, 1);
+        }
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    // 조회 대상 사용자도 분포에 포함되어 있다고 가정
+    public Estimate estimate(int score) {
+        long totalUsers = Math.max(total.get(), 1);
+        int bucket = bucketOf(score);
+
+        // 상위 버킷 인원 = 전체 - (내 버킷까지의 누적)
+        long above = Math.max(0, total.get() - prefix(bucket + 1));
+
+        // 내 버킷 안에서 나보다 높은 인원 (본인 제외, 균등 분포 가정)
+        long others = Math.max(0, counts.get(bucket) - 1);
+        long higherInBucket = 0;
+        // 버킷 폭 1 이거나 같은 버킷에 다른 사용자가 없으면 보간 없이 정확한 순위
+        boolean interpolated = bucketWidth > 1 && others > 0;
+        if (bucket < bucketCount - 1 && others > 0) {
+            int upper = (bucket + 1) * bucketWidth - 1;
+            higherInBucket = Math.round((double) others * (upper - score) / bucketWidth);
+        }
+
+        int rank = (int) Math.min(Integer.MAX_VALUE, above + higherInBucket + 1);
+        double topPercent = Math.min(100.0, Math.round(rank * 1000.0 / totalUsers) / 10.0);
+        return new Estimate(rank, topPercent, interpolated);
+    }
+
+    private long prefix(int count) {
+        long sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree.get(i);
+        }
+        return sum;
+    }
+
+    private int bucketOf(int score) {
+        return Math.min(Math.max(score, 0) / bucketWidth, bucketCount - 1);
+    }
+}
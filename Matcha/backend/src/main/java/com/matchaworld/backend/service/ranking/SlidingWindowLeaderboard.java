@@ -0,0 +1,160 @@
+package com.matchaworld.backend.service.ranking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 일 단위 버킷 기반 증분 슬라이딩 윈도우 랭킹
+ * - 점수 이벤트는 해당 일자 버킷과 누적 합계에 동시에 반영 (SUM 쿼리 없음)
+ * - 윈도우가 밀리면 만료된 버킷만큼 누적 합계에서 차감
+ * - 정렬 집합(점수 내림차순)으로 상위 N명, 점수별 인원 수로 내 순위를 조회
+ */
+public class SlidingWindowLeaderboard {
+
+    /** 랭킹 항목 (userId, 윈도우 내 점수) */
+    public record Standing(long userId, int score) {
+    }
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingInt(Standing::score).reversed()
+            .thenComparingLong(Standing::userId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // epochDay → (userId → 해당 일자 점수)
+    private final NavigableMap<Long, Map<Long, Integer>> buckets = new TreeMap<>();
+    // userId → 윈도우 내 누적 점수
+    private final Map<Long, Integer> totals = new HashMap<>();
+    // 점수 내림차순 정렬 (상위 N명 조회용)
+    private final TreeSet<Standing> standings = new TreeSet<>(ORDER);
+    // 점수 → 해당 점수 인원 수 (내림차순, 순위 계산용)
+    private final TreeMap<Integer, Integer> scoreCounts = new TreeMap<>(Comparator.reverseOrder());
+
+    private long windowStartDay = Long.MIN_VALUE;
+
+    /**
+     * 점수 이벤트 반영 (윈도우 밖의 과거 이벤트는 무시)
+     */
+    public void add(long userId, LocalDate day, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        long epochDay = day.toEpochDay();
+        lock.writeLock().lock();
+        try {
+            if (epochDay < windowStartDay) {
+                return;
+            }
+            buckets.computeIfAbsent(epochDay, d -> new HashMap<>()).merge(userId, delta, Integer::sum);
+            applyDelta(userId, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 윈도우 시작일 이동 → 만료된 버킷을 누적 합계에서 차감
+     */
+    public void slide(LocalDate windowStart) {
+        long startDay = windowStart.toEpochDay();
+        lock.writeLock().lock();
+        try {
+            windowStartDay = Math.max(windowStartDay, startDay);
+            Iterator<Map<Long, Integer>> expired = buckets.headMap(windowStartDay, false).values().iterator();
+            while (expired.hasNext()) {
+                expired.next().forEach((userId, score) -> applyDelta(userId, -score));
+                expired.remove();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명 조회
+     */
+    public List<Standing> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Standing> result = new ArrayList<>(Math.min(limit, standings.size()));
+            for (Standing standing : standings) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(standing);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 점수 조회 (기록 없으면 0)
+     */
+    public int scoreOf(long userId) {
+        lock.readLock().lock();
+        try {
+            return totals.getOrDefault(userId, 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 순위 조회 (나보다 점수가 높은 인원 + 1)
+     * - 점수가 없는 사용자는 랭킹 인원 다음 순위
+     */
+    public int rankOf(long userId) {
+        lock.readLock().lock();
+        try {
+            Integer score = totals.get(userId);
+            if (score == null) {
+                return standings.size() + 1;
+            }
+            int higher = 0;
+            for (int count : scoreCounts.headMap(score, false).values()) {
+                higher += count;
+            }
+            return higher + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 누적 합계 / 정렬 집합 / 점수별 인원 수를 함께 갱신 (쓰기 락 보유 상태에서 호출)
+    private void applyDelta(long userId, int delta) {
+        Integer before = totals.get(userId);
+        if (before != null) {
+            standings.remove(new Standing(userId, before));
+            scoreCounts.computeIfPresent(before, (s, c) -> c > 1 ? c - 1 : null);
+        }
+
+        int after = (before != null ? before : 0) + delta;
+        if (after == 0) {
+            totals.remove(userId);
+            return;
+        }
+        totals.put(userId, after);
+        standings.add(new Standing(userId, after));
+        scoreCounts.merge(after, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,168 @@
+package com.matchaworld.backend.service.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.SchedulerJobRun;
+import com.matchaworld.backend.repository.SchedulerJobRunRepository;
+import com.matchaworld.backend.repository.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 클러스터 단일 실행 스케줄 작업 (SCHEDULER_LOCK 테이블 임대 잠금)
+ * - 모든 노드가 같은 cron 으로 깨어나되, 잠금을 획득한 한 노드만 작업 실행
+ * - lockAtMostFor: 노드가 죽어도 이 시간이 지나면 다른 노드가 가져갈 수 있음 (작업 최대 소요 시간보다 길게)
+ * - 해제 시 최소 보유 시간(lock-at-least-for)까지는 잠금 유지 → 시계가 조금 어긋난 노드의 재실행 방지
+ * - 잠금 시도 전 임의 지연(jitter)으로 자정 동시 접근 분산
+ * - 실행 이력은 SCHEDULER_JOB_RUN, 소요 시간은 matcha.scheduler.job 타이머
+ */
+@Slf4j
+@Component
+public class LockedJobRunner {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final SchedulerJobRunRepository schedulerJobRunRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final String node;
+    private final long maxJitterMillis;
+    private final Duration lockAtLeastFor;
+    private final int historyRetentionDays;
+
+    public LockedJobRunner(SchedulerLockRepository schedulerLockRepository,
+                           SchedulerJobRunRepository schedulerJobRunRepository,
+                           MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.scheduler.node-id:}") String nodeId,
+                           @Value("${app.scheduler.max-jitter-ms:5000}") long maxJitterMillis,
+                           @Value("${app.scheduler.lock-at-least-for-ms:60000}") long lockAtLeastForMillis,
+                           @Value("${app.scheduler.history-retention-days:30}") int historyRetentionDays) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.schedulerJobRunRepository = schedulerJobRunRepository;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 기본 노드 식별자: pid@hostname
+        this.node = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.maxJitterMillis = maxJitterMillis;
+        this.lockAtLeastFor = Duration.ofMillis(lockAtLeastForMillis);
+        this.historyRetentionDays = historyRetentionDays;
+    }
+
+    /**
+     * 잠금을 획득한 경우에만 작업 실행
+     * @param lockAtMostFor 잠금 최대 보유 시간 (작업이 끝나지 않아도 이후 해제된 것으로 간주)
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 보유 중이라 건너뛰었으면 false
+     */
+    public boolean run(String jobName, Duration lockAtMostFor, Runnable job) {
+        jitter();
+
+        LocalDateTime lockedAt = LocalDateTime.now();
+        if (!tryAcquire(jobName, lockedAt, lockedAt.plus(lockAtMostFor))) {
+            meterRegistry.counter("matcha.scheduler.job.skipped", "job", jobName).increment();
+            log.debug("[SCHEDULER] {} → 다른 노드가 실행 중이거나 이미 실행됨, 건너뜀", jobName);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        SchedulerJobRun.Status status = SchedulerJobRun.Status.SUCCESS;
+        String error = null;
+        try {
+            log.info("[SCHEDULER] {} 시작 (node={})", jobName, node);
+            job.run();
+        } catch (RuntimeException e) {
+            status = SchedulerJobRun.Status.FAILED;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("[SCHEDULER] {} 실패", jobName, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            LocalDateTime finishedAt = LocalDateTime.now();
+            Timer.builder("matcha.scheduler.job")
+                    .tag("job", jobName)
+                    .tag("outcome", status.name().toLowerCase())
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            release(jobName, lockedAt, finishedAt);
+            recordRun(new SchedulerJobRun(jobName, node, status, lockedAt, finishedAt,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), error));
+            log.info("[SCHEDULER] {} 종료 → {} ({}ms)", jobName, status, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 실행 이력 정리 (매일 새벽 4시 45분)
+     */
+    @Scheduled(cron = "0 45 4 * * *")
+    public void purgeHistory() {
+        run("scheduler-history-purge", Duration.ofMinutes(10), () -> {
+            Integer deleted = transactionTemplate.execute(status ->
+                    schedulerJobRunRepository.deleteStartedBefore(LocalDateTime.now().minusDays(historyRetentionDays)));
+            log.info("[SCHEDULER] 실행 이력 정리 → {}건", deleted);
+        });
+    }
+
+    // 만료된 잠금 가져가기 → 잠금 행이 없으면 생성 (동시 생성은 PK 충돌로 한 노드만 성공)
+    private boolean tryAcquire(String jobName, LocalDateTime now, LocalDateTime lockedUntil) {
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryLock(jobName, now, lockedUntil, node));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> schedulerLockRepository.existsById(jobName)))) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.insertLock(jobName, now, lockedUntil, node));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void release(String jobName, LocalDateTime lockedAt, LocalDateTime finishedAt) {
+        LocalDateTime atLeastUntil = lockedAt.plus(lockAtLeastFor);
+        LocalDateTime lockedUntil = atLeastUntil.isAfter(finishedAt) ? atLeastUntil : finishedAt;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.unlock(jobName, lockedUntil, node));
+        } catch (RuntimeException e) {
+            // 해제 실패 시 lockAtMostFor 경과 후 자동 만료
+            log.warn("[SCHEDULER] {} 잠금 해제 실패 → {}", jobName, e.getMessage());
+        }
+    }
+
+    private void recordRun(SchedulerJobRun run) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> schedulerJobRunRepository.save(run));
+        } catch (RuntimeException e) {
+            log.warn("[SCHEDULER] {} 실행 이력 저장 실패 → {}", run.getJobName(), e.getMessage());
+        }
+    }
+
+    private void jitter() {
+        if (maxJitterMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.matchaworld.backend.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 메모리 저장소 (테스트용, app.storage.type=memory)
+ * - 디스크/외부 스토리지 없이 업로드·삭제 흐름 검증, URL = memory://{키}
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "memory")
+public class InMemoryStorageService implements StorageService {
+
+    private static final String URL_PREFIX = "memory://";
+
+    public record StoredObject(String contentType, byte[] content) {
+    }
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public String store(String directory, String originalFilename, String contentType, long contentLength,
+                        InputStream content) throws IOException {
+        String key = StorageKeys.newKey(directory, originalFilename);
+        objects.put(key, new StoredObject(contentType, content.readAllBytes()));
+        return URL_PREFIX + key;
+    }
+
+    @Override
+    public boolean deleteByUrl(String url) {
+        return url != null && url.startsWith(URL_PREFIX) && objects.remove(url.substring(URL_PREFIX.length())) != null;
+    }
+
+    public Optional<StoredObject> find(String url) {
+        return url != null && url.startsWith(URL_PREFIX)
+                ? Optional.ofNullable(objects.get(url.substring(URL_PREFIX.length())))
+                : Optional.empty();
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.matchaworld.backend.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 로컬 디스크 저장소 (기본값)
+ * - file.upload-dir 아래 {directory}/{uuid}_{파일명}, URL = file.base-url + /uploads/ + 키
+ * - 임시 파일로 스트리밍 복사 후 이동 → 쓰는 도중의 파일이 서빙되지 않음
+ * - 노드마다 디스크가 따로라 다중 인스턴스 배포에서는 s3 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageService implements StorageService {
+
+    private static final String URL_PATH = "/uploads/";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalStorageService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                               @Value("${file.base-url:http://localhost:8080}") String baseUrl) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String store(String directory, String originalFilename, String contentType, long contentLength,
+                        InputStream content) throws IOException {
+        String key = StorageKeys.newKey(directory, originalFilename);
+        Path target = root.resolve(key);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return baseUrl + URL_PATH + key;
+    }
+
+    @Override
+    public boolean deleteByUrl(String url) {
+        if (url == null || !url.contains(URL_PATH)) {
+            return false;
+        }
+        Path target = root.resolve(url.substring(url.indexOf(URL_PATH) + URL_PATH.length())).normalize();
+        if (!target.startsWith(root)) {
+            log.warn("업로드 디렉터리 밖 경로 삭제 요청 무시: {}", url);
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(target);
+        } catch (IOException e) {
+            log.error("파일 삭제 실패: {}", url, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.matchaworld.backend.service.storage;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ S3 호환 오브젝트 스토리지 (NCP Object Storage, app.storage.type=s3)
+ * - Content-Length 를 지정해 요청 본문을 스트리밍 전송 (SDK 가 전체를 버퍼링하지 않음)
+ * - 키에 UUID 가 있어 내용이 바뀌지 않음 → Cache-Control: public, max-age, immutable 로 저장, ETag 는 스토리지가 생성
+ * - URL = public-base-url(CDN 도메인) + / + 키, 비어 있으면 endpoint/bucket 경로
+ * - 지표: matcha.external.calls{service=object-storage}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "s3")
+public class S3StorageService implements StorageService {
+
+    private final AmazonS3 s3;
+    private final ExternalCallMetrics externalCallMetrics;
+    private final String bucket;
+    private final String publicBaseUrl;
+    private final String cacheControl;
+    private final boolean publicRead;
+
+    public S3StorageService(ExternalCallMetrics externalCallMetrics,
+                            @Value("${app.storage.s3.endpoint:https://kr.object.ncloudstorage.com}") String endpoint,
+                            @Value("${app.storage.s3.region:kr-standard}") String region,
+                            @Value("${app.storage.s3.bucket:${ncp.bucket}}") String bucket,
+                            @Value("${app.storage.s3.public-base-url:}") String publicBaseUrl,
+                            @Value("${app.storage.s3.public-read:true}") boolean publicRead,
+                            @Value("${app.storage.cache-max-age-days:365}") long cacheMaxAgeDays,
+                            @Value("${ncp.accessKey}") String accessKey,
+                            @Value("${ncp.secretKey}") String secretKey) {
+        this.s3 = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        this.externalCallMetrics = externalCallMetrics;
+        this.bucket = bucket;
+        this.publicBaseUrl = trimTrailingSlash(publicBaseUrl.isBlank() ? endpoint + "/" + bucket : publicBaseUrl);
+        this.cacheControl = "public, max-age=" + Duration.ofDays(cacheMaxAgeDays).toSeconds() + ", immutable";
+        this.publicRead = publicRead;
+    }
+
+    @Override
+    public String store(String directory, String originalFilename, String contentType, long contentLength,
+                        InputStream content) {
+        String key = StorageKeys.newKey(directory, originalFilename);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(cacheControl);
+
+        PutObjectRequest request = new PutObjectRequest(bucket, key, content, metadata);
+        if (publicRead) {
+            request.setCannedAcl(CannedAccessControlList.PublicRead);
+        }
+        externalCallMetrics.record("object-storage", "put", () -> s3.putObject(request));
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public boolean deleteByUrl(String url) {
+        if (url == null || !url.startsWith(publicBaseUrl + "/")) {
+            return false;
+        }
+        String key = url.substring(publicBaseUrl.length() + 1);
+        try {
+            externalCallMetrics.run("object-storage", "delete", () -> s3.deleteObject(bucket, key));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("오브젝트 삭제 실패: {}", key, e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3.shutdown();
+    }
+
+    private static String trimTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
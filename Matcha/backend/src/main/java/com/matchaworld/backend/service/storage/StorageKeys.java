@@ -0,0 +1,37 @@
+package com.matchaworld.backend.service.storage;
+
+import java.util.UUID;
+
+/**
+ * ✅ 저장 키 생성: {directory}/{uuid}_{파일명}
+ * - 파일명은 경로 구분자 제거 후 URL/객체 키에 안전한 문자만 남김
+ */
+final class StorageKeys {
+
+    private static final int MAX_FILENAME_LENGTH = 100;
+
+    private StorageKeys() {
+    }
+
+    static String newKey(String directory, String originalFilename) {
+        return sanitizeDirectory(directory) + "/" + UUID.randomUUID() + "_" + sanitizeFilename(originalFilename);
+    }
+
+    private static String sanitizeDirectory(String directory) {
+        String cleaned = directory == null ? "" : directory.replaceAll("[^A-Za-z0-9_-]", "");
+        if (cleaned.isEmpty()) {
+            throw new IllegalArgumentException("저장 위치가 올바르지 않습니다: " + directory);
+        }
+        return cleaned;
+    }
+
+    private static String sanitizeFilename(String originalFilename) {
+        String name = originalFilename == null ? "" : originalFilename;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.isEmpty() || name.chars().allMatch(c -> c == '.' || c == '_')) {
+            name = "file";
+        }
+        return name.length() > MAX_FILENAME_LENGTH ? name.substring(name.length() - MAX_FILENAME_LENGTH) : name;
+    }
+}
@@ -0,0 +1,29 @@
+package com.matchaworld.backend.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ✅ 업로드 파일 저장소 (app.storage.type 으로 구현 선택)
+ * - local : file.upload-dir 디렉터리, /uploads/** 로 서빙 (WebConfig)
+ * - s3    : NCP Object Storage / S3 호환 버킷, 공개 URL(CDN) 로 직접 서빙
+ * - memory: 테스트용 (JVM 메모리)
+ * - 저장 키는 항상 새 UUID 를 포함 → 같은 URL 의 내용은 바뀌지 않으므로 장기 캐시 가능
+ */
+public interface StorageService {
+
+    /**
+     * 입력 스트림을 그대로 흘려 저장 (전체를 메모리에 올리지 않음)
+     * @param directory 저장 위치 구분 (예: logo)
+     * @param contentLength 바이트 수 (S3 는 길이를 알아야 버퍼링 없이 전송)
+     * @return 공개 URL
+     */
+    String store(String directory, String originalFilename, String contentType, long contentLength,
+                 InputStream content) throws IOException;
+
+    /**
+     * 이 저장소가 발급한 URL 이면 삭제 (외부 URL 은 무시)
+     * @return 삭제했으면 true
+     */
+    boolean deleteByUrl(String url);
+}
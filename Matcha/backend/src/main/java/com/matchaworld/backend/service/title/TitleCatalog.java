@@ -0,0 +1,75 @@
+package com.matchaworld.backend.service.title;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.Title;
+import com.matchaworld.backend.repository.TitleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 칭호 카탈로그 (불변 스냅샷)
+ * - 칭호 목록과 조건 JSON 파싱 결과를 한 번만 만들어 공유
+ * - 관리자 칭호 변경 시 ReferenceCacheEvictor 가 커밋 이후 invalidate() 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleCatalog {
+
+    private final TitleRepository titleRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile List<Entry> entries;
+    // 적재 도중 무효화되면 오래된 스냅샷을 저장하지 않도록 세대 번호로 확인
+    private final AtomicLong generation = new AtomicLong();
+
+    public record Entry(Long id, String name, String description, Map<String, Object> condition) {
+    }
+
+    public List<Entry> entries() {
+        List<Entry> snapshot = entries;
+        if (snapshot == null) {
+            long loadedAt = generation.get();
+            snapshot = load();
+            synchronized (this) {
+                if (generation.get() == loadedAt) {
+                    entries = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        entries = null;
+    }
+
+    private List<Entry> load() {
+        List<Entry> loaded = titleRepository.findAll().stream()
+                .map(title -> new Entry(title.getId(), title.getName(), title.getDescription(), parseCondition(title)))
+                .toList();
+        log.debug("칭호 카탈로그 적재: {}건", loaded.size());
+        return loaded;
+    }
+
+    // 조건 JSON 파싱 실패 시 빈 조건 (지급 대상에서 제외)
+    private Map<String, Object> parseCondition(Title title) {
+        try {
+            Map<String, Object> condition = objectMapper.readValue(title.getConditionJson(), new TypeReference<Map<String, Object>>() {});
+            return condition == null ? Map.of() : Collections.unmodifiableMap(condition);
+        } catch (Exception e) {
+            log.warn("칭호 조건 JSON 파싱 실패 → titleId={}, error={}", title.getId(), e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.matchaworld.backend.weather;
+
+import java.time.Instant;
+
+/**
+ * ✅ 한 지점의 시간별 날씨/공기질 예보 (불변)
+ * - 변수별 double[] 하나씩, 인덱스 = 시작 시각으로부터 경과 시간(시)
+ * - 값이 없는 시간(NaN)은 WeatherClient 기존 기본값으로 대체
+ */
+final class HourlyWeatherSeries {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final long startEpochHour;
+    private final Instant fetchedAt;
+    private final double[] temperature;
+    private final double[] humidity;
+    private final double[] uv;
+    private final double[] pm10;
+    private final double[] pm25;
+
+    HourlyWeatherSeries(long startEpochSecond, Instant fetchedAt, double[] temperature, double[] humidity,
+                        double[] uv, double[] pm10, double[] pm25) {
+        this.startEpochHour = Math.floorDiv(startEpochSecond, SECONDS_PER_HOUR);
+        this.fetchedAt = fetchedAt;
+        this.temperature = temperature;
+        this.humidity = humidity;
+        this.uv = uv;
+        this.pm10 = pm10;
+        this.pm25 = pm25;
+    }
+
+    /**
+     * 날씨 응답(temperature_2m, relative_humidity_2m, uv_index)과 공기질 응답(pm10, pm2_5)을 같은 시간축으로 합침
+     * - 공기질 시작 시각이 다르면 시간 차만큼 밀어서 정렬, 겹치지 않는 시간은 NaN
+     */
+    static HourlyWeatherSeries merge(OpenMeteoParser.Hourly forecast, OpenMeteoParser.Hourly air, Instant fetchedAt) {
+        int length = forecast.values().get("temperature_2m").length;
+        long offset = Math.floorDiv(air.startEpochSecond() - forecast.startEpochSecond(), SECONDS_PER_HOUR);
+        return new HourlyWeatherSeries(forecast.startEpochSecond(), fetchedAt,
+                forecast.values().get("temperature_2m"),
+                forecast.values().get("relative_humidity_2m"),
+                forecast.values().get("uv_index"),
+                align(air.values().get("pm10"), offset, length),
+                align(air.values().get("pm2_5"), offset, length));
+    }
+
+    /**
+     * @return 해당 시각이 예보 범위 밖이면 null
+     */
+    WeatherInfo at(Instant time) {
+        long index = Math.floorDiv(time.getEpochSecond(), SECONDS_PER_HOUR) - startEpochHour;
+        if (index < 0 || index >= temperature.length) {
+            return null;
+        }
+        int i = (int) index;
+        return new WeatherInfo(
+                orDefault(temperature[i], 25.0),
+                orDefault(humidity[i], 60.0),
+                orDefault(pm10[i], 20.0),
+                orDefault(pm25[i], 10.0),
+                orDefault(uv[i], 0.0));
+    }
+
+    Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    int hours() {
+        return temperature.length;
+    }
+
+    private static double[] align(double[] values, long offset, int length) {
+        double[] aligned = new double[length];
+        for (int i = 0; i < length; i++) {
+            long source = i - offset;
+            aligned[i] = source >= 0 && source < values.length ? values[(int) source] : Double.NaN;
+        }
+        return aligned;
+    }
+
+    private static double orDefault(double value, double defaultValue) {
+        return Double.isNaN(value) ? defaultValue : value;
+    }
+}
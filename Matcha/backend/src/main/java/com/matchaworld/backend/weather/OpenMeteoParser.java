@@ -0,0 +1,119 @@
+package com.matchaworld.backend.weather;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * ✅ Open-Meteo 시간별 응답 스트리밍 파싱 (timeformat=unixtime)
+ * - JsonNode 트리를 만들지 않고 토큰을 순서대로 읽으며 hourly.time 과 요청한 변수 배열만 double[] 로 추출
+ * - 나머지 필드(hourly_units 등)는 skipChildren, 값이 null/숫자가 아니면 NaN (기본값 적용은 HourlyWeatherSeries)
+ * - hourly 블록이 없거나 시간 간격이 1시간이 아니면 비정상 응답으로 예외
+ */
+final class OpenMeteoParser {
+
+    /**
+     * @param startEpochSecond 첫 번째 값의 시각 (UTC epoch 초)
+     * @param values 변수명 → 시간별 값 (모두 time 과 같은 길이)
+     */
+    record Hourly(long startEpochSecond, Map<String, double[]> values) {
+    }
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private OpenMeteoParser() {
+    }
+
+    static Hourly parseHourly(byte[] body, String api, String... variables) {
+        long[] time = null;
+        Map<String, double[]> values = new HashMap<>();
+
+        try (JsonParser p = JSON.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException(api + " API 응답이 비정상입니다.");
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                if (p.nextToken() == JsonToken.START_OBJECT && "hourly".equals(field)) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = p.currentName();
+                        JsonToken token = p.nextToken();
+                        if (token == JsonToken.START_ARRAY && "time".equals(name)) {
+                            time = readLongs(p);
+                        } else if (token == JsonToken.START_ARRAY && contains(variables, name)) {
+                            values.put(name, readDoubles(p));
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(api + " API 응답 파싱 실패: " + e.getMessage(), e);
+        }
+
+        if (time == null || time.length == 0) {
+            throw new IllegalStateException(api + " API 응답이 비정상입니다.");
+        }
+        if (time.length > 1 && time[1] - time[0] != 3600) {
+            throw new IllegalStateException(api + " API 응답 시간 간격이 1시간이 아닙니다.");
+        }
+        for (String variable : variables) {
+            double[] series = values.get(variable);
+            if (series == null) {
+                series = new double[time.length];
+                Arrays.fill(series, Double.NaN);
+            } else if (series.length != time.length) {
+                int available = Math.min(series.length, time.length);
+                series = Arrays.copyOf(series, time.length);
+                Arrays.fill(series, available, time.length, Double.NaN);
+            }
+            values.put(variable, series);
+        }
+        return new Hourly(time[0], values);
+    }
+
+    private static long[] readLongs(JsonParser p) throws IOException {
+        long[] buffer = new long[64];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = p.getLongValue();
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private static double[] readDoubles(JsonParser p) throws IOException {
+        double[] buffer = new double[64];
+        int size = 0;
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                    ? p.getDoubleValue()
+                    : Double.NaN;
+            p.skipChildren();
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private static boolean contains(String[] variables, String name) {
+        for (String variable : variables) {
+            if (variable.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,82 +1,140 @@
 package com.matchaworld.backend.weather;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * ✅ Open-Meteo 날씨/공기질 조회
+ * - 설정된 도시 구역 근처 좌표는 WeatherSnapshotStore(WeatherRefresher 가 매시간 갱신)에서 바로 반환
+ * - 그 외에는 실시간 조회: 오늘 하루치 시간별 예보를 받아 현재 시각 값을 사용
+ * - 공용 HttpClient(HttpClientConfig) 로 커넥션 재사용, 요청마다 응답 타임아웃
+ * - 날씨/공기질 API 를 동시에 호출 → 지연 시간은 둘 중 느린 쪽만큼
+ * - 응답은 필요한 필드만 스트리밍 파싱 (OpenMeteoParser)
+ * - 지표: matcha.weather.lookups{source=snapshot|live}
+ */
 @Slf4j
 @Component
 public class WeatherClient {
 
-    // 외부 API 기본 URL
-    private static final String WEATHER_URL = "https://api.open-meteo.com/v1/forecast";
-    private static final String AIR_URL = "https://air-quality-api.open-meteo.com/v1/air-quality";
-
-    // RestTemplate (HTTP 요청용)
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final HttpClient httpClient;
+    private final ExternalCallMetrics externalCallMetrics;
+    private final WeatherSnapshotStore snapshotStore;
+    private final MeterRegistry meterRegistry;
+
+    // 외부 API 기본 URL (부하 테스트 시 로컬 스텁으로 교체)
+    private final String forecastUrl;
+    private final String airQualityUrl;
+    private final Duration timeout;
+
+    public WeatherClient(HttpClient httpClient,
+                         ExternalCallMetrics externalCallMetrics,
+                         WeatherSnapshotStore snapshotStore,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.weather.forecast-url:https://api.open-meteo.com/v1/forecast}") String forecastUrl,
+                         @Value("${app.weather.air-quality-url:https://air-quality-api.open-meteo.com/v1/air-quality}") String airQualityUrl,
+                         @Value("${app.weather.timeout-ms:3000}") long timeoutMillis) {
+        this.httpClient = httpClient;
+        this.externalCallMetrics = externalCallMetrics;
+        this.snapshotStore = snapshotStore;
+        this.meterRegistry = meterRegistry;
+        this.forecastUrl = forecastUrl;
+        this.airQualityUrl = airQualityUrl;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
 
     /**
      * 현재 날씨와 공기질 데이터를 조회하는 메서드. 외부 API 호출 실패 시 기본값을 반환.
      */
     public WeatherInfo getCurrentWeather(double latitude, double longitude) {
-        try {
-            // 날씨 API URL 생성
-            String weatherUrl = UriComponentsBuilder.fromHttpUrl(WEATHER_URL)
-                    .queryParam("latitude", latitude)
-                    .queryParam("longitude", longitude)
-                    .queryParam("current", "temperature_2m,relative_humidity_2m")
-                    .queryParam("hourly", "uv_index") // 시간별 자외선 데이터
-                    .toUriString();
-
-            // 날씨 API 호출
-            JsonNode weatherRes = restTemplate.getForObject(weatherUrl, JsonNode.class);
-
-            // 응답 유효성 검증
-            if (weatherRes == null || weatherRes.path("current").isMissingNode()) {
-                throw new IllegalStateException("Weather API 응답이 비정상입니다.");
-            }
-
-            // 기온/습도 추출
-            double temperature = weatherRes.path("current").path("temperature_2m").asDouble(25.0);
-            double humidity = weatherRes.path("current").path("relative_humidity_2m").asDouble(60.0);
-
-            // 자외선(UV) 데이터 추출
-            JsonNode uvArray = weatherRes.path("hourly").path("uv_index");
-            double uv = 0.0;
-            if (uvArray.isArray() && uvArray.size() > 0) {
-                uv = uvArray.get(uvArray.size() - 1).asDouble(0.0);
-            }
-
-            // 공기질 API URL 생성
-            String airUrl = UriComponentsBuilder.fromHttpUrl(AIR_URL)
-                    .queryParam("latitude", latitude)
-                    .queryParam("longitude", longitude)
-                    .queryParam("current", "pm10,pm2_5")
-                    .toUriString();
-
-            // 공기질 API 호출
-            JsonNode airRes = restTemplate.getForObject(airUrl, JsonNode.class);
+        Instant now = Instant.now();
+        WeatherInfo snapshot = snapshotStore.find(latitude, longitude, now);
+        if (snapshot != null) {
+            meterRegistry.counter("matcha.weather.lookups", "source", "snapshot").increment();
+            return snapshot;
+        }
 
-            // ✅ 응답 유효성 검증
-            if (airRes == null || airRes.path("current").isMissingNode()) {
-                throw new IllegalStateException("Air Quality API 응답이 비정상입니다.");
+        meterRegistry.counter("matcha.weather.lookups", "source", "live").increment();
+        try {
+            WeatherInfo info = fetchHourly(latitude, longitude, 1).join().at(now);
+            if (info == null) {
+                throw new IllegalStateException("Weather API 응답에 현재 시각 예보가 없습니다.");
             }
-
-            // 미세먼지(PM10) / 초미세먼지(PM2.5)
-            double pm10 = airRes.path("current").path("pm10").asDouble(20.0);
-            double pm25 = airRes.path("current").path("pm2_5").asDouble(10.0);
-
             // 성공 시 WeatherInfo 반환
-            return new WeatherInfo(temperature, humidity, pm10, pm25, uv);
+            return info;
 
         } catch (Exception e) {
             // 모든 예외를 처리하고 기본값으로 fallback
-            log.error("🌩️ WeatherClient 오류 발생: {}", e.getMessage(), e);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("🌩️ WeatherClient 오류 발생: {}", cause.getMessage(), cause);
             return new WeatherInfo(25.0, 60.0, 20.0, 10.0, 0.0);
         }
     }
+
+    /**
+     * 시간별 예보 조회 (오늘 0시 UTC 부터 forecastDays 일치)
+     * - 날씨: 기온/습도/자외선, 공기질: 미세먼지(PM10) / 초미세먼지(PM2.5)
+     */
+    CompletableFuture<HourlyWeatherSeries> fetchHourly(double latitude, double longitude, int forecastDays) {
+        // 날씨 API URL 생성
+        URI weatherUri = URI.create(UriComponentsBuilder.fromHttpUrl(forecastUrl)
+                .queryParam("latitude", latitude)
+                .queryParam("longitude", longitude)
+                .queryParam("hourly", "temperature_2m,relative_humidity_2m,uv_index")
+                .queryParam("forecast_days", forecastDays)
+                .queryParam("timeformat", "unixtime")
+                .queryParam("timezone", "GMT")
+                .toUriString());
+
+        // 공기질 API URL 생성
+        URI airUri = URI.create(UriComponentsBuilder.fromHttpUrl(airQualityUrl)
+                .queryParam("latitude", latitude)
+                .queryParam("longitude", longitude)
+                .queryParam("hourly", "pm10,pm2_5")
+                .queryParam("forecast_days", forecastDays)
+                .queryParam("timeformat", "unixtime")
+                .queryParam("timezone", "GMT")
+                .toUriString());
+
+        // 두 API 동시 호출
+        CompletableFuture<OpenMeteoParser.Hourly> forecast = fetch("forecast", weatherUri)
+                .thenApply(body -> OpenMeteoParser.parseHourly(body, "Weather",
+                        "temperature_2m", "relative_humidity_2m", "uv_index"));
+        CompletableFuture<OpenMeteoParser.Hourly> air = fetch("air-quality", airUri)
+                .thenApply(body -> OpenMeteoParser.parseHourly(body, "Air Quality", "pm10", "pm2_5"));
+
+        return forecast.thenCombine(air, (f, a) -> HourlyWeatherSeries.merge(f, a, Instant.now()));
+    }
+
+    // 2xx 가 아니면 실패 (오류 본문은 파싱하지 않음)
+    private CompletableFuture<byte[]> fetch(String operation, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return externalCallMetrics.recordAsync("open-meteo", operation,
+                () -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .thenApply(response -> {
+                            if (response.statusCode() / 100 != 2) {
+                                throw new IllegalStateException(
+                                        "Open-Meteo " + operation + " 응답 코드 " + response.statusCode());
+                            }
+                            return response.body();
+                        }));
+    }
 }
@@ -0,0 +1,87 @@
+package com.matchaworld.backend.weather;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ✅ 도시 구역별 시간별 예보 미리 받기 (WeatherSnapshotStore 갱신)
+ * - 기동 직후(백그라운드) 한 번, 이후 매시간 각 구역의 forecast-days 일치 예보를 받아 교체
+ * - 노드 로컬 메모리라 잠금 없이 모든 노드에서 실행
+ * - 구역 하나가 실패해도 이전 스냅샷은 유지 (max-age-hours 전까지 계속 사용)
+ * - 지표: matcha.weather.refresh{outcome}, matcha.weather.snapshot.buckets
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.weather.prefetch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WeatherRefresher {
+
+    private final WeatherClient weatherClient;
+    private final WeatherSnapshotStore snapshotStore;
+    private final MeterRegistry meterRegistry;
+    private final int forecastDays;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public WeatherRefresher(WeatherClient weatherClient,
+                            WeatherSnapshotStore snapshotStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.weather.prefetch.forecast-days:2}") int forecastDays) {
+        this.weatherClient = weatherClient;
+        this.snapshotStore = snapshotStore;
+        this.meterRegistry = meterRegistry;
+        this.forecastDays = forecastDays;
+        Gauge.builder("matcha.weather.snapshot.buckets", snapshotStore, WeatherSnapshotStore::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("weather-prefetch").start(this::refresh);
+    }
+
+    @Scheduled(cron = "${app.weather.prefetch.cron:0 1 * * * *}")
+    public void refreshScheduled() {
+        refresh();
+    }
+
+    /**
+     * 모든 구역 갱신
+     * @return 성공한 구역 수
+     */
+    public int refresh() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        int refreshed = 0;
+        try {
+            for (WeatherSnapshotStore.Bucket bucket : snapshotStore.buckets()) {
+                try {
+                    HourlyWeatherSeries series = weatherClient
+                            .fetchHourly(bucket.latitude(), bucket.longitude(), forecastDays)
+                            .join();
+                    snapshotStore.put(bucket, series);
+                    refreshed++;
+                    meterRegistry.counter("matcha.weather.refresh", "outcome", "success").increment();
+                } catch (RuntimeException e) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    meterRegistry.counter("matcha.weather.refresh", "outcome", "error").increment();
+                    log.warn("🌩️ 날씨 예보 갱신 실패 → bucket={}, error={}", bucket.name(), cause.getMessage());
+                }
+            }
+            log.info("🌤️ 날씨 예보 갱신 → {}/{} 구역", refreshed, snapshotStore.buckets().size());
+            return refreshed;
+        } finally {
+            running.set(false);
+        }
+    }
+}
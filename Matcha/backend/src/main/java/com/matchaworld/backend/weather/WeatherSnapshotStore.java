@@ -0,0 +1,93 @@
+package com.matchaworld.backend.weather;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 도시 구역별 시간별 예보 스냅샷 (노드 로컬 메모리)
+ * - 구역: app.weather.prefetch.buckets ("이름:위도:경도" 목록), WeatherRefresher 가 주기적으로 교체
+ * - 조회 좌표에서 max-distance-km 이내 가장 가까운 구역의 현재 시각 값을 반환
+ * - 스냅샷이 없거나 max-age-hours 보다 오래됐거나 현재 시각이 예보 범위 밖이면 null → 호출 측이 실시간 조회
+ */
+@Component
+public class WeatherSnapshotStore {
+
+    record Bucket(String name, double latitude, double longitude) {
+    }
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final List<Bucket> buckets;
+    private final double maxDistanceKm;
+    private final Duration maxAge;
+    private final Map<String, HourlyWeatherSeries> snapshots = new ConcurrentHashMap<>();
+
+    public WeatherSnapshotStore(@Value("${app.weather.prefetch.buckets:seoul:37.5665:126.9780}") List<String> buckets,
+                                @Value("${app.weather.prefetch.max-distance-km:30}") double maxDistanceKm,
+                                @Value("${app.weather.prefetch.max-age-hours:6}") long maxAgeHours) {
+        this.buckets = parse(buckets);
+        this.maxDistanceKm = maxDistanceKm;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+    }
+
+    List<Bucket> buckets() {
+        return buckets;
+    }
+
+    void put(Bucket bucket, HourlyWeatherSeries series) {
+        snapshots.put(bucket.name(), series);
+    }
+
+    int size() {
+        return snapshots.size();
+    }
+
+    WeatherInfo find(double latitude, double longitude, Instant now) {
+        Bucket nearest = null;
+        double nearestKm = maxDistanceKm;
+        for (Bucket bucket : buckets) {
+            double km = distanceKm(latitude, longitude, bucket.latitude(), bucket.longitude());
+            if (km <= nearestKm) {
+                nearest = bucket;
+                nearestKm = km;
+            }
+        }
+        if (nearest == null) {
+            return null;
+        }
+        HourlyWeatherSeries series = snapshots.get(nearest.name());
+        if (series == null || series.fetchedAt().plus(maxAge).isBefore(now)) {
+            return null;
+        }
+        return series.at(now);
+    }
+
+    // 구역 간 거리 비교용 (등장방형 근사, 수십 km 범위에서 충분)
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double x = Math.toRadians(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = Math.toRadians(lat2 - lat1);
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_KM;
+    }
+
+    private static List<Bucket> parse(List<String> specs) {
+        List<Bucket> parsed = new ArrayList<>();
+        for (String spec : specs) {
+            if (spec.isBlank()) {
+                continue;
+            }
+            String[] parts = spec.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("날씨 구역 형식은 이름:위도:경도 입니다: " + spec);
+            }
+            parsed.add(new Bucket(parts[0], Double.parseDouble(parts[1]), Double.parseDouble(parts[2])));
+        }
+        return List.copyOf(parsed);
+    }
+}
@@ -1,9 +1,18 @@
 SET FOREIGN_KEY_CHECKS = 0; -- 외래키 체크 일시 중단
 SET AUTOCOMMIT = 0;
 START TRANSACTION;
-DROP TABLE IF EXISTS USER_TERMS, TERMS, AUTH_CODE, COMPANY_CATEGORY, ESG_CATEGORY, COMPANY, USER_TITLE, TITLE, CERTIFICATION, USER_QUEST, QUEST, LIFE_LOG, USER;
+DROP TABLE IF EXISTS RATE_LIMIT_BUCKET, SCHEDULER_JOB_RUN, SCHEDULER_LOCK, USER_QUEST_HISTORY, QUEST_SUBMISSION, OUTBOX_EVENT, USER_TERMS, TERMS, AUTH_CODE, COMPANY_CATEGORY, ESG_CATEGORY, COMPANY, USER_TITLE, TITLE, CERTIFICATION, USER_QUEST, QUEST, LIFE_LOG, USER;
 -- SET FOREIGN_KEY_CHECKS = 1; -- 다시 활성화
 
+-- 배치 INSERT 용 시퀀스 (엔티티 @SequenceGenerator allocationSize = 50 과 동일한 증가값)
+-- 더미 데이터 INSERT 도 같은 시퀀스를 기본값으로 사용하여 애플리케이션 채번과 충돌하지 않음
+DROP SEQUENCE IF EXISTS LIFE_LOG_SEQ, USER_QUEST_SEQ, CERTIFICATION_SEQ, OUTBOX_EVENT_SEQ, QUEST_SUBMISSION_SEQ;
+CREATE SEQUENCE LIFE_LOG_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE USER_QUEST_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE CERTIFICATION_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE OUTBOX_EVENT_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE QUEST_SUBMISSION_SEQ START WITH 1 INCREMENT BY 50;
+
 -- =================================================================
 --  테이블 생성 (Schema Definition)
 -- =================================================================
@@ -24,12 +33,13 @@ CREATE TABLE USER (
     -- `ROLE` ENUM('USER', 'ADMIN') NOT NULL DEFAULT 'USER',
     `ROLE` VARCHAR(10) NOT NULL DEFAULT 'USER',
     CREATED_AT DATETIME NOT NULL,
-    UPDATED_AT DATETIME NOT NULL
+    UPDATED_AT DATETIME NOT NULL,
+    VERSION BIGINT NOT NULL DEFAULT 0 -- 낙관적 락
 );
 
 -- 라이프 로그 테이블 (LIFE_LOG)
 CREATE TABLE LIFE_LOG (
-    LOG_ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    LOG_ID BIGINT PRIMARY KEY DEFAULT (NEXT VALUE FOR LIFE_LOG_SEQ),
     USER_ID BIGINT NOT NULL,
     CONTENT VARCHAR(255) NOT NULL,
     -- CATEGORY ENUM('E', 'S') NOT NULL,
@@ -56,12 +66,13 @@ CREATE TABLE QUEST (
     MAX_ATTEMPTS INT NOT NULL DEFAULT 1,
     CONDITION_JSON JSON,
     CREATED_AT DATETIME NOT NULL,
-    FOREIGN KEY (ADMIN_ID) REFERENCES USER(USER_ID) ON DELETE SET NULL
+    FOREIGN KEY (ADMIN_ID) REFERENCES USER(USER_ID) ON DELETE SET NULL,
+    INDEX idx_quest_type_active (`TYPE`, IS_ACTIVE, CREATED_AT) -- 타입별 활성 퀘스트 조회 / 만료 일괄 비활성화
 );
 
 -- 사용자 퀘스트 수행 테이블 (USER_QUEST)
 CREATE TABLE USER_QUEST (
-    UQ_ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    UQ_ID BIGINT PRIMARY KEY DEFAULT (NEXT VALUE FOR USER_QUEST_SEQ),
     USER_ID BIGINT NOT NULL,
     QUEST_ID BIGINT NOT NULL,
     STATUS VARCHAR(20) NOT NULL DEFAULT 'PENDING',
@@ -69,6 +80,7 @@ CREATE TABLE USER_QUEST (
     ATTEMPT_COUNT INT NOT NULL DEFAULT 0,
     STARTED_AT DATETIME,
     COMPLETED_AT DATETIME,
+    VERSION BIGINT NOT NULL DEFAULT 0, -- 낙관적 락 (동시 제출 감지)
     FOREIGN KEY (USER_ID) REFERENCES USER(USER_ID) ON DELETE CASCADE,
     FOREIGN KEY (QUEST_ID) REFERENCES QUEST(QUEST_ID) ON DELETE CASCADE,
     UNIQUE (USER_ID, QUEST_ID)
@@ -76,7 +88,7 @@ CREATE TABLE USER_QUEST (
 
 -- 인증 및 보상 테이블 (CERTIFICATION)
 CREATE TABLE CERTIFICATION (
-    CERT_ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    CERT_ID BIGINT PRIMARY KEY DEFAULT (NEXT VALUE FOR CERTIFICATION_SEQ),
     UQ_ID BIGINT NOT NULL,
     USER_ID BIGINT NOT NULL,
     AUTH_TYPE VARCHAR(10) NOT NULL,
@@ -142,7 +154,9 @@ CREATE TABLE AUTH_CODE (
     AUTH_CODE VARCHAR(6) NOT NULL,
     EXPIRY_TIME DATETIME NOT NULL,
     IS_VERIFIED BOOLEAN NOT NULL DEFAULT FALSE,
-    CREATED_AT DATETIME NOT NULL
+    FAILED_ATTEMPTS INT NOT NULL DEFAULT 0, -- 틀린 입력 횟수 (max-attempts 도달 시 잠금)
+    CREATED_AT DATETIME NOT NULL,
+    INDEX idx_auth_code_email (EMAIL, CREATED_AT)
 );
 
 -- 약관 정의 테이블 (TERMS)
@@ -167,6 +181,76 @@ CREATE TABLE USER_TERMS (
     UNIQUE (USER_ID, TERM_ID)
 );
 
+-- 트랜잭션 아웃박스 (퀘스트 완료 후속 처리: 점수 누적, 랭킹 반영, 인증 로그)
+-- 이벤트 1건 = 구독 컨슈머별 1행
+CREATE TABLE OUTBOX_EVENT (
+    EVENT_ID BIGINT PRIMARY KEY DEFAULT (NEXT VALUE FOR OUTBOX_EVENT_SEQ),
+    EVENT_TYPE VARCHAR(40) NOT NULL,
+    CONSUMER VARCHAR(40) NOT NULL,
+    AGGREGATE_ID BIGINT NOT NULL,
+    PAYLOAD TEXT NOT NULL,
+    STATUS VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS INT NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT DATETIME(6) NOT NULL,
+    LAST_ERROR VARCHAR(500),
+    CREATED_AT DATETIME(6) NOT NULL,
+    PROCESSED_AT DATETIME(6),
+    INDEX idx_outbox_status_next (STATUS, NEXT_ATTEMPT_AT)
+);
+
+-- 퀘스트 제출 멱등키 (같은 Idempotency-Key 재요청은 저장된 응답 반환, 24시간 보관)
+CREATE TABLE QUEST_SUBMISSION (
+    SUBMISSION_ID BIGINT PRIMARY KEY DEFAULT (NEXT VALUE FOR QUEST_SUBMISSION_SEQ),
+    USER_ID BIGINT NOT NULL,
+    IDEMPOTENCY_KEY VARCHAR(64) NOT NULL,
+    QUEST_ID BIGINT NOT NULL,
+    RESPONSE TEXT,
+    CREATED_AT DATETIME(6) NOT NULL,
+    CONSTRAINT uk_quest_submission_key UNIQUE (USER_ID, QUEST_ID, IDEMPOTENCY_KEY)
+);
+
+-- 지난 시즌 완료 퀘스트 보관 (시즌 초기화 시 USER_QUEST 에서 INSERT ... SELECT 로 이관)
+CREATE TABLE USER_QUEST_HISTORY (
+    UQ_ID BIGINT PRIMARY KEY,
+    USER_ID BIGINT NOT NULL,
+    QUEST_ID BIGINT NOT NULL,
+    STATUS VARCHAR(20) NOT NULL,
+    ATTEMPT_COUNT INT NOT NULL,
+    STARTED_AT DATETIME,
+    COMPLETED_AT DATETIME,
+    SEASON_START DATE NOT NULL,
+    ARCHIVED_AT DATETIME(6) NOT NULL,
+    INDEX idx_uq_history_user (USER_ID, SEASON_START)
+);
+
+-- 스케줄 작업 클러스터 잠금 (작업 이름당 1행, LOCKED_UNTIL 까지 보유 노드만 실행)
+CREATE TABLE SCHEDULER_LOCK (
+    NAME VARCHAR(64) PRIMARY KEY,
+    LOCKED_UNTIL DATETIME(6) NOT NULL,
+    LOCKED_AT DATETIME(6) NOT NULL,
+    LOCKED_BY VARCHAR(100) NOT NULL
+);
+
+-- 스케줄 작업 실행 이력 (잠금을 획득해 실행한 노드 기준)
+CREATE TABLE SCHEDULER_JOB_RUN (
+    RUN_ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    JOB_NAME VARCHAR(64) NOT NULL,
+    NODE VARCHAR(100) NOT NULL,
+    STATUS VARCHAR(10) NOT NULL,
+    STARTED_AT DATETIME(6) NOT NULL,
+    FINISHED_AT DATETIME(6) NOT NULL,
+    DURATION_MS BIGINT NOT NULL,
+    ERROR VARCHAR(500),
+    INDEX idx_job_run_name_started (JOB_NAME, STARTED_AT)
+);
+
+-- 요청 제한 공유 토큰 버킷 (app.rate-limit.backend=db, 버킷 키당 1행)
+CREATE TABLE RATE_LIMIT_BUCKET (
+    BUCKET_KEY VARCHAR(200) PRIMARY KEY,
+    TOKENS DOUBLE NOT NULL,
+    REFILLED_AT BIGINT NOT NULL -- epoch millis
+);
+
 -- -- QUEST 테이블 CATEGORY 컬럼 추가
 -- ALTER TABLE QUEST
 -- ADD COLUMN IF NOT EXISTS CATEGORY ENUM('E', 'S') NOT NULL DEFAULT 'E';
@@ -179,6 +263,12 @@ ADD COLUMN IF NOT EXISTS IS_MAIN BOOLEAN NOT NULL DEFAULT FALSE;
 CREATE INDEX IF NOT EXISTS idx_user_title_is_main
 ON USER_TITLE(USER_ID, IS_MAIN);
 
+-- 관리자 키워드 검색 (app.admin.search.backend=fulltext 일 때 사용, 단어 접두 일치)
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_user_search ON USER(EMAIL, NICKNAME);
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_quest_search ON QUEST(TITLE, DESCRIPTION);
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_title_search ON TITLE(NAME, DESCRIPTION);
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_company_search ON COMPANY(COMPANY_NAME);
+
 -- -- =================================================================
 -- --  더미 데이터 삽입 (Dummy Data Insertion)
 -- -- =================================================================
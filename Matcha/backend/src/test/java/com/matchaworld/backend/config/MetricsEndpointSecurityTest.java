@@ -0,0 +1,62 @@
+package com.matchaworld.backend.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.matchaworld.backend.service.JwtService;
+
+/**
+ * ✅ /actuator/prometheus 는 공개 체인에서 열려 있지 않음
+ * - 익명/일반 사용자/잘못된 스크레이프 계정은 거부, 스크레이프 계정(Basic)과 ADMIN JWT 만 허용
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointSecurityTest {
+
+    private static final String PROMETHEUS = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void anonymousAndNonAdminAreRejected() throws Exception {
+        mockMvc.perform(get(PROMETHEUS)).andExpect(status().is4xxClientError());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", basic("prometheus", "wrong")))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", bearer("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void scrapeAccountAndAdminAreAllowed() throws Exception {
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", basic("prometheus", "test-scrape")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", bearer("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String bearer(String role) {
+        return "Bearer " + jwtService.generateAccessToken(1L, "metrics@matcha.local", role);
+    }
+}
@@ -0,0 +1,168 @@
+package com.matchaworld.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.auth.UserService;
+
+/**
+ * ✅ 읽기 전용 라우팅 (H2 두 개: primary / replica)
+ * - 복제가 없으므로 primary 에만 있는 행이 보이면 primary, 안 보이면 replica 로 라우팅된 것
+ * - 지연 값은 replica 의 REPLICA_LAG 테이블로 조작
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.lag-query=SELECT SECONDS FROM REPLICA_LAG",
+        "app.datasource.replica.max-lag-seconds=5",
+        "app.datasource.replica.lag-check-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaDataSource);
+        // 리플리카에 primary 스키마 복제 (데이터 제외)
+        if (replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'REPLICA_LAG'", Integer.class) == 0) {
+            List<String> ddl = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class);
+            ddl.stream()
+                    .filter(sql -> sql.startsWith("CREATE SEQUENCE") || sql.startsWith("CREATE CACHED TABLE")
+                            || sql.startsWith("CREATE MEMORY TABLE") || sql.startsWith("ALTER TABLE"))
+                    .filter(sql -> !sql.contains("\"HTE_")) // Hibernate 임시 테이블 제외
+                    .forEach(replica::execute);
+            replica.execute("CREATE TABLE REPLICA_LAG (SECONDS BIGINT)");
+            replica.update("INSERT INTO REPLICA_LAG VALUES (0)");
+        }
+        setLag(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        User user = userService.signup("replica", "replica@matcha.local", "password1!");
+
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isEmpty();
+        assertThat(readWrite(() -> userRepository.findByEmail(user.getEmail()))).isPresent();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        User user = userService.signup("lagging", "lagging@matcha.local", "password1!");
+
+        setLag(60);
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isPresent();
+
+        setLag(0);
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isEmpty();
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimary() {
+        User user = userService.signup("ryw", "ryw@matcha.local", "password1!");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getId(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        readWrite(() -> {
+            userRepository.findById(user.getId()).orElseThrow().setNickname("ryw2");
+            return null;
+        });
+
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isPresent();
+
+        // 다른 사용자(익명)는 계속 리플리카
+        SecurityContextHolder.clearContext();
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isEmpty();
+    }
+
+    @Test
+    void writesForAnotherUserArePinnedByUserId() {
+        User user = userService.signup("pinned", "pinned@matcha.local", "password1!");
+
+        // 요청 principal 없이 (아웃박스 컨슈머/비동기 처리처럼) 대상 사용자 기준으로 고정
+        readWrite(() -> {
+            userRepository.findById(user.getId()).orElseThrow().setNickname("pinned2");
+            readYourWrites.pin(user.getId());
+            return null;
+        });
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getId(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isPresent();
+
+        // 롤백된 쓰기는 고정하지 않음
+        User other = userService.signup("unpinned", "unpinned@matcha.local", "password1!");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            readYourWrites.pin(other.getId());
+            status.setRollbackOnly();
+        });
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                other.getId(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        assertThat(readOnly(() -> userRepository.findByEmail(other.getEmail()))).isEmpty();
+    }
+
+    private void setLag(long seconds) {
+        replica.update("UPDATE REPLICA_LAG SET SECONDS = ?", seconds);
+        lagMonitor.checkLag();
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+
+    private <T> T readWrite(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+}
@@ -0,0 +1,92 @@
+package com.matchaworld.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * ✅ /uploads 캐시 헤더 (WebConfig)
+ * - {uuid}_파일명 업로드 파일: 장기 immutable 캐시
+ * - 고정 파일명 자산: 짧은 캐시
+ * - 두 경우 모두 ETag 발급, If-None-Match 일치 시 304
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UploadCacheHeadersTest {
+
+    // WebConfig 로컬 경로 (user.dir/uploads) 아래 테스트 전용 디렉터리
+    private static final Path TEST_DIR = Paths.get(System.getProperty("user.dir"), "uploads", "cache-test");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String uploadedPath;
+    private String staticPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(TEST_DIR);
+        String uploaded = UUID.randomUUID() + "_logo.png";
+        Files.write(TEST_DIR.resolve(uploaded), new byte[] {1, 2, 3});
+        Files.write(TEST_DIR.resolve("default.png"), new byte[] {4, 5, 6});
+        uploadedPath = "/uploads/cache-test/" + uploaded;
+        staticPath = "/uploads/cache-test/default.png";
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (var files = Files.list(TEST_DIR)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(TEST_DIR);
+    }
+
+    @Test
+    void uploadedFilesAreImmutable() throws Exception {
+        String cacheControl = mockMvc.perform(get(uploadedPath))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+
+        assertThat(cacheControl).contains("max-age=31536000", "public", "immutable");
+    }
+
+    @Test
+    void fixedNameAssetsAreCachedBriefly() throws Exception {
+        String cacheControl = mockMvc.perform(get(staticPath))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+
+        assertThat(cacheControl).contains("max-age=86400", "public").doesNotContain("immutable");
+    }
+
+    @Test
+    void matchingEtagReturns304() throws Exception {
+        for (String path : new String[] {uploadedPath, staticPath}) {
+            String etag = mockMvc.perform(get(path)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+    }
+}
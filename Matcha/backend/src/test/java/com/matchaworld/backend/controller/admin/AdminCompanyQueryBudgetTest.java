@@ -0,0 +1,124 @@
+package com.matchaworld.backend.controller.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.Company;
+import com.matchaworld.backend.domain.EsgCategory;
+import com.matchaworld.backend.repository.CompanyRepository;
+import com.matchaworld.backend.repository.EsgCategoryRepository;
+import com.matchaworld.backend.service.JwtService;
+import com.matchaworld.backend.support.QueryBudget;
+
+/**
+ * ✅ 관리자 기업 목록 쿼리 예산
+ * - 페이지 크기보다 많은 기업 + 기업마다 여러 카테고리
+ * - ID 페이지 + 카테고리 IN 로드 + count 만 실행 (기업 수/카테고리 수에 비례하지 않음)
+ * - 컬렉션 fetch join 을 메모리에서 페이지네이션하면 예외 (fail_on_pagination_over_collection_fetch)
+ *   → 컨트롤러가 success=false 로 응답하므로 성공 여부로 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminCompanyQueryBudgetTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int STATEMENT_BUDGET = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EsgCategoryRepository esgCategoryRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtService.generateAccessToken(1L, "admin@matcha.local", "ADMIN");
+        if (companyRepository.count() > 0) {
+            return;
+        }
+        List<EsgCategory> categories = esgCategoryRepository.saveAll(List.of(
+                EsgCategory.builder().categoryName("탄소중립").build(),
+                EsgCategory.builder().categoryName("재생에너지").build(),
+                EsgCategory.builder().categoryName("사회공헌").build(),
+                EsgCategory.builder().categoryName("동물복지").build()));
+
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            companies.add(Company.builder()
+                    .companyName("친환경 기업 " + i)
+                    .companyWebsiteUrl("https://company" + i + ".example")
+                    .categories(Set.of(categories.get(i % 4), categories.get((i + 1) % 4), categories.get((i + 2) % 4)))
+                    .build());
+        }
+        companyRepository.saveAll(companies);
+    }
+
+    @Test
+    void pageLoadsCategoriesWithOneInQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/companies")
+                        .param("page", "1")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode data = assertSuccess(result);
+        assertThat(data.path("totalElements").asLong()).isEqualTo(25);
+        assertThat(data.path("content")).hasSize(PAGE_SIZE);
+        data.path("content").forEach(company -> assertThat(company.path("categories")).hasSize(3));
+        QueryBudget.assertStatementsAtMost(result, STATEMENT_BUDGET);
+    }
+
+    @Test
+    void categoryFilterPagesIdsBeforeLoadingCategories() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/companies")
+                        .param("page", "0")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .param("category", "탄소중립")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode data = assertSuccess(result);
+        // i % 4 가 0, 2, 3 인 기업 → 25 개 중 19 개
+        assertThat(data.path("totalElements").asLong()).isEqualTo(19);
+        assertThat(data.path("content")).hasSize(PAGE_SIZE);
+        // 필터 조인과 별개로 기업의 카테고리 전체가 로드됨
+        data.path("content").forEach(company -> assertThat(company.path("categories")).hasSize(3));
+        QueryBudget.assertStatementsAtMost(result, STATEMENT_BUDGET);
+    }
+
+    private JsonNode assertSuccess(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(body.path("success").asBoolean()).as(body.path("message").asText()).isTrue();
+        return body.path("data");
+    }
+}
@@ -0,0 +1,84 @@
+package com.matchaworld.backend.controller.quest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.repository.QuestRepository;
+import com.matchaworld.backend.service.JwtService;
+import com.matchaworld.backend.service.auth.UserService;
+import com.matchaworld.backend.support.QueryBudget;
+
+/**
+ * ✅ /api/quest/main 읽기 경로 쿼리 예산
+ * - 첫 호출은 퀘스트 지급(쓰기) 포함, 두 번째 호출부터는 조회만 수행
+ * - 퀘스트 수가 늘어도 문장 수가 늘지 않아야 함 (N+1 회귀 방지)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestMainQueryBudgetTest {
+
+    private static final int READ_PATH_STATEMENT_BUDGET = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QuestRepository questRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void mainQuestsReadPathStaysWithinStatementBudget() throws Exception {
+        List<Quest> quests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            quests.add(quest("텀블러 사용하기 " + i, Quest.Type.DAILY));
+            quests.add(quest("대중교통 이용하기 " + i, Quest.Type.WEEKLY));
+            quests.add(quest("봉사활동 참여하기 " + i, Quest.Type.SEASON));
+        }
+        questRepository.saveAll(quests);
+
+        User user = userService.signup("budget", "budget@matcha.local", "password1!");
+        String token = jwtService.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+
+        // 1차: 퀘스트 지급 (쓰기)
+        mockMvc.perform(get("/api/quest/main").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // 2차: 조회 전용
+        MvcResult result = mockMvc.perform(get("/api/quest/main").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        QueryBudget.assertStatementsAtMost(result, READ_PATH_STATEMENT_BUDGET);
+    }
+
+    private static Quest quest(String title, Quest.Type type) {
+        return Quest.builder()
+                .title(title)
+                .description(title + " 실천 인증")
+                .rewardScore(10)
+                .type(type)
+                .authType(Quest.AuthType.TEXT)
+                .category(Quest.Category.E)
+                .maxAttempts(1)
+                .build();
+    }
+}
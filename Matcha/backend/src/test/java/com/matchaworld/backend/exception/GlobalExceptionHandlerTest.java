@@ -0,0 +1,52 @@
+package com.matchaworld.backend.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.matchaworld.backend.domain.User;
+
+/**
+ * ✅ 낙관적 락 충돌 → 409, 그 외 런타임 예외는 기존대로 400
+ */
+class GlobalExceptionHandlerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void optimisticLockConflictIsMappedTo409() throws Exception {
+        mockMvc.perform(get("/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void otherRuntimeExceptionsStay400() throws Exception {
+        var result = mockMvc.perform(get("/bad")).andExpect(status().isBadRequest()).andReturn();
+        assertThat(result.getResponse().getContentAsString()).contains("잘못된 값");
+    }
+
+    @RestController
+    static class ThrowingController {
+
+        @GetMapping("/conflict")
+        String conflict() {
+            throw new ObjectOptimisticLockingFailureException(User.class, 1L);
+        }
+
+        @GetMapping("/bad")
+        String bad() {
+            throw new IllegalArgumentException("잘못된 값");
+        }
+    }
+}
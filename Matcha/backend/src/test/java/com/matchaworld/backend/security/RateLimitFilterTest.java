@@ -0,0 +1,106 @@
+package com.matchaworld.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.matchaworld.backend.security.ratelimit.InMemoryRateLimiter;
+import com.matchaworld.backend.security.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ 요청 제한 필터
+ * - 한도 초과 → 429 + Retry-After (초 단위 올림), 다음 필터로 넘기지 않음
+ * - 버킷은 경로 + 사용자(비로그인은 IP) 단위, 다른 메서드/경로는 제한 없음
+ */
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), new InMemoryRateLimiter(), meterRegistry);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWith429AndRetryAfterOnceCapacityIsUsed() throws Exception {
+        authenticate(1L);
+        assertThat(post("/api/lifelog").getStatus()).isEqualTo(200);
+        assertThat(post("/api/lifelog").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = post("/api/lifelog");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        // 분당 1개 충전 → 60초
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(rejected.getContentAsString()).contains("\"success\":false");
+        assertThat(meterRegistry.counter("matcha.rate-limit.rejected", "route", "lifelog").count()).isEqualTo(1);
+    }
+
+    @Test
+    void bucketsAreSeparatedByUserAndIp() throws Exception {
+        authenticate(1L);
+        post("/api/lifelog");
+        post("/api/lifelog");
+        assertThat(post("/api/lifelog").getStatus()).isEqualTo(429);
+
+        authenticate(2L);
+        assertThat(post("/api/lifelog").getStatus()).isEqualTo(200);
+
+        SecurityContextHolder.clearContext();
+        assertThat(post("/api/lifelog").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void unmatchedRequestsPassThrough() throws Exception {
+        authenticate(1L);
+        for (int i = 0; i < 5; i++) {
+            assertThat(request("GET", "/api/lifelog").getStatus()).isEqualTo(200);
+            assertThat(post("/api/quests").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse post(String uri) throws Exception {
+        return request("POST", uri);
+    }
+
+    private MockHttpServletResponse request(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        // 통과한 요청만 다음 필터에 도달
+        assertThat(chain.getRequest() != null).isEqualTo(response.getStatus() != 429);
+        return response;
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("lifelog");
+        route.setPattern("/api/lifelog");
+        route.setMethod("POST");
+        route.setKey(RateLimitProperties.KeyType.USER);
+        route.setCapacity(2);
+        route.setRefillPerMinute(1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+}
@@ -0,0 +1,104 @@
+package com.matchaworld.backend.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ✅ 토큰 버킷
+ * - capacity 만큼 즉시 허용, 이후 거절 시 다음 토큰까지 남은 시간
+ * - 경과 시간만큼 충전 (capacity 상한), 시계가 뒤로 가도 토큰이 늘지 않음
+ * - 동시 소비 → CAS 재시도로 capacity 를 넘겨 허용하지 않음
+ */
+class TokenBucketTest {
+
+    private static final long T0 = 1_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(3, 6, T0); // 10초에 1개
+
+        assertThat(bucket.tryConsume(T0)).isZero();
+        assertThat(bucket.tryConsume(T0)).isZero();
+        assertThat(bucket.tryConsume(T0)).isZero();
+        assertThat(bucket.tryConsume(T0)).isEqualTo(10_000);
+        assertThat(bucket.tryConsume(T0 + 4_000)).isEqualTo(6_000);
+    }
+
+    @Test
+    void refillsByElapsedTimeCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 60, T0); // 1초에 1개
+        bucket.tryConsume(T0);
+        bucket.tryConsume(T0);
+        assertThat(bucket.isFull(T0)).isFalse();
+
+        assertThat(bucket.tryConsume(T0 + 1_000)).isZero();
+        assertThat(bucket.tryConsume(T0 + 1_000)).isPositive();
+
+        // 오래 쉬어도 capacity 까지만 충전
+        assertThat(bucket.isFull(T0 + 60_000)).isTrue();
+        assertThat(bucket.tryConsume(T0 + 60_000)).isZero();
+        assertThat(bucket.tryConsume(T0 + 60_000)).isZero();
+        assertThat(bucket.tryConsume(T0 + 60_000)).isPositive();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRefill() {
+        TokenBucket bucket = new TokenBucket(1, 60, T0);
+        assertThat(bucket.tryConsume(T0 + 5_000)).isZero();
+
+        assertThat(bucket.tryConsume(T0)).isEqualTo(1_000);
+        assertThat(bucket.tryConsume(T0 + 5_500)).isEqualTo(500);
+        assertThat(bucket.tryConsume(T0 + 6_000)).isZero();
+    }
+
+    @Test
+    void zeroRefillNeverRecovers() {
+        TokenBucket bucket = new TokenBucket(1, 0, T0);
+        assertThat(bucket.tryConsume(T0)).isZero();
+        assertThat(bucket.tryConsume(T0 + 3_600_000)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedCapacity() throws Exception {
+        int capacity = 50;
+        int threads = 16;
+        int attemptsPerThread = 20;
+        TokenBucket bucket = new TokenBucket(capacity, 0, T0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int j = 0; j < attemptsPerThread; j++) {
+                        if (bucket.tryConsume(T0) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> future : futures) {
+                granted += future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(granted).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
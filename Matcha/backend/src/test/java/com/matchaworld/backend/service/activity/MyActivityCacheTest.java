@@ -0,0 +1,52 @@
+package com.matchaworld.backend.service.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.matchaworld.backend.dto.response.activity.ActivityResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ /api/activity/me 캐시
+ * - ttl 동안 같은 응답 재사용, evict 후 다시 적재
+ * - 적재 도중 evict (커밋 이후 evict 가 느린 조회보다 먼저 끝난 경우) → 읽은 이전 값을 저장하지 않음
+ */
+class MyActivityCacheTest {
+
+    private final MyActivityCache cache = new MyActivityCache(60, new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ActivityResponse load(int score) {
+        loads.incrementAndGet();
+        return ActivityResponse.builder().totalScore(score).build();
+    }
+
+    @Test
+    void cachesUntilEvicted() {
+        assertThat(cache.get(1L, () -> load(10)).getTotalScore()).isEqualTo(10);
+        assertThat(cache.get(1L, () -> load(20)).getTotalScore()).isEqualTo(10);
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L, () -> load(20)).getTotalScore()).isEqualTo(20);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictDuringLoadDiscardsTheStaleValue() {
+        ActivityResponse stale = cache.get(1L, () -> {
+            ActivityResponse before = load(10);
+            cache.evict(1L); // 점수 쓰기 커밋 → evict 가 조회보다 먼저 끝남
+            return before;
+        });
+        assertThat(stale.getTotalScore()).isEqualTo(10);
+
+        assertThat(cache.get(1L, () -> load(20)).getTotalScore()).isEqualTo(20);
+        assertThat(cache.get(1L, () -> load(30)).getTotalScore()).isEqualTo(20);
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.matchaworld.backend.service.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.Company;
+import com.matchaworld.backend.service.storage.InMemoryStorageService;
+
+/**
+ * ✅ 기업 로고 교체 순서
+ * - 새 파일 검증/업로드가 실패하면 기존 로고 유지
+ * - 커밋되면 이전 로고 삭제, 롤백되면 새로 올린 로고 삭제
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminCompanyLogoTest {
+
+    @Autowired
+    private AdminCompanyService adminCompanyService;
+
+    @Autowired
+    private InMemoryStorageService storage;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void invalidNewLogoKeepsTheOldOne() {
+        Company company = create();
+        String oldLogo = company.getCompanyLogo();
+
+        assertThatThrownBy(() -> update(company, new MockMultipartFile("logo", "a.txt", "text/plain", new byte[] {1})))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(storage.find(oldLogo)).isPresent();
+        assertThat(adminCompanyService.getCompanyById(company.getId()).getCompanyLogo()).isEqualTo(oldLogo);
+    }
+
+    @Test
+    void committedReplaceDeletesTheOldLogo() {
+        Company company = create();
+        String oldLogo = company.getCompanyLogo();
+
+        Company updated = update(company, image());
+
+        assertThat(updated.getCompanyLogo()).isNotEqualTo(oldLogo);
+        assertThat(storage.find(updated.getCompanyLogo())).isPresent();
+        assertThat(storage.find(oldLogo)).isEmpty();
+    }
+
+    @Test
+    void rolledBackReplaceDeletesTheNewLogo() {
+        Company company = create();
+        String oldLogo = company.getCompanyLogo();
+        int before = storage.size();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            update(company, image());
+            status.setRollbackOnly();
+        });
+
+        assertThat(storage.find(oldLogo)).isPresent();
+        assertThat(storage.size()).isEqualTo(before);
+        assertThat(adminCompanyService.getCompanyById(company.getId()).getCompanyLogo()).isEqualTo(oldLogo);
+    }
+
+    private Company create() {
+        return adminCompanyService.createCompany("logo" + System.nanoTime(), List.of("환경"),
+                "https://matcha.local", image(), null);
+    }
+
+    private Company update(Company company, MockMultipartFile logo) {
+        return adminCompanyService.updateCompany(company.getId(), company.getCompanyName(), List.of("환경"),
+                company.getCompanyWebsiteUrl(), logo, company.getCompanyLogo());
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("logo", "logo.png", "image/png", new byte[] {1, 2, 3});
+    }
+}
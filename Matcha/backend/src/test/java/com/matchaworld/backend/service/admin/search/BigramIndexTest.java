@@ -0,0 +1,67 @@
+package com.matchaworld.backend.service.admin.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ✅ 2-gram 역색인: 부분 문자열 검색, 컬럼 경계, 후보 한도, 재색인 생략 판단
+ */
+class BigramIndexTest {
+
+    @Test
+    void findsSubstringsCaseInsensitively() {
+        BigramIndex index = new BigramIndex();
+        index.put(1L, "Matcha@World.com", "말차러버");
+        index.put(2L, "green@tea.com", "녹차");
+
+        assertThat(index.search("WORLD", 10)).containsExactly(1L);
+        assertThat(index.search("차러", 10)).containsExactly(1L);
+        assertThat(index.search("차", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("없는키워드", 10)).isEmpty();
+    }
+
+    @Test
+    void gramsDoNotSpanFields() {
+        BigramIndex index = new BigramIndex();
+        index.put(1L, "ab", "cd");
+
+        assertThat(index.search("bc", 10)).isEmpty();
+        assertThat(index.search("cd", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsPostings() {
+        BigramIndex index = new BigramIndex();
+        index.put(1L, "old@matcha.com", "이전닉네임");
+        index.put(1L, "old@matcha.com", "새닉네임");
+
+        assertThat(index.search("이전", 10)).isEmpty();
+        assertThat(index.search("새닉", 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("새닉", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void tooManyCandidatesReturnsNull() {
+        BigramIndex index = new BigramIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "user" + id + "@matcha.com");
+        }
+
+        assertThat(index.search("matcha", 4)).isNull();
+        assertThat(index.search("matcha", 5)).hasSize(5);
+    }
+
+    @Test
+    void containsComparesNormalizedFields() {
+        BigramIndex index = new BigramIndex();
+        index.put(1L, "Matcha@World.com", "말차");
+
+        assertThat(index.contains(1L, "matcha@world.com ", "말차")).isTrue();
+        assertThat(index.contains(1L, "matcha@world.com", "녹차")).isFalse();
+        assertThat(index.contains(2L, "matcha@world.com", "말차")).isFalse();
+    }
+}
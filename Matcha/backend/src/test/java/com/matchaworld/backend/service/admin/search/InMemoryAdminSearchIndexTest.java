@@ -0,0 +1,101 @@
+package com.matchaworld.backend.service.admin.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.auth.UserService;
+
+/**
+ * ✅ 엔티티 변경 → 메모리 검색 인덱스 반영
+ * - 닉네임 변경은 커밋 후 색인 스레드에서 반영
+ * - 점수만 바뀐 UPDATE 는 재색인하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InMemoryAdminSearchIndexTest {
+
+    @Autowired
+    private InMemoryAdminSearchIndex searchIndex;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void nicknameChangeIsReindexedAfterCommit() throws Exception {
+        String nickname = "idx" + System.nanoTime();
+        User user = userService.signup(nickname, nickname + "@matcha.local", "password1!");
+        awaitIds(nickname, Set.of(user.getId()));
+
+        update(user, u -> u.setNickname("renamed" + nickname));
+
+        awaitIds("renamed" + nickname, Set.of(user.getId()));
+        assertThat(searchIndex.findIds(SearchTarget.USER, nickname + "@")).hasValue(Set.of(user.getId()));
+    }
+
+    @Test
+    void scoreOnlyUpdateIsNotReindexed() throws Exception {
+        String nickname = "score" + System.nanoTime();
+        User user = userService.signup(nickname, nickname + "@matcha.local", "password1!");
+        awaitIds(nickname, Set.of(user.getId()));
+
+        long before = searchIndex.submittedChanges();
+        update(user, u -> u.setEsgScore(42));
+
+        assertThat(searchIndex.submittedChanges()).isEqualTo(before);
+        assertThat(searchIndex.findIds(SearchTarget.USER, nickname)).hasValue(Set.of(user.getId()));
+    }
+
+    @Test
+    void rolledBackRenameIsNotIndexed() throws Exception {
+        String nickname = "rollback" + System.nanoTime();
+        User user = userService.signup(nickname, nickname + "@matcha.local", "password1!");
+        awaitIds(nickname, Set.of(user.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userRepository.findById(user.getId()).orElseThrow().setNickname("ghost" + nickname);
+            userRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        Thread.sleep(200);
+        assertThat(searchIndex.findIds(SearchTarget.USER, "ghost" + nickname)).hasValue(Set.of());
+    }
+
+    private void update(User user, Consumer<User> change) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                change.accept(userRepository.findById(user.getId()).orElseThrow()));
+    }
+
+    // 반영은 색인 스레드에서 비동기로 수행
+    private void awaitIds(String keyword, Set<Long> expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline
+                && !searchIndex.findIds(SearchTarget.USER, keyword).orElseThrow().equals(expected)) {
+            Thread.sleep(20);
+        }
+        assertThat(searchIndex.findIds(SearchTarget.USER, keyword)).hasValue(expected);
+    }
+}
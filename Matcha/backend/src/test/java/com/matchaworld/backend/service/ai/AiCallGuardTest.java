@@ -0,0 +1,117 @@
+package com.matchaworld.backend.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ AI 호출 보호: 폴백, 서킷 OPEN, 호출 스레드 중단 시 HALF_OPEN 시험 허가 반납
+ * - 실행 스레드가 시작하기 전에 취소된 호출도 동시 호출 허가를 반납
+ */
+class AiCallGuardTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    // window 2 / minimum 2 / 50% / open 0ms / 시험 호출 1건
+    private final AiCallGuard guard = new AiCallGuard(new SimpleMeterRegistry(), 4, 100, 2, 2, 50, 0, 1);
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void failuresFallBackAndOpenTheCircuit() {
+        assertThat(guard.call("test", TIMEOUT, this::boom, () -> "fallback")).isEqualTo("fallback");
+        assertThat(guard.call("test", TIMEOUT, this::boom, () -> "fallback")).isEqualTo("fallback");
+
+        // open 0ms → 다음 호출이 HALF_OPEN 시험 호출, 성공하면 CLOSED
+        assertThat(guard.call("test", TIMEOUT, () -> "ok", () -> "fallback")).isEqualTo("ok");
+        assertThat(guard.call("test", TIMEOUT, () -> "ok", () -> "fallback")).isEqualTo("ok");
+    }
+
+    @Test
+    void interruptedProbeReleasesItsPermit() throws Exception {
+        guard.call("test", TIMEOUT, this::boom, () -> "fallback");
+        guard.call("test", TIMEOUT, this::boom, () -> "fallback");
+
+        // HALF_OPEN 시험 호출 도중 호출 스레드가 중단됨
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<String> interrupted = new AtomicReference<>();
+        Thread caller = Thread.ofVirtual().start(() -> interrupted.set(guard.call("test", TIMEOUT, () -> {
+            started.countDown();
+            sleepQuietly(10_000);
+            return "late";
+        }, () -> "fallback")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(5_000);
+        assertThat(interrupted.get()).isEqualTo("fallback");
+
+        // 허가가 반납되어 다음 시험 호출이 가능 → 성공 시 CLOSED
+        assertThat(guard.call("test", TIMEOUT, () -> "ok", () -> "fallback")).isEqualTo("ok");
+        assertThat(guard.call("test", TIMEOUT, () -> "ok", () -> "fallback")).isEqualTo("ok");
+    }
+
+    @Test
+    void callCancelledBeforeStartReturnsBulkheadPermit() throws Exception {
+        // 실행 스레드 1개를 막아 두어 제출된 호출이 시작하지 못한 채 타임아웃
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AiCallGuard single = new AiCallGuard(new SimpleMeterRegistry(), executor, 1, 100, 20, 20, 50, 60_000, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.submit(() -> {
+            blocker.await();
+            return null;
+        });
+        try {
+            AtomicInteger invoked = new AtomicInteger();
+            Supplier<String> call = () -> {
+                invoked.incrementAndGet();
+                return "ok";
+            };
+            assertThat(single.call("test", Duration.ofMillis(100), call, () -> "fallback")).isEqualTo("fallback");
+
+            // 호출 스레드 중단 경로도 같은 방식으로 반납
+            AtomicReference<String> interrupted = new AtomicReference<>();
+            Thread caller = Thread.ofVirtual().unstarted(() ->
+                    interrupted.set(single.call("test", TIMEOUT, call, () -> "fallback")));
+            caller.start();
+            Thread.sleep(200);
+            caller.interrupt();
+            caller.join(5_000);
+            assertThat(interrupted.get()).isEqualTo("fallback");
+
+            blocker.countDown();
+            // 허가가 1개뿐 → 반납되지 않았다면 bulkhead-full 로 폴백
+            assertThat(single.call("test", TIMEOUT, call, () -> "fallback")).isEqualTo("ok");
+            assertThat(invoked).hasValue(1);
+        } finally {
+            blocker.countDown();
+            single.shutdown();
+        }
+    }
+
+    private String boom() {
+        throw new IllegalStateException("upstream down");
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
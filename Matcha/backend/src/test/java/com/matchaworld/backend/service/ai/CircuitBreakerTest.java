@@ -0,0 +1,126 @@
+package com.matchaworld.backend.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.matchaworld.backend.service.ai.CircuitBreaker.State;
+
+/**
+ * ✅ 서킷 브레이커 상태 전이
+ * - CLOSED → OPEN (최소 호출 수 이후 실패율 임계치)
+ * - OPEN → HALF_OPEN (open-duration 경과 후 첫 허가 요청)
+ * - HALF_OPEN → CLOSED (시험 호출 모두 성공) / OPEN (하나라도 실패)
+ */
+class CircuitBreakerTest {
+
+    private final List<String> transitions = new ArrayList<>();
+
+    private CircuitBreaker breaker(long openDurationMillis, int halfOpenCalls) {
+        return new CircuitBreaker(4, 4, 50, openDurationMillis, halfOpenCalls,
+                (from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    void opensOnlyAfterMinimumCallsAtThreshold() {
+        CircuitBreaker cb = breaker(60_000, 1);
+
+        call(cb, false);
+        call(cb, false);
+        call(cb, true);
+        assertThat(cb.getState()).isEqualTo(State.CLOSED); // 3건 < minimum-calls
+
+        call(cb, true); // 2/4 = 50%
+        assertThat(cb.getState()).isEqualTo(State.OPEN);
+        assertThat(cb.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void slidingWindowForgetsOldFailures() {
+        CircuitBreaker cb = breaker(60_000, 1);
+
+        call(cb, true);
+        for (int i = 0; i < 4; i++) {
+            call(cb, false);
+        }
+        call(cb, true); // 최근 4건 중 실패 1건 = 25%
+
+        assertThat(cb.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenClosesAfterAllProbesSucceed() {
+        CircuitBreaker cb = opened(2);
+
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        assertThat(cb.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        assertThat(cb.tryAcquirePermission()).isFalse(); // 시험 호출 허가 소진
+
+        cb.onSuccess();
+        assertThat(cb.getState()).isEqualTo(State.HALF_OPEN);
+        cb.onSuccess();
+        assertThat(cb.getState()).isEqualTo(State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void halfOpenReopensOnProbeFailure() {
+        CircuitBreaker cb = opened(2);
+
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        cb.onFailure();
+
+        assertThat(cb.getState()).isEqualTo(State.OPEN);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+    }
+
+    @Test
+    void releasedProbePermitCanBeReused() {
+        CircuitBreaker cb = opened(1);
+
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        assertThat(cb.tryAcquirePermission()).isFalse();
+
+        cb.releasePermission();
+        assertThat(cb.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        cb.onSuccess();
+        assertThat(cb.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void releaseDoesNotExceedRemainingProbes() {
+        CircuitBreaker cb = opened(2);
+
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        cb.onSuccess();
+        cb.releasePermission(); // 이미 결과를 알린 허가에 대한 잘못된 반납도 남은 시험 횟수를 넘지 않음
+
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        assertThat(cb.tryAcquirePermission()).isFalse();
+    }
+
+    // open-duration 0 → 다음 허가 요청에서 바로 HALF_OPEN
+    private CircuitBreaker opened(int halfOpenCalls) {
+        CircuitBreaker cb = breaker(0, halfOpenCalls);
+        for (int i = 0; i < 4; i++) {
+            call(cb, true);
+        }
+        assertThat(cb.getState()).isEqualTo(State.OPEN);
+        return cb;
+    }
+
+    private static void call(CircuitBreaker cb, boolean fail) {
+        assertThat(cb.tryAcquirePermission()).isTrue();
+        if (fail) {
+            cb.onFailure();
+        } else {
+            cb.onSuccess();
+        }
+    }
+}
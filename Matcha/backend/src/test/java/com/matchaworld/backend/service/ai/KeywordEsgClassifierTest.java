@@ -0,0 +1,124 @@
+package com.matchaworld.backend.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.matchaworld.backend.dto.response.ai.AiResult;
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ 키워드 사전 ESG 분류
+ * - 확신도 = 1위 × 1위 / (1위 + 2위), min-confidence(0.8) 이상이면 바로 결과
+ * - 약한 단서 하나 / E·S 단서 혼재 / 매칭 없음 → empty → AIService 가 OpenAI 호출
+ */
+class KeywordEsgClassifierTest {
+
+    private static final String DICTIONARY = """
+            # 테스트 사전
+            E 텀블러 0.9
+            E 빨대 0.6
+            E 일회용 0.6
+            S 봉사 0.9
+            S 기부 0.6
+            """;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KeywordEsgClassifier classifier(boolean enabled, String dictionary) throws IOException {
+        return new KeywordEsgClassifier(meterRegistry, enabled, 0.8,
+                new ByteArrayResource(dictionary.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.counter("matcha.ai.keyword-classifier", "outcome", outcome).count();
+    }
+
+    @Test
+    void strongKeywordIsClassifiedLocally() throws IOException {
+        Optional<AiResult> result = classifier(true, DICTIONARY).classify("오늘 카페에 텀 블 러 들고 감");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getCategory()).isEqualTo("E");
+        assertThat(result.get().getKeywords()).containsExactly("텀블러");
+        assertThat(result.get().getConfidence()).isEqualTo(0.9);
+        assertThat(result.get().getRawText()).isEqualTo("오늘 카페에 텀 블 러 들고 감");
+        assertThat(outcome("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void weakKeywordsCombineAcrossTheThreshold() throws IOException {
+        KeywordEsgClassifier classifier = classifier(true, DICTIONARY);
+
+        // 0.6 하나 → 미달, 같은 키워드 반복은 한 번만
+        assertThat(classifier.classify("빨대 빨대 빨대")).isEmpty();
+        // 1 - 0.4 × 0.4 = 0.84
+        Optional<AiResult> combined = classifier.classify("일회용 빨대 안 받기");
+
+        assertThat(combined).isPresent();
+        assertThat(combined.get().getConfidence()).isEqualTo(0.84);
+        assertThat(combined.get().getKeywords()).containsExactly("일회용", "빨대");
+        assertThat(outcome("low-confidence")).isEqualTo(1);
+        assertThat(outcome("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void mixedCategoriesLowerConfidence() throws IOException {
+        // 0.9 × 0.9 / (0.9 + 0.9) = 0.45
+        assertThat(classifier(true, DICTIONARY).classify("텀블러 들고 봉사 활동")).isEmpty();
+        assertThat(outcome("low-confidence")).isEqualTo(1);
+    }
+
+    @Test
+    void noMatchBlankOrDisabledFallsThrough() throws IOException {
+        assertThat(classifier(true, DICTIONARY).classify("오늘은 산책을 했다")).isEmpty();
+        assertThat(outcome("no-match")).isEqualTo(1);
+
+        assertThat(classifier(true, DICTIONARY).classify("  ")).isEmpty();
+        assertThat(classifier(false, DICTIONARY).classify("텀블러")).isEmpty();
+        assertThat(outcome("hit")).isZero();
+    }
+
+    @Test
+    void rejectsMalformedDictionary() {
+        assertThatThrownBy(() -> classifier(true, "G 텀블러 0.9"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1행");
+        assertThatThrownBy(() -> classifier(true, "E 텀블러 1.0"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void aiServiceCallsOpenAiOnlyWhenKeywordsAreNotConfident() throws IOException {
+        AiCallGuard aiCallGuard = mock(AiCallGuard.class);
+        when(aiCallGuard.call(eq("text-analysis"), any(), any(), any()))
+                .thenReturn("```json\n{\"category\": \"S\", \"keywords\": [\"봉사\"], \"confidence\": 0.7}\n```");
+        AIService aiService = new AIService(mock(OpenAiChatModel.class), mock(ExternalCallMetrics.class), aiCallGuard,
+                classifier(true, DICTIONARY), 10_000, 20_000);
+
+        AiResult local = aiService.analyzeTextJackson("텀블러 사용");
+        assertThat(local.getCategory()).isEqualTo("E");
+        verifyNoInteractions(aiCallGuard);
+
+        AiResult remote = aiService.analyzeTextJackson("텀블러 들고 봉사 활동");
+        assertThat(remote.getCategory()).isEqualTo("S");
+        assertThat(remote.getConfidence()).isEqualTo(0.7);
+        assertThat(remote.getRawText()).isEqualTo("텀블러 들고 봉사 활동");
+        verify(aiCallGuard).call(eq("text-analysis"), any(), any(), any());
+    }
+}
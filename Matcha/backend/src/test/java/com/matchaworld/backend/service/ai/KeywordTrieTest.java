@@ -0,0 +1,91 @@
+package com.matchaworld.backend.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ✅ Aho-Corasick 키워드 트라이
+ * - 실패 링크로 더 긴 키워드 경로 안의 접미사 키워드도 찾음
+ * - 겹치면 왼쪽 우선, 같은 시작 위치에서는 가장 긴 키워드
+ */
+class KeywordTrieTest {
+
+    private static KeywordTrie<String> trie(String... keywords) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            entries.put(keyword, keyword.toUpperCase());
+        }
+        return new KeywordTrie<>(entries);
+    }
+
+    private static List<String> keywords(KeywordTrie<String> trie, String text) {
+        return trie.findAll(text).stream().map(KeywordTrie.Match::keyword).toList();
+    }
+
+    @Test
+    void findsSuffixKeywordThroughFailureLink() {
+        KeywordTrie<String> trie = trie("abcd", "bc");
+
+        // "abc" 까지 긴 키워드 경로를 따라가다 'e' 에서 끊김 → 출력 링크로 "bc"
+        List<KeywordTrie.Match<String>> matches = trie.findAll("xabce");
+
+        assertThat(matches).containsExactly(new KeywordTrie.Match<>(2, 4, "bc", "BC"));
+    }
+
+    @Test
+    void failureLinkFallsBackToLongestProperSuffix() {
+        KeywordTrie<String> trie = trie("aab", "ab");
+
+        // "aa" 에서 'a' 가 또 오면 실패 링크로 "a" → 다시 "aa" → "aab"
+        List<KeywordTrie.Match<String>> matches = trie.findAll("aaab");
+
+        assertThat(matches).containsExactly(new KeywordTrie.Match<>(1, 4, "aab", "AAB"));
+    }
+
+    @Test
+    void chainsOutputLinksForNestedSuffixes() {
+        KeywordTrie<String> trie = trie("x", "hers", "ers", "rs");
+
+        assertThat(keywords(trie, "hers")).containsExactly("hers");
+        assertThat(keywords(trie, "thers")).containsExactly("hers");
+        assertThat(keywords(trie, "ers")).containsExactly("ers");
+        // "hexrs" → "rs" 만 남음 (x 는 별도 키워드)
+        assertThat(keywords(trie, "hexrs")).containsExactly("x", "rs");
+    }
+
+    @Test
+    void keepsLongestAtSameStartAndLeftmostOnOverlap() {
+        KeywordTrie<String> trie = trie("다회용", "다회용컵", "용컵", "컵");
+
+        assertThat(keywords(trie, "다회용컵")).containsExactly("다회용컵");
+        assertThat(keywords(trie, "다회용기")).containsExactly("다회용");
+
+        KeywordTrie<String> overlapping = trie("ab", "bc");
+        assertThat(keywords(overlapping, "abc")).containsExactly("ab");
+        assertThat(keywords(overlapping, "abbc")).containsExactly("ab", "bc");
+    }
+
+    @Test
+    void findsRepeatedAndAdjacentKeywords() {
+        KeywordTrie<String> trie = trie("텀블러", "머그컵");
+
+        List<KeywordTrie.Match<String>> matches = trie.findAll("텀블러머그컵텀블러");
+
+        assertThat(matches).extracting(KeywordTrie.Match::start).containsExactly(0, 3, 6);
+        assertThat(matches).extracting(KeywordTrie.Match::value).containsExactly("텀블러", "머그컵", "텀블러");
+    }
+
+    @Test
+    void noMatchOrEmptyInput() {
+        KeywordTrie<String> trie = trie("텀블러");
+
+        assertThat(trie.findAll("텀블")).isEmpty();
+        assertThat(trie.findAll("")).isEmpty();
+        assertThat(new KeywordTrie<String>(Map.of()).findAll("텀블러")).isEmpty();
+    }
+}
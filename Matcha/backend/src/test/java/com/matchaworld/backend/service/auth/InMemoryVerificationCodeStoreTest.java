@@ -0,0 +1,54 @@
+package com.matchaworld.backend.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.matchaworld.backend.service.auth.VerificationCodeStore.Result;
+
+/**
+ * ✅ 메모리 인증번호 저장소
+ * - 동시 오답도 max-attempts 번까지만 비교 (나머지는 LOCKED)
+ * - 새 코드 발송이 이미 인증 완료된 상태를 지우지 않음 (JPA 저장소와 동일)
+ */
+class InMemoryVerificationCodeStoreTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(MAX_ATTEMPTS, 1000, 64);
+
+    @Test
+    void concurrentWrongGuessesCannotExceedMaxAttempts() throws Exception {
+        store.save("race@matcha.local", "999999", Duration.ofMinutes(3));
+
+        List<Result> results = VerificationAttempts.guessConcurrently(store, "race@matcha.local", 32);
+
+        assertThat(results).filteredOn(r -> r == Result.MISMATCH).hasSize(MAX_ATTEMPTS - 1);
+        assertThat(results).filteredOn(r -> r == Result.LOCKED).hasSize(32 - (MAX_ATTEMPTS - 1));
+        assertThat(store.verify("race@matcha.local", "999999")).isEqualTo(Result.LOCKED);
+    }
+
+    @Test
+    void correctCodeWithinAttemptsVerifies() {
+        store.save("ok@matcha.local", "123456", Duration.ofMinutes(3));
+
+        assertThat(store.verify("ok@matcha.local", "000000")).isEqualTo(Result.MISMATCH);
+        assertThat(store.verify("ok@matcha.local", "123456")).isEqualTo(Result.VERIFIED);
+        assertThat(store.verify("ok@matcha.local", "123456")).isEqualTo(Result.ALREADY_VERIFIED);
+        assertThat(store.isVerified("ok@matcha.local")).isTrue();
+    }
+
+    @Test
+    void resendingCodeKeepsVerifiedState() {
+        store.save("resend@matcha.local", "123456", Duration.ofMinutes(3));
+        assertThat(store.verify("resend@matcha.local", "123456")).isEqualTo(Result.VERIFIED);
+
+        store.save("resend@matcha.local", "654321", Duration.ofMinutes(3));
+
+        assertThat(store.isVerified("resend@matcha.local")).isTrue();
+        assertThat(store.verify("resend@matcha.local", "654321")).isEqualTo(Result.VERIFIED);
+    }
+}
@@ -0,0 +1,47 @@
+package com.matchaworld.backend.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.matchaworld.backend.repository.AuthCodeRepository;
+import com.matchaworld.backend.service.auth.VerificationCodeStore.Result;
+
+/**
+ * ✅ AUTH_CODE 저장소 동시 오답
+ * - 최신 코드 행 잠금으로 실패 횟수 유실 없음 → max-attempts 번 이후는 모두 LOCKED
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JpaVerificationCodeStoreConcurrencyTest {
+
+    @Autowired
+    private VerificationCodeStore store;
+
+    @Autowired
+    private AuthCodeRepository authCodeRepository;
+
+    @Value("${app.verification.max-attempts}")
+    private int maxAttempts;
+
+    @Test
+    void concurrentWrongGuessesCannotExceedMaxAttempts() throws Exception {
+        assertThat(store).isInstanceOf(JpaVerificationCodeStore.class);
+        String email = "race" + System.nanoTime() + "@matcha.local";
+        store.save(email, "999999", Duration.ofMinutes(3));
+
+        List<Result> results = VerificationAttempts.guessConcurrently(store, email, 16);
+
+        assertThat(results).filteredOn(r -> r == Result.MISMATCH).hasSize(maxAttempts - 1);
+        assertThat(authCodeRepository.findTopByEmailOrderByCreatedAtDesc(email).orElseThrow().getFailedAttempts())
+                .isEqualTo(maxAttempts);
+        assertThat(store.verify(email, "999999")).isEqualTo(Result.LOCKED);
+    }
+}
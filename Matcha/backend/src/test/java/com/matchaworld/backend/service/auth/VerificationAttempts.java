@@ -0,0 +1,42 @@
+package com.matchaworld.backend.service.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 같은 이메일로 틀린 인증번호를 동시에 입력 (시작 신호 후 한꺼번에)
+ */
+final class VerificationAttempts {
+
+    private VerificationAttempts() {
+    }
+
+    static List<VerificationCodeStore.Result> guessConcurrently(VerificationCodeStore store, String email,
+                                                                int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<VerificationCodeStore.Result>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String guess = String.format("%06d", i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return store.verify(email, guess);
+                }));
+            }
+            start.countDown();
+
+            List<VerificationCodeStore.Result> results = new ArrayList<>();
+            for (Future<VerificationCodeStore.Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
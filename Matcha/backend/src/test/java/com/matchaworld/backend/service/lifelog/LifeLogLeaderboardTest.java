@@ -0,0 +1,84 @@
+package com.matchaworld.backend.service.lifelog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.matchaworld.backend.domain.LifeLog;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.dto.request.lifelog.LifeLogRequest;
+import com.matchaworld.backend.repository.LifeLogRepository;
+import com.matchaworld.backend.service.auth.UserService;
+import com.matchaworld.backend.service.ranking.LeaderboardAggregator;
+import com.matchaworld.backend.service.ranking.LeaderboardType;
+
+/**
+ * ✅ 기록 수정 → 세그먼트 랭킹 반영
+ * - 카테고리가 바뀌면 이전 카테고리에서 이전 점수를 빼고 새 카테고리에 새 점수를 더함
+ * - 점수 비교는 @PreUpdate 보정 이후 값 기준
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LifeLogLeaderboardTest {
+
+    @Autowired
+    private LifeLogService lifeLogService;
+
+    @Autowired
+    private LifeLogRepository lifeLogRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LeaderboardAggregator leaderboardAggregator;
+
+    @Test
+    void effectAndCategoryEditsMoveTheRightAmount() {
+        String nickname = "board" + System.nanoTime();
+        User user = userService.signup(nickname, nickname + "@matcha.local", "password1!");
+        LifeLog log = lifeLogRepository.save(LifeLog.builder()
+                .user(user)
+                .content("텀블러 사용")
+                .category(LifeLog.Category.E)
+                .esgScoreEffect(BigDecimal.ONE)
+                .loggedAt(LocalDateTime.now())
+                .build());
+        // 저장소에 직접 넣은 기록이므로 보드에는 +1 을 수동 반영
+        leaderboardAggregator.recordLifeLog(user.getId(), LifeLog.Category.E, log.getLoggedAt(), 1);
+        assertThat(score(LeaderboardType.E, user)).isEqualTo(1);
+
+        // 점수만 변경 요청: 저장 시 @PreUpdate 로 1 고정 → 보드 변화 없음
+        lifeLogService.updateLifeLog(user.getId(), log.getId(), request(LifeLog.Category.E, 3));
+        assertThat(score(LeaderboardType.E, user)).isEqualTo(1);
+        assertThat(score(LeaderboardType.SEASON, user)).isEqualTo(1);
+
+        // 카테고리 변경: E → S (이전 카테고리에서 빼고 새 카테고리에 더함)
+        lifeLogService.updateLifeLog(user.getId(), log.getId(), request(LifeLog.Category.S, 2));
+        assertThat(score(LeaderboardType.E, user)).isZero();
+        assertThat(score(LeaderboardType.S, user)).isEqualTo(1);
+        assertThat(score(LeaderboardType.SEASON, user)).isEqualTo(1);
+
+        // 변경 없음 → 그대로
+        lifeLogService.updateLifeLog(user.getId(), log.getId(), request(LifeLog.Category.S, 1));
+        assertThat(score(LeaderboardType.S, user)).isEqualTo(1);
+    }
+
+    private int score(LeaderboardType type, User user) {
+        return leaderboardAggregator.board(type).scoreOf(user.getId());
+    }
+
+    private static LifeLogRequest request(LifeLog.Category category, int effect) {
+        LifeLogRequest request = new LifeLogRequest();
+        request.setContent("텀블러 사용");
+        request.setCategory(category);
+        request.setEsgScoreEffect(BigDecimal.valueOf(effect));
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.matchaworld.backend.service.my;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.matchaworld.backend.domain.User;
+
+/**
+ * ✅ 점수 → 캐릭터 단계 경계
+ * - 경계값과 같으면 다음 단계 (50점부터 seed), 경계 바로 아래는 이전 단계
+ * - 음수/첫 경계 미만은 default, 마지막 경계 이상은 cloud
+ */
+class CharacterTierTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "-100, default",
+            "-1, default",
+            "0, default",
+            "49, default",
+            "50, seed",
+            "149, seed",
+            "150, flower",
+            "299, flower",
+            "300, tree",
+            "499, tree",
+            "500, earth",
+            "799, earth",
+            "800, moon",
+            "1099, moon",
+            "1100, star",
+            "1499, star",
+            "1500, sun",
+            "1999, sun",
+            "2000, wind",
+            "2499, wind",
+            "2500, cloud",
+            "2147483647, cloud"
+    })
+    void urlAtBoundaries(int score, String character) {
+        assertThat(CharacterTier.url(score)).isEqualTo("/uploads/character/" + character + ".png");
+    }
+
+    @Test
+    void applyOnlyChangesWhenTierChanges() {
+        User user = User.builder().build();
+
+        assertThat(CharacterTier.apply(user, 50)).isTrue();
+        assertThat(user.getCharacter()).isEqualTo("/uploads/character/seed.png");
+
+        assertThat(CharacterTier.apply(user, 149)).isFalse();
+        assertThat(CharacterTier.apply(user, 150)).isTrue();
+        assertThat(CharacterTier.apply(user, -5)).isTrue();
+        assertThat(user.getCharacter()).isEqualTo("/uploads/character/default.png");
+    }
+}
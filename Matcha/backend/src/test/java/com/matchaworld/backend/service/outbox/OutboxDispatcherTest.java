@@ -0,0 +1,236 @@
+package com.matchaworld.backend.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.repository.OutboxEventRepository;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ 아웃박스 디스패처
+ * - 조건부 UPDATE 선점 → 여러 스레드가 같은 행을 집어도 컨슈머는 1회만 실행
+ * - 컨슈머 실패 → 롤백 후 시도 횟수 + backoff 기록, 한도 초과 시 FAILED
+ * - 보관 기준 시각 이전에 처리된 DONE 행만 정리
+ * - 테스트 전용 컨슈머를 가진 디스패처를 직접 생성 (스프링 빈 폴링은 1시간 간격으로 사실상 끔)
+ */
+@SpringBootTest(properties = "app.outbox.poll-interval-ms=3600000")
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MS = 1_000;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LockedJobRunner lockedJobRunner;
+
+    private final TestConsumer consumer = new TestConsumer();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, objectMapper, new SimpleMeterRegistry(),
+                transactionManager, lockedJobRunner, List.of(consumer), 1, 100, MAX_ATTEMPTS, BACKOFF_MS, 60_000, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void concurrentProcessingConsumesOnce() throws Exception {
+        consumer.delayMillis = 100;
+        Long id = pending();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    dispatcher.process(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(consumer.calls).hasValue(1);
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.DONE);
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void failureIsRetriedAfterBackoff() {
+        consumer.failuresLeft = 1;
+        Long id = pending();
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.process(id);
+
+        OutboxEvent failed = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("consumer down");
+        assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plusNanos(BACKOFF_MS * 1_000_000));
+
+        // backoff 중에는 선점되지 않음
+        dispatcher.process(id);
+        assertThat(consumer.calls).hasValue(1);
+        assertThat(outboxEventRepository.findDueIds(LocalDateTime.now(), Pageable.unpaged()))
+                .doesNotContain(id);
+
+        makeDue(id);
+        dispatcher.process(id);
+
+        assertThat(consumer.calls).hasValue(2);
+        assertThat(outboxEventRepository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxEvent.Status.DONE);
+    }
+
+    @Test
+    void backoffGrowsAndGivesUpAtMaxAttempts() {
+        consumer.failuresLeft = Integer.MAX_VALUE;
+        Long id = pending();
+
+        LocalDateTime previousNext = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            makeDue(id);
+            LocalDateTime now = LocalDateTime.now();
+            dispatcher.process(id);
+            OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+            assertThat(event.getAttempts()).isEqualTo(attempt);
+            if (attempt < MAX_ATTEMPTS) {
+                // 1초, 2초, ... (attempts 만큼 2배씩)
+                assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(now.plusSeconds(1L << (attempt - 1)));
+                previousNext = event.getNextAttemptAt();
+            }
+        }
+
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(previousNext).isNotNull();
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.FAILED);
+        assertThat(consumer.calls).hasValue(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void deleteProcessedBeforeRemovesOnlyOldDoneRows() {
+        LocalDateTime now = LocalDateTime.now();
+        Long oldDone = saved(OutboxEvent.Status.DONE, now.minusDays(10));
+        Long recentDone = saved(OutboxEvent.Status.DONE, now.minusHours(1));
+        Long oldPending = saved(OutboxEvent.Status.PENDING, null);
+        Long oldFailed = saved(OutboxEvent.Status.FAILED, null);
+
+        Integer deleted = new TransactionTemplate(transactionManager)
+                .execute(status -> outboxEventRepository.deleteProcessedBefore(now.minusDays(7)));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventRepository.existsById(oldDone)).isFalse();
+        assertThat(outboxEventRepository.existsById(recentDone)).isTrue();
+        assertThat(outboxEventRepository.existsById(oldPending)).isTrue();
+        assertThat(outboxEventRepository.existsById(oldFailed)).isTrue();
+    }
+
+    private Long pending() {
+        return saved(OutboxEvent.Status.PENDING, null);
+    }
+
+    private Long saved(OutboxEvent.Status status, LocalDateTime processedAt) {
+        LocalDateTime created = LocalDateTime.now().minusDays(30);
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEvent.Type.QUEST_REWARDED)
+                .consumer(consumer.name())
+                .aggregateId(1L)
+                .payload("{\"value\":\"hello\"}")
+                .status(status)
+                .nextAttemptAt(created)
+                .createdAt(created)
+                .processedAt(processedAt)
+                .build()).getId();
+    }
+
+    private void makeDue(Long id) {
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxEventRepository.save(event);
+    }
+
+    record TestPayload(String value) {
+    }
+
+    static class TestConsumer implements OutboxConsumer<TestPayload> {
+
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int failuresLeft;
+        volatile long delayMillis;
+
+        @Override
+        public String name() {
+            return "test-consumer";
+        }
+
+        @Override
+        public OutboxEvent.Type type() {
+            return OutboxEvent.Type.QUEST_REWARDED;
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void consume(TestPayload payload) {
+            calls.incrementAndGet();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("consumer down");
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.matchaworld.backend.service.quest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.matchaworld.backend.domain.OutboxEvent;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.domain.UserQuest;
+import com.matchaworld.backend.dto.response.quest.QuestSubmitResponse;
+import com.matchaworld.backend.repository.OutboxEventRepository;
+import com.matchaworld.backend.repository.QuestRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.auth.UserService;
+import com.matchaworld.backend.service.title.TitleCatalog;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * ✅ 퀘스트 동시 제출 스트레스 테스트
+ * - 같은 Idempotency-Key 더블 탭 → 1회만 반영, 모든 요청이 같은 응답
+ * - 키 없는 동시 제출 → 낙관적 락 충돌 재시도로 완료 1회, 점수 1회 누적
+ * - 서로 다른 키 동시 제출 → 시도 횟수/점수 유실 없이 maxAttempts 까지만 반영
+ * - 같은 키를 다른 퀘스트에 재사용 → 퀘스트별로 따로 처리 (다른 퀘스트의 응답을 재생하지 않음)
+ * - 최종 완료 시 조건을 충족한 칭호는 제출 응답(newTitles)에 바로 포함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestSubmissionConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private QuestSubmissionService questSubmissionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestRepository questRepository;
+
+    @Autowired
+    private UserQuestRepository userQuestRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TitleCatalog titleCatalog;
+
+    private ExecutorService executor;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sameIdempotencyKeyIsAppliedOnce() throws Exception {
+        User user = user();
+        Quest quest = quest(3);
+        assign(user, quest);
+
+        List<QuestSubmitResponse> responses = submitConcurrently(i ->
+                () -> questSubmissionService.submit(user.getId(), quest.getId(), "tap-1"));
+
+        assertThat(responses).allSatisfy(response -> assertThat(response).isEqualTo(responses.get(0)));
+        assertThat(attemptCount(user, quest)).isEqualTo(1);
+        assertThat(rewardEvents(user)).isEqualTo(1);
+        assertEsgScoreEventually(user, QuestServiceImpl.rewardOf(Quest.Type.DAILY));
+    }
+
+    @Test
+    void concurrentSubmitsWithoutKeyCompleteOnce() throws Exception {
+        User user = user();
+        Quest quest = quest(1);
+        assign(user, quest);
+
+        List<QuestSubmitResponse> responses = submitConcurrently(i ->
+                () -> questSubmissionService.submit(user.getId(), quest.getId(), null));
+
+        assertThat(responses).filteredOn(response -> response.getReward() > 0).hasSize(1);
+        assertThat(attemptCount(user, quest)).isEqualTo(1);
+        assertThat(rewardEvents(user)).isEqualTo(1);
+        assertEsgScoreEventually(user, QuestServiceImpl.rewardOf(Quest.Type.DAILY));
+    }
+
+    @Test
+    void distinctKeysAreCountedWithoutLostUpdates() throws Exception {
+        User user = user();
+        Quest quest = quest(3);
+        assign(user, quest);
+
+        List<QuestSubmitResponse> responses = submitConcurrently(i ->
+                () -> questSubmissionService.submit(user.getId(), quest.getId(), "tap-" + i));
+
+        assertThat(responses).filteredOn(response -> response.getReward() > 0).hasSize(3);
+        assertThat(attemptCount(user, quest)).isEqualTo(3);
+        assertThat(rewardEvents(user)).isEqualTo(3);
+        assertEsgScoreEventually(user, 3 * QuestServiceImpl.rewardOf(Quest.Type.DAILY));
+    }
+
+    @Test
+    void sameKeyOnAnotherQuestIsNotReplayed() {
+        User user = user();
+        Quest first = quest(1);
+        Quest second = quest(1);
+        assign(user, first);
+        assign(user, second);
+
+        QuestSubmitResponse firstResponse = questSubmissionService.submit(user.getId(), first.getId(), "tap-1");
+        QuestSubmitResponse secondResponse = questSubmissionService.submit(user.getId(), second.getId(), "tap-1");
+
+        assertThat(firstResponse.getReward()).isPositive();
+        assertThat(secondResponse.getReward()).isPositive();
+        assertThat(attemptCount(user, first)).isEqualTo(1);
+        assertThat(attemptCount(user, second)).isEqualTo(1);
+        assertThat(rewardEvents(user)).isEqualTo(2);
+    }
+
+    @Test
+    void completionReturnsNewTitles() {
+        User user = user();
+        Quest quest = quest(1);
+        assign(user, quest);
+        String titleName = "텀블러 입문자 " + System.nanoTime();
+        // H2 는 JSON 컬럼에 바인딩된 문자열을 JSON 문자열 값으로 저장 → FORMAT JSON 으로 객체 그대로 적재
+        jdbcTemplate.update("INSERT INTO TITLE (NAME, DESCRIPTION, CONDITION_JSON) VALUES (?, ?, ? FORMAT JSON)",
+                titleName, "텀블러 사용 1회", "{\"questTitle\":\"" + quest.getTitle() + "\",\"count\":1}");
+        // JDBC 직접 삽입은 쿼리 캐시 무효화 대상이 아님 → 칭호 전체 조회 캐시 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        titleCatalog.invalidate();
+
+        QuestSubmitResponse response = questSubmissionService.submit(user.getId(), quest.getId(), "title-1");
+        QuestSubmitResponse replayed = questSubmissionService.submit(user.getId(), quest.getId(), "title-1");
+
+        assertThat(response.getNewTitles()).containsExactly(titleName);
+        assertThat(replayed.getNewTitles()).containsExactly(titleName);
+    }
+
+    private List<QuestSubmitResponse> submitConcurrently(IntFunction<Callable<QuestSubmitResponse>> task)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<QuestSubmitResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Callable<QuestSubmitResponse> call = task.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+
+        List<QuestSubmitResponse> responses = new ArrayList<>();
+        for (Future<QuestSubmitResponse> future : futures) {
+            responses.add(future.get());
+        }
+        return responses;
+    }
+
+    private User user() {
+        int n = ++sequence;
+        String nickname = "stress" + System.nanoTime() + n;
+        return userService.signup(nickname, nickname + "@matcha.local", "password1!");
+    }
+
+    private Quest quest(int maxAttempts) {
+        return questRepository.save(Quest.builder()
+                .title("텀블러 사용하기 " + System.nanoTime())
+                .description("텀블러 사용 인증")
+                .rewardScore(10)
+                .type(Quest.Type.DAILY)
+                .authType(Quest.AuthType.TEXT)
+                .category(Quest.Category.E)
+                .maxAttempts(maxAttempts)
+                .build());
+    }
+
+    private void assign(User user, Quest quest) {
+        UserQuest uq = new UserQuest();
+        uq.setUser(user);
+        uq.setQuest(quest);
+        uq.setStatus(UserQuest.Status.PENDING);
+        uq.setStartedAt(LocalDateTime.now());
+        userQuestRepository.save(uq);
+    }
+
+    private int attemptCount(User user, Quest quest) {
+        return userQuestRepository.findByUserIdAndQuestId(user.getId(), quest.getId()).orElseThrow().getAttemptCount();
+    }
+
+    private long rewardEvents(User user) {
+        return outboxEventRepository.findAll().stream()
+                .filter(e -> e.getEventType() == OutboxEvent.Type.QUEST_REWARDED)
+                .filter(e -> e.getAggregateId().equals(user.getId()))
+                .count();
+    }
+
+    // 점수 누적은 아웃박스 컨슈머가 비동기로 처리
+    private void assertEsgScoreEventually(User user, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        Integer score = null;
+        while (System.currentTimeMillis() < deadline) {
+            score = userRepository.findById(user.getId()).orElseThrow().getEsgScore();
+            if (score == expected) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        assertThat(score).isEqualTo(expected);
+    }
+}
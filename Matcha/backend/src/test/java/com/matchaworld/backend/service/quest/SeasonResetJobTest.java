@@ -0,0 +1,205 @@
+package com.matchaworld.backend.service.quest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.matchaworld.backend.domain.Certification;
+import com.matchaworld.backend.domain.Quest;
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.domain.UserQuest;
+import com.matchaworld.backend.repository.CertificationRepository;
+import com.matchaworld.backend.repository.QuestRepository;
+import com.matchaworld.backend.repository.UserQuestHistoryRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+import com.matchaworld.backend.service.auth.UserService;
+import com.matchaworld.backend.service.scheduler.LockedJobRunner;
+
+/**
+ * ✅ 시즌 퀘스트 초기화 (2026-07-02 새벽 기준 → 시즌 시작 2026-07-01)
+ * - 지난 시즌 / 시작 시각 없는 SEASON 행만 키셋 청크로 삭제, 이번 시즌 행과 다른 타입은 유지
+ * - 완료 행은 삭제 전에 이력으로 이관, 인증 로그도 함께 삭제
+ * - 업무 시간대 진입 시 PAUSED → 다음 실행이 남은 행부터 이어감
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeasonResetJobTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDateTime NIGHT = LocalDateTime.of(2026, 7, 2, 3, 0);
+    private static final LocalDateTime MORNING = LocalDateTime.of(2026, 7, 2, 10, 0);
+    private static final LocalDateTime LAST_SEASON = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @Autowired
+    private UserQuestRepository userQuestRepository;
+
+    @Autowired
+    private UserQuestHistoryRepository userQuestHistoryRepository;
+
+    @Autowired
+    private CertificationRepository certificationRepository;
+
+    @Autowired
+    private QuestRepository questRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LockedJobRunner lockedJobRunner;
+
+    @Test
+    void deletesStaleSeasonRowsInKeysetChunksAndArchivesCompletedOnes() {
+        User user = user();
+
+        List<UserQuest> stale = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            stale.add(userQuest(user, Quest.Type.SEASON, LAST_SEASON, UserQuest.Status.PENDING));
+        }
+        UserQuest completed = userQuest(user, Quest.Type.SEASON, LAST_SEASON, UserQuest.Status.SUCCESS);
+        UserQuest legacy = userQuest(user, Quest.Type.SEASON, null, UserQuest.Status.PENDING);
+        UserQuest current = userQuest(user, Quest.Type.SEASON, NIGHT.minusHours(6), UserQuest.Status.PENDING);
+        UserQuest otherType = userQuest(user, Quest.Type.DAILY, LAST_SEASON, UserQuest.Status.PENDING);
+        certify(user, completed);
+
+        SeasonResetJob.Progress progress = job(new SteppingClock(NIGHT)).run(false);
+
+        assertThat(progress.state()).isEqualTo(SeasonResetJob.State.COMPLETED);
+        assertThat(progress.seasonStart()).isEqualTo(LocalDate.of(2026, 7, 1));
+        assertThat(progress.deleted()).isEqualTo(6);
+        assertThat(progress.archived()).isEqualTo(1);
+        assertThat(progress.chunks()).isEqualTo(3);
+
+        stale.forEach(uq -> assertThat(userQuestRepository.existsById(uq.getId())).isFalse());
+        assertThat(userQuestRepository.existsById(completed.getId())).isFalse();
+        assertThat(userQuestRepository.existsById(legacy.getId())).isFalse();
+        assertThat(userQuestRepository.existsById(current.getId())).isTrue();
+        assertThat(userQuestRepository.existsById(otherType.getId())).isTrue();
+
+        assertThat(certificationRepository.findByUserQuest_Id(completed.getId())).isNull();
+        assertThat(userQuestHistoryRepository.findAll())
+                .filteredOn(h -> h.getUserId().equals(user.getId()))
+                .singleElement()
+                .satisfies(h -> {
+                    assertThat(h.getQuestId()).isEqualTo(completed.getQuest().getId());
+                    assertThat(h.getStatus()).isEqualTo(UserQuest.Status.SUCCESS);
+                    assertThat(h.getSeasonStart()).isEqualTo(LocalDate.of(2026, 7, 1));
+                });
+    }
+
+    @Test
+    void pausesAtBusinessHoursAndResumesOnNextRun() {
+        User user = user();
+        List<UserQuest> stale = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            stale.add(userQuest(user, Quest.Type.SEASON, LAST_SEASON, UserQuest.Status.PENDING));
+        }
+
+        // 실행 시작, 첫 청크는 새벽 → 두 번째 청크 확인 시점에 업무 시간대
+        SeasonResetJob.Progress paused = job(new SteppingClock(NIGHT, NIGHT, MORNING)).run(false);
+
+        assertThat(paused.state()).isEqualTo(SeasonResetJob.State.PAUSED);
+        assertThat(paused.deleted()).isEqualTo(2);
+        assertThat(stale).filteredOn(uq -> userQuestRepository.existsById(uq.getId())).hasSize(2);
+
+        SeasonResetJob.Progress resumed = job(new SteppingClock(NIGHT.plusDays(1))).run(false);
+
+        assertThat(resumed.state()).isEqualTo(SeasonResetJob.State.COMPLETED);
+        assertThat(resumed.deleted()).isEqualTo(2);
+        assertThat(stale).noneMatch(uq -> userQuestRepository.existsById(uq.getId()));
+    }
+
+    private SeasonResetJob job(Clock clock) {
+        return new SeasonResetJob(userQuestRepository, userQuestHistoryRepository, certificationRepository,
+                transactionManager, lockedJobRunner, clock, 2, 0, LocalTime.of(9, 0), LocalTime.of(22, 0));
+    }
+
+    private User user() {
+        String nickname = "season" + System.nanoTime();
+        return userService.signup(nickname, nickname + "@matcha.local", "password1!");
+    }
+
+    private Quest quest(Quest.Type type) {
+        return questRepository.save(Quest.builder()
+                .title("시즌 퀘스트 " + System.nanoTime())
+                .description("시즌 초기화 테스트")
+                .rewardScore(10)
+                .type(type)
+                .authType(Quest.AuthType.TEXT)
+                .category(Quest.Category.E)
+                .maxAttempts(1)
+                .build());
+    }
+
+    // USER_QUEST 는 (사용자, 퀘스트) 유일 → 행마다 퀘스트 생성
+    private UserQuest userQuest(User user, Quest.Type type, LocalDateTime startedAt, UserQuest.Status status) {
+        UserQuest uq = new UserQuest();
+        uq.setUser(user);
+        uq.setQuest(quest(type));
+        uq.setStatus(status);
+        uq.setStartedAt(startedAt);
+        if (status == UserQuest.Status.SUCCESS) {
+            uq.setCompletedAt(startedAt);
+        }
+        return userQuestRepository.save(uq);
+    }
+
+    private void certify(User user, UserQuest uq) {
+        certificationRepository.save(Certification.builder()
+                .userQuest(uq)
+                .user(user)
+                .authType(Certification.AuthType.TEXT)
+                .authContent("텀블러 사용")
+                .modelType(Certification.ModelType.OPENAPI)
+                .confidenceScore(0.9)
+                .build());
+    }
+
+    /**
+     * 호출마다 다음 시각을 돌려주고 마지막 시각에서 멈추는 시계
+     * - SeasonResetJob 은 실행 시작 1회 + 청크마다 1회 현재 시각을 읽음
+     */
+    private static final class SteppingClock extends Clock {
+
+        private final LocalDateTime[] times;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        SteppingClock(LocalDateTime... times) {
+            this.times = times;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            int i = Math.min(calls.getAndIncrement(), times.length - 1);
+            return times[i].atZone(ZONE).toInstant();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.matchaworld.backend.service.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.matchaworld.backend.domain.LifeLog;
+import com.matchaworld.backend.repository.LifeLogRepository;
+import com.matchaworld.backend.repository.UserQuestRepository;
+
+/**
+ * ✅ 재적재 중 들어온 증분이 새 보드에 남는지
+ * - DB 조회가 진행 중일 때 기록된 점수는 교체 후에도 유지되어야 함
+ */
+class LeaderboardAggregatorTest {
+
+    private final LifeLogRepository lifeLogRepository = mock(LifeLogRepository.class);
+    private final UserQuestRepository userQuestRepository = mock(UserQuestRepository.class);
+    private final LeaderboardAggregator aggregator = new LeaderboardAggregator(lifeLogRepository, userQuestRepository);
+
+    @Test
+    void deltasRecordedDuringRebuildSurviveTheSwap() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LocalDateTime now = LocalDateTime.now();
+        when(lifeLogRepository.findScoreEventsSince(any())).thenAnswer(invocation -> {
+            querying.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.<Object[]>of(new Object[] { 1L, LifeLog.Category.E, now, BigDecimal.valueOf(5) });
+        });
+        when(userQuestRepository.findCompletionEventsSince(any())).thenReturn(List.of());
+
+        Thread rebuild = Thread.ofVirtual().start(aggregator::rebuild);
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 트랜잭션 밖 호출 → AfterCommit 즉시 실행
+        aggregator.recordLifeLog(2L, LifeLog.Category.S, now, 3);
+        release.countDown();
+        rebuild.join(5_000);
+
+        assertThat(aggregator.board(LeaderboardType.SEASON).scoreOf(1L)).isEqualTo(5);
+        assertThat(aggregator.board(LeaderboardType.SEASON).scoreOf(2L)).isEqualTo(3);
+        assertThat(aggregator.board(LeaderboardType.S).scoreOf(2L)).isEqualTo(3);
+        assertThat(aggregator.board(LeaderboardType.E).scoreOf(1L)).isEqualTo(5);
+
+        // 재적재가 끝난 뒤의 증분은 새 보드에 바로 반영
+        aggregator.recordLifeLog(2L, LifeLog.Category.S, now, 1);
+        assertThat(aggregator.board(LeaderboardType.S).scoreOf(2L)).isEqualTo(4);
+    }
+}
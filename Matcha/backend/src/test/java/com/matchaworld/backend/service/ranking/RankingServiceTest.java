@@ -0,0 +1,78 @@
+package com.matchaworld.backend.service.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.matchaworld.backend.domain.User;
+import com.matchaworld.backend.dto.response.ranking.RankingResponse;
+import com.matchaworld.backend.repository.UserRepository;
+import com.matchaworld.backend.service.auth.UserService;
+
+/**
+ * ✅ 나의 랭킹 approximate 표시
+ * - exact(COUNT) 경로 → false, 상위 % 없음
+ * - 히스토그램 경로 → 같은 버킷 보간이 있으면 true, 없으면 false
+ * - 다른 테스트 사용자와 겹치지 않도록 높은 점수대 사용 (bucket-width=10)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RankingServiceTest {
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ScoreDistribution scoreDistribution;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void exactPathIsNotApproximate() {
+        User user = userWithScore(71_000);
+
+        RankingResponse response = rankingService.getMyRanking(user.getId(), true);
+
+        assertThat(response.isApproximate()).isFalse();
+        assertThat(response.getTopPercent()).isNull();
+        assertThat(response.getRank()).isEqualTo((int) userRepository.countByEsgScoreGreaterThan(71_000) + 1);
+    }
+
+    @Test
+    void interpolatedHistogramRankIsApproximate() {
+        User lower = userWithScore(72_001);
+        userWithScore(72_008);
+        scoreDistribution.rebuild();
+
+        RankingResponse response = rankingService.getMyRanking(lower.getId(), false);
+
+        assertThat(response.isApproximate()).isTrue();
+        assertThat(response.getTopPercent()).isNotNull();
+    }
+
+    @Test
+    void histogramRankWithoutInterpolationIsNotApproximate() {
+        User alone = userWithScore(73_005);
+        scoreDistribution.rebuild();
+
+        RankingResponse response = rankingService.getMyRanking(alone.getId(), false);
+
+        assertThat(response.isApproximate()).isFalse();
+        assertThat(response.getRank()).isEqualTo(rankingService.getMyRanking(alone.getId(), true).getRank());
+        assertThat(response.getTopPercent()).isNotNull();
+    }
+
+    private User userWithScore(int score) {
+        String nickname = "rank" + System.nanoTime();
+        User user = userService.signup(nickname, nickname + "@matcha.local", "password1!");
+        user.setEsgScore(score);
+        return userRepository.save(user);
+    }
+}
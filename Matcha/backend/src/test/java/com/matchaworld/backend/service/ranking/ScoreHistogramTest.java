@@ -0,0 +1,64 @@
+package com.matchaworld.backend.service.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ✅ 점수 분포 히스토그램 순위 추정
+ * - 상위 버킷 인원은 정확, 같은 버킷 안에서만 균등 분포 보간 (interpolated)
+ */
+class ScoreHistogramTest {
+
+    @Test
+    void aloneInBucketIsExact() {
+        ScoreHistogram histogram = new ScoreHistogram(10, 1000);
+        histogram.add(5, 1);
+        histogram.add(25, 1);
+        histogram.add(95, 2);
+
+        ScoreHistogram.Estimate estimate = histogram.estimate(25);
+
+        assertThat(estimate.rank()).isEqualTo(3);
+        assertThat(estimate.interpolated()).isFalse();
+        assertThat(estimate.topPercent()).isEqualTo(75.0);
+    }
+
+    @Test
+    void sharedBucketIsInterpolated() {
+        ScoreHistogram histogram = new ScoreHistogram(10, 1000);
+        histogram.add(20, 1);
+        histogram.add(29, 1);
+
+        ScoreHistogram.Estimate lower = histogram.estimate(20);
+
+        assertThat(lower.interpolated()).isTrue();
+        assertThat(lower.rank()).isEqualTo(2);
+    }
+
+    @Test
+    void unitBucketsAreExact() {
+        ScoreHistogram histogram = new ScoreHistogram(1, 1000);
+        histogram.add(20, 1);
+        histogram.add(20, 1);
+        histogram.add(21, 1);
+
+        ScoreHistogram.Estimate estimate = histogram.estimate(20);
+
+        assertThat(estimate.interpolated()).isFalse();
+        assertThat(estimate.rank()).isEqualTo(2);
+    }
+
+    @Test
+    void moveShiftsUserBetweenBuckets() {
+        ScoreHistogram histogram = new ScoreHistogram(10, 1000);
+        histogram.add(50, 1);
+        histogram.add(10, 1);
+
+        histogram.move(10, 70);
+
+        assertThat(histogram.estimate(70).rank()).isEqualTo(1);
+        assertThat(histogram.estimate(50).rank()).isEqualTo(2);
+        assertThat(histogram.total()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,145 @@
+package com.matchaworld.backend.service.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.matchaworld.backend.repository.SchedulerJobRunRepository;
+import com.matchaworld.backend.repository.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ SCHEDULER_LOCK 임대 잠금 (H2)
+ * - 노드 식별자가 다른 두 러너 = 두 노드
+ * - 동시에 깨어나도 한 노드만 실행, 보유 중에는 다른 노드가 건너뜀
+ * - lockAtMostFor 가 지나면 (보유 노드가 죽은 것으로 보고) 다른 노드가 가져감
+ * - lock-at-least-for 동안은 끝난 작업도 재실행하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LockedJobRunnerTest {
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private SchedulerJobRunRepository schedulerJobRunRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentNodesRunTheJobOnce() throws Exception {
+        String job = job();
+        List<LockedJobRunner> nodes = List.of(node("a", 0), node("b", 0), node("c", 0), node("d", 0));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (LockedJobRunner runner : nodes) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return runner.run(job, Duration.ofMinutes(5), executions::incrementAndGet);
+            }));
+        }
+        start.countDown();
+
+        int ran = 0;
+        for (Future<Boolean> result : results) {
+            ran += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        assertThat(ran).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void heldLockIsSkippedUntilLockAtMostForExpires() throws Exception {
+        String job = job();
+        LockedJobRunner a = node("a", 0);
+        LockedJobRunner b = node("b", 0);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        // a 가 작업 도중 멈춤 (노드 장애와 같음) - 잠금은 lockAtMostFor 까지만 유효
+        Future<Boolean> stuck = executor.submit(() -> a.run(job, Duration.ofMillis(500), () -> {
+            running.countDown();
+            await(finish);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger executions = new AtomicInteger();
+        assertThat(b.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isFalse();
+
+        Thread.sleep(700);
+        assertThat(b.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isTrue();
+        assertThat(executions).hasValue(1);
+
+        finish.countDown();
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void finishedJobIsNotRerunWithinLockAtLeastFor() {
+        String job = job();
+        LockedJobRunner a = node("a", 60_000);
+        LockedJobRunner b = node("b", 60_000);
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThat(a.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isTrue();
+        assertThat(b.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void releasedLockCanBeTakenByAnotherNode() {
+        String job = job();
+        LockedJobRunner a = node("a", 0);
+        LockedJobRunner b = node("b", 0);
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThat(a.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isTrue();
+        assertThat(b.run(job, Duration.ofMinutes(5), executions::incrementAndGet)).isTrue();
+        assertThat(executions).hasValue(2);
+    }
+
+    // 지터 없음, 최소 보유 시간 지정
+    private LockedJobRunner node(String id, long lockAtLeastForMillis) {
+        return new LockedJobRunner(schedulerLockRepository, schedulerJobRunRepository, new SimpleMeterRegistry(),
+                transactionManager, id, 0, lockAtLeastForMillis, 30);
+    }
+
+    private static String job() {
+        return "test-job-" + System.nanoTime();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.matchaworld.backend.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ✅ 로컬 저장소: 저장/삭제, 업로드 디렉터리 밖 경로 삭제 차단
+ */
+class LocalStorageServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8080";
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void storedFileCanBeDeletedByItsUrl() throws Exception {
+        LocalStorageService storage = new LocalStorageService(temp.resolve("uploads").toString(), BASE_URL);
+        byte[] content = {1, 2, 3};
+
+        String url = storage.store("logo", "a.png", "image/png", content.length, new ByteArrayInputStream(content));
+
+        Path stored = temp.resolve("uploads").resolve(url.substring((BASE_URL + "/uploads/").length()));
+        assertThat(stored).hasBinaryContent(content);
+        assertThat(storage.deleteByUrl(url)).isTrue();
+        assertThat(stored).doesNotExist();
+        assertThat(storage.deleteByUrl(url)).isFalse();
+    }
+
+    @Test
+    void traversalOutsideUploadDirectoryIsIgnored() throws Exception {
+        LocalStorageService storage = new LocalStorageService(temp.resolve("uploads").toString(), BASE_URL);
+        Path outside = Files.writeString(temp.resolve("secret.txt"), "keep");
+
+        assertThat(storage.deleteByUrl(BASE_URL + "/uploads/../secret.txt")).isFalse();
+        assertThat(storage.deleteByUrl(BASE_URL + "/uploads/logo/../../secret.txt")).isFalse();
+        assertThat(outside).exists();
+    }
+
+    @Test
+    void foreignUrlsAreIgnored() {
+        LocalStorageService storage = new LocalStorageService(temp.resolve("uploads").toString(), BASE_URL);
+
+        assertThat(storage.deleteByUrl(null)).isFalse();
+        assertThat(storage.deleteByUrl("https://cdn.example.com/logo.png")).isFalse();
+    }
+}
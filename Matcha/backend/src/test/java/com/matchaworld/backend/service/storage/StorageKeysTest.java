@@ -0,0 +1,50 @@
+package com.matchaworld.backend.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ✅ 저장 키 정리: 경로 구분자/특수문자 제거, 빈 이름 대체, 길이 제한
+ */
+class StorageKeysTest {
+
+    private static final String UUID_PATTERN = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    @Test
+    void keyIsDirectoryUuidAndFilename() {
+        assertThat(StorageKeys.newKey("logo", "matcha.png")).matches("logo/" + UUID_PATTERN + "_matcha\\.png");
+    }
+
+    @Test
+    void pathSegmentsAreStrippedFromFilename() {
+        assertThat(StorageKeys.newKey("logo", "../../etc/passwd")).endsWith("_passwd");
+        assertThat(StorageKeys.newKey("logo", "C:\\Users\\me\\logo.png")).endsWith("_logo.png");
+    }
+
+    @Test
+    void unsafeCharactersAreReplaced() {
+        assertThat(StorageKeys.newKey("logo", "말차 로고?.png")).matches("logo/" + UUID_PATTERN + "_[A-Za-z0-9._-]+");
+    }
+
+    @Test
+    void emptyOrDotOnlyFilenameFallsBackToFile() {
+        assertThat(StorageKeys.newKey("logo", null)).endsWith("_file");
+        assertThat(StorageKeys.newKey("logo", "..")).endsWith("_file");
+        assertThat(StorageKeys.newKey("logo", "dir/")).endsWith("_file");
+    }
+
+    @Test
+    void longFilenameKeepsTheTail() {
+        String key = StorageKeys.newKey("logo", "a".repeat(200) + ".png");
+        assertThat(key.substring(key.indexOf('_') + 1)).hasSize(100).endsWith(".png");
+    }
+
+    @Test
+    void directoryIsSanitizedAndMustNotBeEmpty() {
+        assertThat(StorageKeys.newKey("../logo", "a.png")).startsWith("logo/");
+        assertThatThrownBy(() -> StorageKeys.newKey("../", "a.png")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StorageKeys.newKey(null, "a.png")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.matchaworld.backend.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.matchaworld.backend.monitoring.QueryCounter;
+
+/**
+ * ✅ 요청당 쿼리 수 예산 검증 (RequestMetricsInterceptor 가 남긴 요청 속성 사용)
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static QueryCounter.Counts of(MvcResult result) {
+        Object counts = result.getRequest().getAttribute(QueryCounter.REQUEST_ATTRIBUTE);
+        assertThat(counts).as("RequestMetricsInterceptor 미적용").isInstanceOf(QueryCounter.Counts.class);
+        return (QueryCounter.Counts) counts;
+    }
+
+    public static void assertStatementsAtMost(MvcResult result, int budget) {
+        QueryCounter.Counts counts = of(result);
+        assertThat(counts.statements())
+                .as("%s %s → %s", result.getRequest().getMethod(), result.getRequest().getRequestURI(), counts)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,151 @@
+package com.matchaworld.backend.weather;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.matchaworld.backend.monitoring.ExternalCallMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ✅ 시간별 예보 미리 받기 → 스냅샷 조회 (Open-Meteo 스텁 서버)
+ * - 스텁 값은 시간 인덱스로 결정 (기온 = 인덱스, 습도 = 50 + 인덱스 ...) → 현재 시각 값이 맞는지 확인
+ */
+class WeatherRefresherTest {
+
+    private static final long HOUR = 3600;
+
+    private final AtomicInteger forecastCalls = new AtomicInteger();
+    private final AtomicInteger airQualityCalls = new AtomicInteger();
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherSnapshotStore store;
+    private WeatherClient weatherClient;
+    private long start;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 현재 시각 12시간 전부터 48시간치, 공기질은 1시간 늦게 시작 (시간축 정렬 확인)
+        start = (Instant.now().getEpochSecond() / HOUR - 12) * HOUR;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/forecast", exchange -> {
+            forecastCalls.incrementAndGet();
+            StringBuilder time = new StringBuilder();
+            StringBuilder temperature = new StringBuilder();
+            StringBuilder humidity = new StringBuilder();
+            StringBuilder uv = new StringBuilder();
+            for (int i = 0; i < 48; i++) {
+                String sep = i == 0 ? "" : ",";
+                time.append(sep).append(start + i * HOUR);
+                temperature.append(sep).append(i).append(".5");
+                humidity.append(sep).append(50 + i);
+                uv.append(sep).append(i == 12 ? "null" : String.valueOf(i % 10));
+            }
+            send(exchange, String.format(Locale.ROOT,
+                    "{\"latitude\":37.57,\"hourly_units\":{\"time\":\"unixtime\"},\"hourly\":{\"time\":[%s],"
+                            + "\"temperature_2m\":[%s],\"relative_humidity_2m\":[%s],\"uv_index\":[%s]}}",
+                    time, temperature, humidity, uv));
+        });
+        server.createContext("/v1/air-quality", exchange -> {
+            airQualityCalls.incrementAndGet();
+            StringBuilder time = new StringBuilder();
+            StringBuilder pm10 = new StringBuilder();
+            StringBuilder pm25 = new StringBuilder();
+            for (int i = 0; i < 47; i++) {
+                String sep = i == 0 ? "" : ",";
+                time.append(sep).append(start + (i + 1) * HOUR);
+                pm10.append(sep).append(100 + i);
+                pm25.append(sep).append(200 + i);
+            }
+            send(exchange, String.format(Locale.ROOT,
+                    "{\"hourly\":{\"time\":[%s],\"pm10\":[%s],\"pm2_5\":[%s]}}", time, pm10, pm25));
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        httpClient = HttpClient.newHttpClient();
+        meterRegistry = new SimpleMeterRegistry();
+        store = new WeatherSnapshotStore(List.of("seoul:37.5665:126.9780", "busan:35.1796:129.0756"), 30, 6);
+        weatherClient = new WeatherClient(httpClient, new ExternalCallMetrics(meterRegistry), store, meterRegistry,
+                baseUrl + "/v1/forecast", baseUrl + "/v1/air-quality", 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Test
+    void refreshedBucketsAnswerWithoutCallingOpenMeteo() {
+        WeatherRefresher refresher = new WeatherRefresher(weatherClient, store, meterRegistry, 2);
+
+        assertThat(refresher.refresh()).isEqualTo(2);
+        assertThat(forecastCalls).hasValue(2);
+        assertThat(airQualityCalls).hasValue(2);
+
+        // 서울 구역 반경 안 좌표 → 현재 시각(인덱스 12) 값, uv 는 null → 기본값 0
+        WeatherInfo weather = weatherClient.getCurrentWeather(37.55, 126.99);
+        assertThat(weather.getTemperature()).isEqualTo(12.5);
+        assertThat(weather.getHumidity()).isEqualTo(62.0);
+        assertThat(weather.getUv()).isEqualTo(0.0);
+        assertThat(weather.getPm10()).isEqualTo(111.0);
+        assertThat(weather.getPm25()).isEqualTo(211.0);
+
+        assertThat(forecastCalls).hasValue(2);
+        assertThat(meterRegistry.counter("matcha.weather.lookups", "source", "snapshot").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void coordinatesOutsideBucketsFallBackToLiveLookup() {
+        WeatherInfo weather = weatherClient.getCurrentWeather(36.35, 127.38);
+
+        assertThat(weather.getTemperature()).isEqualTo(12.5);
+        assertThat(weather.getPm10()).isEqualTo(111.0);
+        assertThat(forecastCalls).hasValue(1);
+        assertThat(meterRegistry.counter("matcha.weather.lookups", "source", "live").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void staleSnapshotIsIgnored() {
+        OpenMeteoParser.Hourly forecast = OpenMeteoParser.parseHourly(
+                ("{\"hourly\":{\"time\":[" + start + "],\"temperature_2m\":[1],\"relative_humidity_2m\":[2],"
+                        + "\"uv_index\":[3]}}").getBytes(StandardCharsets.UTF_8),
+                "Weather", "temperature_2m", "relative_humidity_2m", "uv_index");
+        OpenMeteoParser.Hourly air = OpenMeteoParser.parseHourly(
+                ("{\"hourly\":{\"time\":[" + start + "],\"pm10\":[4],\"pm2_5\":[5]}}").getBytes(StandardCharsets.UTF_8),
+                "Air Quality", "pm10", "pm2_5");
+        Instant at = Instant.ofEpochSecond(start);
+
+        store.put(store.buckets().get(0), HourlyWeatherSeries.merge(forecast, air, at.minusSeconds(5 * HOUR)));
+        assertThat(store.find(37.5665, 126.9780, at).getTemperature()).isEqualTo(1.0);
+
+        store.put(store.buckets().get(0), HourlyWeatherSeries.merge(forecast, air, at.minusSeconds(7 * HOUR)));
+        assertThat(store.find(37.5665, 126.9780, at)).isNull();
+    }
+
+    private static void send(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (exchange) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+}